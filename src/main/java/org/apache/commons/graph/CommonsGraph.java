@@ -28,18 +28,38 @@ import org.apache.commons.graph.coloring.ColorsBuilder;
 import org.apache.commons.graph.coloring.DefaultColorsBuilder;
 import org.apache.commons.graph.connectivity.ConnectivityBuilder;
 import org.apache.commons.graph.connectivity.DefaultConnectivityBuilder;
+import org.apache.commons.graph.dag.CriticalPathDurationsBuilder;
+import org.apache.commons.graph.dag.DefaultCriticalPathDurationsBuilder;
+import org.apache.commons.graph.dag.DefaultDependencyTasksBuilder;
+import org.apache.commons.graph.dag.DefaultTopologicalSortAlgorithmSelector;
+import org.apache.commons.graph.dag.DependencyTasksBuilder;
+import org.apache.commons.graph.dag.TopologicalSortAlgorithmSelector;
 import org.apache.commons.graph.elo.DefaultRankingSelector;
 import org.apache.commons.graph.elo.GameResult;
 import org.apache.commons.graph.elo.RankingSelector;
 import org.apache.commons.graph.export.DefaultExportSelector;
 import org.apache.commons.graph.export.NamedExportSelector;
 import org.apache.commons.graph.flow.DefaultFlowWeightedEdgesBuilder;
+import org.apache.commons.graph.flow.DefaultGomoryHuCapacitiesBuilder;
+import org.apache.commons.graph.flow.DefaultMinCostFlowCapacitiesBuilder;
 import org.apache.commons.graph.flow.FlowWeightedEdgesBuilder;
+import org.apache.commons.graph.flow.GomoryHuCapacitiesBuilder;
+import org.apache.commons.graph.flow.MinCostFlowCapacitiesBuilder;
+import org.apache.commons.graph.matching.DefaultMatchingAlgorithmSelector;
+import org.apache.commons.graph.matching.MatchingAlgorithmSelector;
 import org.apache.commons.graph.model.DirectedMutableGraph;
 import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.reachability.DefaultReachabilityAlgorithmSelector;
+import org.apache.commons.graph.reachability.DefaultTransitiveClosureAlgorithmSelector;
+import org.apache.commons.graph.reachability.DefaultTransitiveReductionAlgorithmSelector;
+import org.apache.commons.graph.reachability.ReachabilityAlgorithmSelector;
+import org.apache.commons.graph.reachability.TransitiveClosureAlgorithmSelector;
+import org.apache.commons.graph.reachability.TransitiveReductionAlgorithmSelector;
 import org.apache.commons.graph.scc.DefaultSccAlgorithmSelector;
 import org.apache.commons.graph.scc.SccAlgorithmSelector;
+import org.apache.commons.graph.shortestpath.DefaultNegativeCycleWeightedEdgesBuilder;
 import org.apache.commons.graph.shortestpath.DefaultWeightedEdgesSelector;
+import org.apache.commons.graph.shortestpath.NegativeCycleWeightedEdgesBuilder;
 import org.apache.commons.graph.shortestpath.PathWeightedEdgesBuilder;
 import org.apache.commons.graph.spanning.DefaultSpanningWeightedEdgeMapperBuilder;
 import org.apache.commons.graph.spanning.SpanningWeightedEdgeMapperBuilder;
@@ -97,6 +117,51 @@ public final class CommonsGraph
         return new DefaultFlowWeightedEdgesBuilder<V, WE>( graph );
     }
 
+    /**
+     * Find the maximum flow of minimum cost on the input {@link Graph}, where edges have both capacities and costs.
+     *
+     * @param <V> the Graph vertices type
+     * @param <WE> the Graph edges type
+     * @param <G> the Graph type
+     * @param graph the input flow network
+     * @return an instance of {@link MinCostFlowCapacitiesBuilder}
+     */
+    public static <V, WE, G extends DirectedGraph<V, WE>> MinCostFlowCapacitiesBuilder<V, WE> findMinCostMaxFlow( G graph )
+    {
+        graph = checkNotNull( graph, "Min cost flow can not be calculated on null graph" );
+        return new DefaultMinCostFlowCapacitiesBuilder<V, WE>( graph );
+    }
+
+    /**
+     * Find the Gomory-Hu tree of the input undirected {@link Graph}, which answers the minimum cut between any two vertices.
+     *
+     * @param <V> the Graph vertices type
+     * @param <WE> the Graph edges type
+     * @param <G> the Graph type
+     * @param undirectedGraph the input undirected flow network
+     * @return an instance of {@link GomoryHuCapacitiesBuilder}
+     */
+    public static <V, WE, G extends UndirectedGraph<V, WE>> GomoryHuCapacitiesBuilder<V, WE> gomoryHuTree( G undirectedGraph )
+    {
+        undirectedGraph = checkNotNull( undirectedGraph, "Gomory-Hu tree can not be calculated on null graph" );
+        return new DefaultGomoryHuCapacitiesBuilder<V, WE>( undirectedGraph );
+    }
+
+    /**
+     * Find the maximum matching of the input bipartite graph, where each vertex is the end of at most one matched edge.
+     *
+     * @param <V> the Graph vertices type.
+     * @param <E> the Graph edges type.
+     * @param <G> the bipartite graph type
+     * @param bipartiteGraph the bipartite Graph which maximum matching has to be found.
+     * @return the matching algorithm selector
+     */
+    public static <V, E, G extends Graph<V, E>> MatchingAlgorithmSelector<V, E> findMaximumMatching( G bipartiteGraph )
+    {
+        bipartiteGraph = checkNotNull( bipartiteGraph, "Maximum matching can not be found in a null graph" );
+        return new DefaultMatchingAlgorithmSelector<V, E>( bipartiteGraph );
+    }
+
     /**
      * Find the minimum spanning tree on the input {@link Graph}
      *
@@ -127,6 +192,21 @@ public final class CommonsGraph
         return new DefaultWeightedEdgesSelector<V, WE>( graph );
     }
 
+    /**
+     * Find a negative-weighted cycle in the input {@link DirectedGraph}.
+     *
+     * @param <V> the Graph vertices type
+     * @param <WE> the Graph edges type
+     * @param <G> the directed graph type
+     * @param graph the input edge-weighted graph
+     * @return the negative cycle weighted edges builder
+     */
+    public static <V, WE, G extends DirectedGraph<V, WE>> NegativeCycleWeightedEdgesBuilder<V, WE> findNegativeCycle( G graph )
+    {
+        graph = checkNotNull( graph, "Negative cycle can not be searched in null graph" );
+        return new DefaultNegativeCycleWeightedEdgesBuilder<V, WE>( graph );
+    }
+
     /**
      * Calculates the input graph Strongly Connected Component.
      *
@@ -142,6 +222,96 @@ public final class CommonsGraph
         return new DefaultSccAlgorithmSelector<V, E>( graph );
     }
 
+    /**
+     * Builds an index answering if a vertex of the input graph can reach another one.
+     *
+     * @param <V> the Graph vertices type.
+     * @param <E> the Graph edges type.
+     * @param <G> the directed graph type
+     * @param graph the Graph which vertices reachability has to be indexed.
+     * @return the reachability algorithm selector
+     */
+    public static <V, E, G extends DirectedGraph<V, E>> ReachabilityAlgorithmSelector<V> indexReachability( G graph )
+    {
+        graph = checkNotNull( graph, "Reachability can not be indexed on a null graph" );
+        return new DefaultReachabilityAlgorithmSelector<V, E>( graph );
+    }
+
+    /**
+     * Calculates the input graph transitive closure, where each vertex is connected to all the vertices it reaches.
+     *
+     * @param <V> the Graph vertices type.
+     * @param <E> the Graph edges type.
+     * @param <G> the directed graph type
+     * @param graph the Graph which transitive closure has to be calculated.
+     * @return the transitive closure algorithm selector
+     */
+    public static <V, E, G extends DirectedGraph<V, E>> TransitiveClosureAlgorithmSelector<V> transitiveClosure( G graph )
+    {
+        graph = checkNotNull( graph, "Transitive closure can not be calculated on a null graph" );
+        return new DefaultTransitiveClosureAlgorithmSelector<V, E>( graph );
+    }
+
+    /**
+     * Calculates the input graph transitive reduction, the subgraph with the same reachability and no redundant edges.
+     *
+     * @param <V> the Graph vertices type.
+     * @param <E> the Graph edges type.
+     * @param <G> the directed graph type
+     * @param graph the Graph which transitive reduction has to be calculated.
+     * @return the transitive reduction algorithm selector
+     */
+    public static <V, E, G extends DirectedGraph<V, E>> TransitiveReductionAlgorithmSelector<V, E> transitiveReduction( G graph )
+    {
+        graph = checkNotNull( graph, "Transitive reduction can not be calculated on a null graph" );
+        return new DefaultTransitiveReductionAlgorithmSelector<V, E>( graph );
+    }
+
+    /**
+     * Sorts the vertices of the input directed acyclic graph, so that each vertex comes after its predecessors.
+     *
+     * @param <V> the Graph vertices type.
+     * @param <E> the Graph edges type.
+     * @param <G> the directed graph type
+     * @param graph the Graph which vertices have to be sorted.
+     * @return the topological sort algorithm selector
+     */
+    public static <V, E, G extends DirectedGraph<V, E>> TopologicalSortAlgorithmSelector<V> topologicalSort( G graph )
+    {
+        graph = checkNotNull( graph, "Topological sort can not be applied on a null graph" );
+        return new DefaultTopologicalSortAlgorithmSelector<V, E>( graph );
+    }
+
+    /**
+     * Finds the critical path of the input directed acyclic graph, the longest chain of activities.
+     *
+     * @param <V> the Graph vertices type.
+     * @param <E> the Graph edges type.
+     * @param <G> the directed graph type
+     * @param dag the directed acyclic Graph which critical path has to be found.
+     * @return the activities durations builder
+     */
+    public static <V, E, G extends DirectedGraph<V, E>> CriticalPathDurationsBuilder<V, E> findCriticalPath( G dag )
+    {
+        dag = checkNotNull( dag, "Critical path can not be found in a null graph" );
+        return new DefaultCriticalPathDurationsBuilder<V, E>( dag );
+    }
+
+    /**
+     * Executes the tasks of the input dependency graph, where each edge goes from a task to the ones depending on it.
+     *
+     * @param <V> the Graph vertices type.
+     * @param <E> the Graph edges type.
+     * @param <G> the directed graph type
+     * @param dependencies the directed acyclic Graph of the tasks to execute.
+     * @return the tasks builder
+     */
+    public static <V, E, G extends DirectedGraph<V, E>> DependencyTasksBuilder<V> executeDependencies( G dependencies )
+    {
+        dependencies = checkNotNull( dependencies, "Tasks of a null graph can not be executed" );
+        return new DefaultDependencyTasksBuilder<V, E>( dependencies );
+    }
+
     /**
      * Calculates the input graph Connected Component.
      *
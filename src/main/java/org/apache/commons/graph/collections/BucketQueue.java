@@ -0,0 +1,128 @@
+package org.apache.commons.graph.collections;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+
+/**
+ * A Dial's bucket queue, where the keys of the stored elements span at most over a known range {@code C},
+ * as it happens in Dijkstra's algorithm when edge weights are integers not greater than {@code C}.
+ *
+ * Elements are kept in a circular array of {@code C + 1} buckets, so add is {@code O(1)}
+ * and all the removals together scan the buckets {@code O(maximum key)} times.
+ *
+ * <p><b>Note 1</b>: this class is NOT thread safe!</p>
+ *
+ * <p><b>Note 2</b>: this class doesn't support {@code null} values</p>
+ *
+ * @param <E> the type of elements held in this collection.
+ */
+public final class BucketQueue<E>
+    implements MonotonePriorityQueue<E>
+{
+
+    private final ArrayDeque<E>[] buckets;
+
+    private long currentKey = 0;
+
+    private int size = 0;
+
+    /**
+     * Creates a new bucket queue, where keys of the stored elements are never greater than
+     * the last removed key plus {@code maxKeySpread}.
+     *
+     * @param maxKeySpread the maximum distance between stored keys and the last removed key
+     */
+    @SuppressWarnings( { "unchecked", "rawtypes" } ) // generic arrays can not be created
+    public BucketQueue( int maxKeySpread )
+    {
+        checkArgument( maxKeySpread >= 0 && maxKeySpread < Integer.MAX_VALUE,
+                       "Impossible to create a bucket queue with key spread %s", maxKeySpread );
+        buckets = new ArrayDeque[maxKeySpread + 1];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void add( E element, long key )
+    {
+        element = checkNotNull( element, "Null elements not allowed in the bucket queue." );
+        checkArgument( key >= currentKey && key - currentKey < buckets.length,
+                       "Key %s out of the bucket queue range [%s, %s]", key, currentKey, currentKey + buckets.length - 1 );
+
+        int index = (int) ( key % buckets.length );
+        if ( buckets[index] == null )
+        {
+            buckets[index] = new ArrayDeque<E>();
+        }
+        buckets[index].add( element );
+        size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public E remove()
+    {
+        if ( isEmpty() )
+        {
+            throw new NoSuchElementException();
+        }
+
+        int index = (int) ( currentKey % buckets.length );
+        while ( buckets[index] == null || buckets[index].isEmpty() )
+        {
+            currentKey++;
+            index = ( index + 1 ) % buckets.length;
+        }
+
+        size--;
+        return buckets[index].poll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long lastKey()
+    {
+        return currentKey;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+}
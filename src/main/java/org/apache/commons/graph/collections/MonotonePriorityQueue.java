@@ -0,0 +1,70 @@
+package org.apache.commons.graph.collections;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ * A priority queue of elements keyed by non-negative integral priorities, where keys of added elements are never lower
+ * than the key of the last removed element, as it happens in Dijkstra's algorithm.
+ *
+ * The same element can be added more than once, with different keys.
+ *
+ * @param <E> the type of elements held in this collection.
+ */
+public interface MonotonePriorityQueue<E>
+{
+
+    /**
+     * Inserts the given element with the given key.
+     *
+     * @param element the element to be inserted
+     * @param key the element key, not lower than the key of the last removed element
+     */
+    void add( E element, long key );
+
+    /**
+     * Retrieves and removes one of the elements with the lowest key.
+     *
+     * @return one of the elements with the lowest key
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    E remove();
+
+    /**
+     * Returns the key of the last removed element, {@code 0} if no element has been removed yet.
+     *
+     * @return the key of the last removed element
+     */
+    long lastKey();
+
+    /**
+     * Returns the number of elements in this queue.
+     *
+     * @return the number of elements in this queue
+     */
+    int size();
+
+    /**
+     * Returns true if this queue contains no elements.
+     *
+     * @return true if this queue contains no elements
+     */
+    boolean isEmpty();
+
+}
@@ -0,0 +1,188 @@
+package org.apache.commons.graph.collections;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.util.Arrays.copyOf;
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A radix heap for non-negative {@code long} keys.
+ *
+ * The element with key {@code k} is stored in the bucket identified by the highest bit where {@code k} differs
+ * from the last removed key; when the lowest bucket gets empty, the next non-empty one is redistributed
+ * around its minimum key. Each element is then moved at most {@code 64} times, whatever the keys range is.
+ *
+ * <p><b>Note 1</b>: this class is NOT thread safe!</p>
+ *
+ * <p><b>Note 2</b>: this class doesn't support {@code null} values</p>
+ *
+ * @param <E> the type of elements held in this collection.
+ */
+public final class RadixHeap<E>
+    implements MonotonePriorityQueue<E>
+{
+
+    private final Bucket[] buckets = new Bucket[Long.SIZE + 1];
+
+    private long lastKey = 0;
+
+    private int size = 0;
+
+    public RadixHeap()
+    {
+        for ( int i = 0; i < buckets.length; i++ )
+        {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    private int bucketIndex( long key )
+    {
+        return key == lastKey ? 0 : Long.SIZE - numberOfLeadingZeros( key ^ lastKey );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void add( E element, long key )
+    {
+        element = checkNotNull( element, "Null elements not allowed in the radix heap." );
+        checkArgument( key >= lastKey, "Key %s lower than the last removed key %s", key, lastKey );
+
+        buckets[bucketIndex( key )].add( element, key );
+        size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public E remove()
+    {
+        if ( isEmpty() )
+        {
+            throw new NoSuchElementException();
+        }
+
+        if ( buckets[0].size == 0 )
+        {
+            int index = 1;
+            while ( buckets[index].size == 0 )
+            {
+                index++;
+            }
+
+            Bucket bucket = buckets[index];
+
+            long minimum = bucket.keys[0];
+            for ( int i = 1; i < bucket.size; i++ )
+            {
+                if ( bucket.keys[i] < minimum )
+                {
+                    minimum = bucket.keys[i];
+                }
+            }
+            lastKey = minimum;
+
+            // all the elements move to lower buckets
+            for ( int i = 0; i < bucket.size; i++ )
+            {
+                buckets[bucketIndex( bucket.keys[i] )].add( bucket.elements[i], bucket.keys[i] );
+            }
+            bucket.clear();
+        }
+
+        size--;
+
+        @SuppressWarnings( "unchecked" ) // only E instances are stored
+        E element = (E) buckets[0].removeLast();
+        return element;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long lastKey()
+    {
+        return lastKey;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Elements and their keys, stored in growing arrays.
+     */
+    private static final class Bucket
+    {
+
+        private Object[] elements = new Object[4];
+
+        private long[] keys = new long[4];
+
+        private int size = 0;
+
+        public void add( Object element, long key )
+        {
+            if ( size == elements.length )
+            {
+                elements = copyOf( elements, size << 1 );
+                keys = copyOf( keys, size << 1 );
+            }
+            elements[size] = element;
+            keys[size] = key;
+            size++;
+        }
+
+        public Object removeLast()
+        {
+            Object element = elements[--size];
+            elements[size] = null;
+            return element;
+        }
+
+        public void clear()
+        {
+            for ( int i = 0; i < size; i++ )
+            {
+                elements[i] = null;
+            }
+            size = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,47 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Allows selecting the algorithm for finding the critical path, the longest path of a directed acyclic graph.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ * @param <W> the duration type
+ */
+public interface CriticalPathAlgorithmSelector<V, E, W>
+{
+
+    /**
+     * Finds the critical path relaxing the edges once, in topological order.
+     *
+     * <p>Note: the runtime complexity is O(V + E).</p>
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on durations
+     * @return the longest path, whose weight is the total duration
+     * @throws CyclicGraphException if the graph contains a cycle
+     */
+    <WO extends OrderedMonoid<W>> WeightedPath<V, E, W> applyingDagRelaxation( WO weightOperations );
+
+}
@@ -0,0 +1,53 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.Mapper;
+
+/**
+ * Builder to specify how long the activities of a directed acyclic graph last.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+public interface CriticalPathDurationsBuilder<V, E>
+{
+
+    /**
+     * Specifies the activities are the vertices, as tasks whose edges are the dependencies among them.
+     *
+     * @param <W> the duration type
+     * @param <M> the durations mapper type
+     * @param durations the function mapping each vertex to its duration
+     * @return the critical path algorithm selector
+     */
+    <W, M extends Mapper<V, W>> CriticalPathAlgorithmSelector<V, E, W> whereVerticesHaveDurations( M durations );
+
+    /**
+     * Specifies the activities are the edges, whose vertices are the events they start from and end to.
+     *
+     * @param <W> the duration type
+     * @param <M> the durations mapper type
+     * @param durations the function mapping each edge to its duration
+     * @return the critical path algorithm selector
+     */
+    <W, M extends Mapper<E, W>> CriticalPathAlgorithmSelector<V, E, W> whereEdgesHaveDurations( M durations );
+
+}
@@ -0,0 +1,55 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.GraphException;
+import org.apache.commons.graph.Path;
+
+/**
+ * Exception thrown when an algorithm that requires a directed acyclic graph detects a cycle.
+ */
+public final class CyclicGraphException
+    extends GraphException
+{
+
+    private static final long serialVersionUID = -2937104857345823901L;
+
+    private final Path<?, ?> cycle;
+
+    public CyclicGraphException( Path<?, ?> cycle, String messagePattern, Object...arguments )
+    {
+        super( messagePattern, arguments );
+        this.cycle = cycle;
+    }
+
+    /**
+     * Returns the detected cycle, a path whose source and target are the same vertex.
+     *
+     * @param <V> the Graph vertices type
+     * @param <E> the Graph edges type
+     * @return the detected cycle
+     */
+    @SuppressWarnings( "unchecked" ) // an exception can not be generic, types are the same of the graph
+    public <V, E> Path<V, E> getCycle()
+    {
+        return (Path<V, E>) cycle;
+    }
+
+}
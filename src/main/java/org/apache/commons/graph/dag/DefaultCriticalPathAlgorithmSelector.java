@@ -0,0 +1,142 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.CommonsGraph.topologicalSort;
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.ArrayWeightedPath;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * {@link CriticalPathAlgorithmSelector} implementation.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ * @param <W> the duration type
+ */
+final class DefaultCriticalPathAlgorithmSelector<V, E, W>
+    implements CriticalPathAlgorithmSelector<V, E, W>
+{
+
+    private static final int NO_PREDECESSOR = -1;
+
+    private final DirectedGraph<V, E> dag;
+
+    /** The vertices durations, null if durations are on edges. */
+    private final Mapper<V, W> vertexDurations;
+
+    /** The edges durations, null if durations are on vertices. */
+    private final Mapper<E, W> edgeDurations;
+
+    public DefaultCriticalPathAlgorithmSelector( DirectedGraph<V, E> dag, Mapper<V, W> vertexDurations, Mapper<E, W> edgeDurations )
+    {
+        this.dag = dag;
+        this.vertexDurations = vertexDurations;
+        this.edgeDurations = edgeDurations;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> WeightedPath<V, E, W> applyingDagRelaxation( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "Critical path can not be found using null weight operations" );
+        checkArgument( dag.getOrder() > 0, "Critical path can not be found in the empty graph %s", dag );
+
+        final List<V> sorted = topologicalSort( dag ).applyingKahn().getVertices();
+
+        final Map<V, Integer> positions = new HashMap<V, Integer>( sorted.size() * 4 / 3 + 1 );
+        for ( V vertex : sorted )
+        {
+            positions.put( vertex, positions.size() );
+        }
+
+        // the longest path ending in each vertex, durations of the vertex included
+        final List<W> finishes = new ArrayList<W>( sorted.size() );
+        final int[] predecessors = new int[sorted.size()];
+        for ( int i = 0; i < sorted.size(); i++ )
+        {
+            finishes.add( null );
+            predecessors[i] = NO_PREDECESSOR;
+        }
+
+        int last = 0;
+        for ( int i = 0; i < sorted.size(); i++ )
+        {
+            final V u = sorted.get( i );
+
+            // starting the path in u may be longer than reaching it, when durations can be negative
+            final W start = vertexDurations != null ? vertexDurations.map( u ) : weightOperations.identity();
+            if ( finishes.get( i ) == null || weightOperations.compare( start, finishes.get( i ) ) > 0 )
+            {
+                finishes.set( i, start );
+                predecessors[i] = NO_PREDECESSOR;
+            }
+
+            for ( V v : dag.getOutbound( u ) )
+            {
+                final W duration = vertexDurations != null ? vertexDurations.map( v ) : edgeDurations.map( dag.getEdge( u, v ) );
+                final W finish = weightOperations.append( finishes.get( i ), duration );
+
+                final int j = positions.get( v );
+                if ( finishes.get( j ) == null || weightOperations.compare( finish, finishes.get( j ) ) > 0 )
+                {
+                    finishes.set( j, finish );
+                    predecessors[j] = i;
+                }
+            }
+
+            if ( weightOperations.compare( finishes.get( i ), finishes.get( last ) ) > 0 )
+            {
+                last = i;
+            }
+        }
+
+        final LinkedList<V> vertices = new LinkedList<V>();
+        final LinkedList<E> edges = new LinkedList<E>();
+        for ( int i = last; predecessors[i] != NO_PREDECESSOR; i = predecessors[i] )
+        {
+            final V tail = sorted.get( i );
+            final V head = sorted.get( predecessors[i] );
+            if ( vertices.isEmpty() )
+            {
+                vertices.addFirst( tail );
+            }
+            vertices.addFirst( head );
+            edges.addFirst( dag.getEdge( head, tail ) );
+        }
+
+        final V target = sorted.get( last );
+        final V source = vertices.isEmpty() ? target : vertices.getFirst();
+        return new ArrayWeightedPath<V, E, W>( source, target, vertices, edges, finishes.get( last ) );
+    }
+
+}
@@ -0,0 +1,62 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Mapper;
+
+/**
+ * {@link CriticalPathDurationsBuilder} implementation.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+public final class DefaultCriticalPathDurationsBuilder<V, E>
+    implements CriticalPathDurationsBuilder<V, E>
+{
+
+    private final DirectedGraph<V, E> dag;
+
+    public DefaultCriticalPathDurationsBuilder( DirectedGraph<V, E> dag )
+    {
+        this.dag = dag;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <W, M extends Mapper<V, W>> CriticalPathAlgorithmSelector<V, E, W> whereVerticesHaveDurations( M durations )
+    {
+        durations = checkNotNull( durations, "Function to calculate vertices duration can not be null." );
+        return new DefaultCriticalPathAlgorithmSelector<V, E, W>( dag, durations, null );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <W, M extends Mapper<E, W>> CriticalPathAlgorithmSelector<V, E, W> whereEdgesHaveDurations( M durations )
+    {
+        durations = checkNotNull( durations, "Function to calculate edges duration can not be null." );
+        return new DefaultCriticalPathAlgorithmSelector<V, E, W>( dag, null, durations );
+    }
+
+}
@@ -0,0 +1,332 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.CommonsGraph.topologicalSort;
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Mapper;
+
+/**
+ * {@link DependencyExecutor} implementation.
+ *
+ * Tasks are submitted to the executor only when they can run at once, since the executor queue would
+ * otherwise ignore their priority; the priority of a task is the estimated duration of the longest chain
+ * of tasks starting from it, calculated once in reverse topological order.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+final class DefaultDependencyExecutor<V, E>
+    implements DependencyExecutor<V>
+{
+
+    private final DirectedGraph<V, E> dependencies;
+
+    private final Mapper<V, ? extends Runnable> tasks;
+
+    private final Mapper<V, Long> estimatedDurations;
+
+    public DefaultDependencyExecutor( DirectedGraph<V, E> dependencies, Mapper<V, ? extends Runnable> tasks, Mapper<V, Long> estimatedDurations )
+    {
+        this.dependencies = dependencies;
+        this.tasks = tasks;
+        this.estimatedDurations = estimatedDurations;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <M extends Mapper<V, Long>> DependencyExecutor<V> prioritizingByEstimatedDurations( M estimatedDurations )
+    {
+        estimatedDurations = checkNotNull( estimatedDurations, "Function to estimate the tasks duration can not be null." );
+        return new DefaultDependencyExecutor<V, E>( dependencies, tasks, estimatedDurations );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public TaskExecutionReport<V> executeOn( Executor executor )
+        throws InterruptedException
+    {
+        return executeOn( executor, Runtime.getRuntime().availableProcessors() );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public TaskExecutionReport<V> executeOn( Executor executor, int parallelism )
+        throws InterruptedException
+    {
+        executor = checkNotNull( executor, "Tasks can not be executed on a null executor" );
+        checkArgument( parallelism > 0, "At least one task has to run at once, %s is not allowed", parallelism );
+
+        final List<V> vertices = topologicalSort( dependencies ).applyingKahn().getVertices();
+        final int order = vertices.size();
+
+        final Map<V, Integer> indexes = new HashMap<V, Integer>( order * 4 / 3 + 1 );
+        for ( V vertex : vertices )
+        {
+            indexes.put( vertex, indexes.size() );
+        }
+
+        // resolve all the tasks first, so that nothing runs if any of them is missing
+        final Runnable[] runnables = new Runnable[order];
+        final int[][] successors = new int[order][];
+        final int[] inDegrees = new int[order];
+        for ( int i = 0; i < order; i++ )
+        {
+            V vertex = vertices.get( i );
+            runnables[i] = checkNotNull( tasks.map( vertex ), "Vertex %s is not mapped to any task", vertex );
+
+            List<Integer> outbound = new ArrayList<Integer>();
+            for ( V successor : dependencies.getOutbound( vertex ) )
+            {
+                outbound.add( indexes.get( successor ) );
+            }
+            successors[i] = new int[outbound.size()];
+            for ( int j = 0; j < successors[i].length; j++ )
+            {
+                successors[i][j] = outbound.get( j );
+                inDegrees[successors[i][j]]++;
+            }
+        }
+
+        // successors come later in the topological order, so their priority is already known
+        final long[] priorities = new long[order];
+        for ( int i = order - 1; i >= 0; i-- )
+        {
+            long longestChain = 0;
+            for ( int successor : successors[i] )
+            {
+                longestChain = Math.max( longestChain, priorities[successor] );
+            }
+            priorities[i] = estimatedDurationOf( vertices.get( i ) ) + longestChain;
+        }
+
+        return new Execution( vertices, indexes, runnables, successors, inDegrees, priorities ).run( executor, parallelism );
+    }
+
+    private long estimatedDurationOf( V vertex )
+    {
+        if ( estimatedDurations == null )
+        {
+            return 1;
+        }
+
+        Long duration = checkNotNull( estimatedDurations.map( vertex ), "Duration of task %s can not be estimated", vertex );
+        checkArgument( duration >= 0, "Task %s can not last %s", vertex, duration );
+        return duration;
+    }
+
+    /**
+     * The state of a single execution, shared between the calling thread, which submits the tasks,
+     * and the executor threads, which complete them; all accesses are guarded by the execution monitor.
+     */
+    private final class Execution
+    {
+
+        private final List<V> vertices;
+
+        private final Map<V, Integer> indexes;
+
+        private final Runnable[] runnables;
+
+        private final int[][] successors;
+
+        private final int[] inDegrees;
+
+        private final PriorityQueue<Integer> ready;
+
+        private final List<V> dispatchOrder;
+
+        private final long[] startNanos;
+
+        private final long[] endNanos;
+
+        private long originNanos;
+
+        private int running;
+
+        private int failedTask = -1;
+
+        private Throwable failure;
+
+        public Execution( List<V> vertices, Map<V, Integer> indexes, Runnable[] runnables, int[][] successors, int[] inDegrees, final long[] priorities )
+        {
+            this.vertices = vertices;
+            this.indexes = indexes;
+            this.runnables = runnables;
+            this.successors = successors;
+            this.inDegrees = inDegrees;
+
+            // longest chains first, ties broken by the topological order
+            ready = new PriorityQueue<Integer>( Math.max( 1, runnables.length ), new Comparator<Integer>()
+            {
+
+                public int compare( Integer left, Integer right )
+                {
+                    if ( priorities[left] != priorities[right] )
+                    {
+                        return priorities[left] > priorities[right] ? -1 : 1;
+                    }
+                    return left.compareTo( right );
+                }
+
+            } );
+
+            dispatchOrder = new ArrayList<V>( runnables.length );
+            startNanos = new long[runnables.length];
+            endNanos = new long[runnables.length];
+        }
+
+        public synchronized TaskExecutionReport<V> run( Executor executor, int parallelism )
+            throws InterruptedException
+        {
+            originNanos = System.nanoTime();
+
+            for ( int i = 0; i < inDegrees.length; i++ )
+            {
+                if ( inDegrees[i] == 0 )
+                {
+                    ready.add( i );
+                }
+            }
+
+            while ( true )
+            {
+                while ( failure == null && running < parallelism && !ready.isEmpty() )
+                {
+                    int task = ready.remove();
+                    dispatchOrder.add( vertices.get( task ) );
+                    running++;
+
+                    try
+                    {
+                        executor.execute( new Task( task ) );
+                    }
+                    catch ( RuntimeException e )
+                    {
+                        running--;
+                        fail( task, e );
+                    }
+                }
+
+                if ( running == 0 )
+                {
+                    break;
+                }
+
+                // released while waiting, so that the running tasks can complete
+                wait();
+            }
+
+            if ( failure != null )
+            {
+                throw new TaskExecutionException( vertices.get( failedTask ), failure );
+            }
+
+            return new TaskExecutionReport<V>( dispatchOrder, indexes, startNanos, endNanos, System.nanoTime() - originNanos );
+        }
+
+        // the origin is written before any task is submitted, and the executor publishes it to the task threads
+        private long started()
+        {
+            return System.nanoTime() - originNanos;
+        }
+
+        private synchronized void completed( int task, long start, Throwable error )
+        {
+            startNanos[task] = start;
+            endNanos[task] = System.nanoTime() - originNanos;
+            running--;
+
+            if ( error != null )
+            {
+                fail( task, error );
+            }
+            else
+            {
+                for ( int successor : successors[task] )
+                {
+                    if ( --inDegrees[successor] == 0 )
+                    {
+                        ready.add( successor );
+                    }
+                }
+            }
+
+            notifyAll();
+        }
+
+        private void fail( int task, Throwable error )
+        {
+            // only the first failure is reported
+            if ( failure == null )
+            {
+                failure = error;
+                failedTask = task;
+            }
+        }
+
+        /**
+         * Runs a single task on behalf of the executor, notifying its completion.
+         */
+        private final class Task
+            implements Runnable
+        {
+
+            private final int index;
+
+            public Task( int index )
+            {
+                this.index = index;
+            }
+
+            public void run()
+            {
+                final long start = started();
+                Throwable error = null;
+                try
+                {
+                    runnables[index].run();
+                }
+                catch ( Throwable t )
+                {
+                    error = t;
+                }
+                completed( index, start, error );
+            }
+
+        }
+
+    }
+
+}
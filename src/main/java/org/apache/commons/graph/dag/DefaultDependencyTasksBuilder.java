@@ -0,0 +1,53 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Mapper;
+
+/**
+ * {@link DependencyTasksBuilder} implementation.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+public final class DefaultDependencyTasksBuilder<V, E>
+    implements DependencyTasksBuilder<V>
+{
+
+    private final DirectedGraph<V, E> dependencies;
+
+    public DefaultDependencyTasksBuilder( DirectedGraph<V, E> dependencies )
+    {
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <M extends Mapper<V, ? extends Runnable>> DependencyExecutor<V> whereVerticesAreTasks( M tasks )
+    {
+        tasks = checkNotNull( tasks, "Function to get the vertices task can not be null." );
+        return new DefaultDependencyExecutor<V, E>( dependencies, tasks, null );
+    }
+
+}
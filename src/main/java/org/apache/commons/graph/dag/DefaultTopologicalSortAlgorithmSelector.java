@@ -0,0 +1,172 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.model.InMemoryPath;
+
+/**
+ * {@link TopologicalSortAlgorithmSelector} implementation, working on in-degree arrays.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+public final class DefaultTopologicalSortAlgorithmSelector<V, E>
+    implements TopologicalSortAlgorithmSelector<V>
+{
+
+    private final DirectedGraph<V, E> graph;
+
+    public DefaultTopologicalSortAlgorithmSelector( DirectedGraph<V, E> graph )
+    {
+        this.graph = graph;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public TopologicalOrder<V> applyingKahn()
+    {
+        final int order = graph.getOrder();
+
+        final List<V> vertices = new ArrayList<V>( order );
+        final Map<V, Integer> indexes = new HashMap<V, Integer>( order * 4 / 3 + 1 );
+        for ( V vertex : graph.getVertices() )
+        {
+            indexes.put( vertex, vertices.size() );
+            vertices.add( vertex );
+        }
+
+        final int[] inDegrees = new int[order];
+        for ( int v = 0; v < order; v++ )
+        {
+            inDegrees[v] = graph.getInDegree( vertices.get( v ) );
+        }
+
+        // the sorted vertices indexes, layer after layer
+        final int[] sorted = new int[order];
+        int sortedCount = 0;
+        for ( int v = 0; v < order; v++ )
+        {
+            if ( inDegrees[v] == 0 )
+            {
+                sorted[sortedCount++] = v;
+            }
+        }
+
+        final List<List<V>> layers = new ArrayList<List<V>>();
+        final List<V> sortedVertices = new ArrayList<V>( order );
+        final Map<V, Integer> layerIndexes = new HashMap<V, Integer>( order * 4 / 3 + 1 );
+
+        int layerStart = 0;
+        while ( layerStart < sortedCount )
+        {
+            final int layerEnd = sortedCount;
+            final List<V> layer = new ArrayList<V>( layerEnd - layerStart );
+
+            for ( int i = layerStart; i < layerEnd; i++ )
+            {
+                final V vertex = vertices.get( sorted[i] );
+                layer.add( vertex );
+                sortedVertices.add( vertex );
+                layerIndexes.put( vertex, layers.size() );
+
+                for ( V successor : graph.getOutbound( vertex ) )
+                {
+                    final int s = indexes.get( successor );
+                    if ( --inDegrees[s] == 0 )
+                    {
+                        sorted[sortedCount++] = s;
+                    }
+                }
+            }
+
+            layers.add( layer );
+            layerStart = layerEnd;
+        }
+
+        if ( sortedCount < order )
+        {
+            final InMemoryPath<V, E> cycle = findCycle( vertices, indexes, inDegrees );
+            throw new CyclicGraphException( cycle, "Graph contains the cycle %s, it can not be topologically sorted",
+                                            cycle.getVertices() );
+        }
+
+        return new TopologicalOrder<V>( layers, sortedVertices, layerIndexes );
+    }
+
+    /**
+     * Finds a cycle among the vertices left by Kahn's algorithm: each one of them has at least one predecessor left,
+     * so walking backwards through them eventually reaches an already walked vertex.
+     */
+    private InMemoryPath<V, E> findCycle( List<V> vertices, Map<V, Integer> indexes, int[] inDegrees )
+    {
+        int start = 0;
+        while ( inDegrees[start] == 0 )
+        {
+            start++;
+        }
+
+        // position of each vertex in the backward walk, -1 if not walked
+        final int[] walkPositions = new int[vertices.size()];
+        for ( int v = 0; v < walkPositions.length; v++ )
+        {
+            walkPositions[v] = -1;
+        }
+        final List<V> walk = new ArrayList<V>();
+
+        int current = start;
+        while ( walkPositions[current] == -1 )
+        {
+            walkPositions[current] = walk.size();
+            final V vertex = vertices.get( current );
+            walk.add( vertex );
+
+            for ( V predecessor : graph.getInbound( vertex ) )
+            {
+                final int p = indexes.get( predecessor );
+                if ( inDegrees[p] > 0 )
+                {
+                    current = p;
+                    break;
+                }
+            }
+        }
+
+        // the walk, from the first occurrence of the repeated vertex, is the cycle backwards
+        final int last = walk.size() - 1;
+        final V first = vertices.get( current );
+        final InMemoryPath<V, E> cycle = new InMemoryPath<V, E>( first, first );
+        cycle.addConnectionInTail( first, graph.getEdge( first, walk.get( last ) ), walk.get( last ) );
+        for ( int i = last; i > walkPositions[current]; i-- )
+        {
+            final V head = walk.get( i );
+            final V tail = walk.get( i - 1 );
+            cycle.addConnectionInTail( head, graph.getEdge( head, tail ), tail );
+        }
+        return cycle;
+    }
+
+}
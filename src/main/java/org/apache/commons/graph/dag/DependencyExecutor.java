@@ -0,0 +1,75 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.concurrent.Executor;
+
+import org.apache.commons.graph.Mapper;
+
+/**
+ * Executes the tasks of a dependency graph, starting each task as soon as all the tasks it depends on are completed.
+ *
+ * When more tasks are ready than the allowed parallelism, the ones heading the longest chains of
+ * dependent tasks, that is the ones on the critical path, are started first.
+ *
+ * @param <V> the Graph vertices type
+ */
+public interface DependencyExecutor<V>
+{
+
+    /**
+     * Specifies how long each task is expected to last, to better estimate the critical path;
+     * when not specified, all the tasks are expected to last the same.
+     *
+     * @param <M> the estimated durations mapper type
+     * @param estimatedDurations the function mapping each vertex to the estimated duration of its task,
+     *        in any unit of time, as long as it is the same for all the tasks
+     * @return the dependency executor
+     */
+    <M extends Mapper<V, Long>> DependencyExecutor<V> prioritizingByEstimatedDurations( M estimatedDurations );
+
+    /**
+     * Executes all the tasks on the input executor, running as many tasks at once as the available processors,
+     * and waits for them to complete.
+     *
+     * @param executor the executor the tasks are submitted to
+     * @return the report of the executed tasks
+     * @throws InterruptedException if the current thread is interrupted while waiting for the tasks
+     * @throws TaskExecutionException if a task fails; no other task is started then
+     * @throws CyclicGraphException if the tasks depend on each other
+     */
+    TaskExecutionReport<V> executeOn( Executor executor )
+        throws InterruptedException;
+
+    /**
+     * Executes all the tasks on the input executor, running at most {@code parallelism} tasks at once,
+     * and waits for them to complete.
+     *
+     * @param executor the executor the tasks are submitted to
+     * @param parallelism the maximum number of tasks running at once
+     * @return the report of the executed tasks
+     * @throws InterruptedException if the current thread is interrupted while waiting for the tasks
+     * @throws TaskExecutionException if a task fails; no other task is started then
+     * @throws CyclicGraphException if the tasks depend on each other
+     */
+    TaskExecutionReport<V> executeOn( Executor executor, int parallelism )
+        throws InterruptedException;
+
+}
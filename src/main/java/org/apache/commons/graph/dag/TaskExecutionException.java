@@ -0,0 +1,55 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+
+import org.apache.commons.graph.GraphException;
+
+/**
+ * Exception thrown when a task of a dependency graph fails, or it can not be submitted to the executor.
+ */
+public final class TaskExecutionException
+    extends GraphException
+{
+
+    private static final long serialVersionUID = 5178336501782207694L;
+
+    private final Object task;
+
+    public TaskExecutionException( Object task, Throwable cause )
+    {
+        super( format( "Task %s failed", task ), cause );
+        this.task = task;
+    }
+
+    /**
+     * Returns the vertex of the failed task.
+     *
+     * @param <V> the Graph vertices type
+     * @return the vertex of the failed task
+     */
+    @SuppressWarnings( "unchecked" ) // an exception can not be generic, the type is the same of the graph
+    public <V> V getTask()
+    {
+        return (V) task;
+    }
+
+}
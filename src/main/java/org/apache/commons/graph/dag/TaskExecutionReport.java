@@ -0,0 +1,130 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timings of the tasks of a dependency graph, measured from the moment the execution started.
+ *
+ * @param <V> the Graph vertices type
+ */
+public final class TaskExecutionReport<V>
+{
+
+    private final List<V> dispatchOrder;
+
+    private final Map<V, Integer> indexes;
+
+    private final long[] startNanos;
+
+    private final long[] endNanos;
+
+    private final long elapsedNanos;
+
+    TaskExecutionReport( List<V> dispatchOrder, Map<V, Integer> indexes, long[] startNanos, long[] endNanos, long elapsedNanos )
+    {
+        this.dispatchOrder = dispatchOrder;
+        this.indexes = indexes;
+        this.startNanos = startNanos;
+        this.endNanos = endNanos;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return the vertices, in the order their tasks were submitted to the executor
+     */
+    public List<V> getDispatchOrder()
+    {
+        return unmodifiableList( dispatchOrder );
+    }
+
+    /**
+     * Returns when the task of the input vertex started.
+     *
+     * @param task the vertex of the task
+     * @param unit the unit of the returned time
+     * @return the time elapsed since the execution started when the task started
+     */
+    public long getStartTime( V task, TimeUnit unit )
+    {
+        return unit.convert( startNanos[indexOf( task )], NANOSECONDS );
+    }
+
+    /**
+     * Returns when the task of the input vertex completed.
+     *
+     * @param task the vertex of the task
+     * @param unit the unit of the returned time
+     * @return the time elapsed since the execution started when the task completed
+     */
+    public long getEndTime( V task, TimeUnit unit )
+    {
+        return unit.convert( endNanos[indexOf( task )], NANOSECONDS );
+    }
+
+    /**
+     * Returns how long the task of the input vertex lasted.
+     *
+     * @param task the vertex of the task
+     * @param unit the unit of the returned duration
+     * @return the duration of the task
+     */
+    public long getDuration( V task, TimeUnit unit )
+    {
+        int index = indexOf( task );
+        return unit.convert( endNanos[index] - startNanos[index], NANOSECONDS );
+    }
+
+    /**
+     * @param unit the unit of the returned time
+     * @return the time elapsed from the start of the execution to the completion of the last task
+     */
+    public long getElapsedTime( TimeUnit unit )
+    {
+        return unit.convert( elapsedNanos, NANOSECONDS );
+    }
+
+    private int indexOf( V task )
+    {
+        task = checkNotNull( task, "Null vertices are not part of any dependency graph" );
+        Integer index = indexes.get( task );
+        checkArgument( index != null, "Vertex %s is not in the executed Graph", task );
+        return index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return format( "TaskExecutionReport [dispatchOrder=%s, elapsedNanos=%s]", dispatchOrder, elapsedNanos );
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The vertices of a directed acyclic graph grouped in layers: each vertex is in the layer after the
+ * last layer of its predecessors, so the vertices of the same layer do not depend on each other.
+ *
+ * @param <V> the Graph vertices type
+ */
+public final class TopologicalOrder<V>
+{
+
+    private final List<List<V>> layers;
+
+    private final List<V> vertices;
+
+    private final Map<V, Integer> layerIndexes;
+
+    TopologicalOrder( List<List<V>> layers, List<V> vertices, Map<V, Integer> layerIndexes )
+    {
+        this.layers = layers;
+        this.vertices = vertices;
+        this.layerIndexes = layerIndexes;
+    }
+
+    /**
+     * @return the layers, from the one of the vertices without predecessors
+     */
+    public List<List<V>> getLayers()
+    {
+        List<List<V>> unmodifiableLayers = new ArrayList<List<V>>( layers.size() );
+        for ( List<V> layer : layers )
+        {
+            unmodifiableLayers.add( unmodifiableList( layer ) );
+        }
+        return unmodifiableList( unmodifiableLayers );
+    }
+
+    /**
+     * @return the number of layers, that is the number of vertices of the longest path
+     */
+    public int getLayerCount()
+    {
+        return layers.size();
+    }
+
+    /**
+     * @return all the vertices, layer after layer, in a topological order
+     */
+    public List<V> getVertices()
+    {
+        return unmodifiableList( vertices );
+    }
+
+    /**
+     * Returns the layer of the input vertex.
+     *
+     * @param vertex the vertex
+     * @return the layer index of the vertex, 0 if it has no predecessors
+     */
+    public int getLayer( V vertex )
+    {
+        Integer layer = layerIndexes.get( vertex );
+        checkArgument( layer != null, "Vertex %s is not in the sorted Graph", vertex );
+        return layer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return format( "TopologicalOrder [layers=%s]", layers );
+    }
+
+}
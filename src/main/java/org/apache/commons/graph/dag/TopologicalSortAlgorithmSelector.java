@@ -0,0 +1,40 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ * Allows selecting the algorithm for sorting the vertices of a directed acyclic graph.
+ *
+ * @param <V> the Graph vertices type
+ */
+public interface TopologicalSortAlgorithmSelector<V>
+{
+
+    /**
+     * Applies Kahn's algorithm, removing layer by layer the vertices without predecessors left.
+     *
+     * <p>Note: the runtime complexity is O(V + E), no recursion is involved.</p>
+     *
+     * @return the vertices grouped in layers
+     * @throws CyclicGraphException if the graph contains a cycle, that is reported by the exception
+     */
+    TopologicalOrder<V> applyingKahn();
+
+}
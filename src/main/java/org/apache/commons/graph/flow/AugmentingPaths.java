@@ -0,0 +1,123 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+
+/**
+ * Augmenting paths maximum flow algorithms: the Ford-Fulkerson method looks for augmenting paths
+ * depth first, the Edmonds-Karp algorithm breadth first, so that each path is a shortest one.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the Graph weight type
+ */
+final class AugmentingPaths<V, WE, W>
+{
+
+    private final ResidualNetwork<V, WE, W> network;
+
+    private final int source;
+
+    private final int target;
+
+    // the arc each vertex has been reached through, -1 if not reached yet
+    private final int[] predecessorArcs;
+
+    private final int[] frontier;
+
+    public AugmentingPaths( ResidualNetwork<V, WE, W> network, int source, int target )
+    {
+        this.network = network;
+        this.source = source;
+        this.target = target;
+
+        predecessorArcs = new int[network.getOrder()];
+        frontier = new int[network.getOrder()];
+    }
+
+    /**
+     * Routes the maximum flow from the source to the target through the residual network.
+     *
+     * @param breadthFirst true to look for shortest augmenting paths, as the Edmonds-Karp algorithm does,
+     *        false to look for them depth first, as the Ford-Fulkerson method does
+     * @return the maximum flow value
+     */
+    W findMaxFlow( boolean breadthFirst )
+    {
+        W maxFlow = network.getWeightOperations().identity();
+
+        if ( source == target )
+        {
+            return maxFlow;
+        }
+
+        while ( findAugmentingPath( breadthFirst ) )
+        {
+            W flowIncrement = network.getResidual( predecessorArcs[target] );
+            for ( int v = network.getSource( predecessorArcs[target] ); v != source; v = network.getSource( predecessorArcs[v] ) )
+            {
+                flowIncrement = network.min( flowIncrement, network.getResidual( predecessorArcs[v] ) );
+            }
+
+            for ( int v = target; v != source; v = network.getSource( predecessorArcs[v] ) )
+            {
+                network.push( predecessorArcs[v], flowIncrement );
+            }
+
+            maxFlow = network.plus( maxFlow, flowIncrement );
+        }
+
+        return maxFlow;
+    }
+
+    private boolean findAugmentingPath( boolean breadthFirst )
+    {
+        Arrays.fill( predecessorArcs, -1 );
+
+        // the frontier is a queue when searching breadth first, a stack otherwise
+        int head = 0;
+        int tail = 0;
+        frontier[tail++] = source;
+
+        while ( head < tail )
+        {
+            int v = breadthFirst ? frontier[head++] : frontier[--tail];
+
+            for ( int position = network.getFirstArc( v ); position < network.getLastArc( v ); position++ )
+            {
+                int arc = network.getArc( position );
+                int w = network.getTarget( arc );
+                if ( w != source && predecessorArcs[w] < 0 && network.hasResidual( arc ) )
+                {
+                    predecessorArcs[w] = arc;
+                    if ( w == target )
+                    {
+                        return true;
+                    }
+                    frontier[tail++] = w;
+                }
+            }
+        }
+
+        return false;
+    }
+
+}
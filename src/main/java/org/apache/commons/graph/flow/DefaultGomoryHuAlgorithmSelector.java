@@ -0,0 +1,58 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.UndirectedGraph;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * {@link GomoryHuAlgorithmSelector} implementation.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the capacity type
+ */
+final class DefaultGomoryHuAlgorithmSelector<V, WE, W>
+    implements GomoryHuAlgorithmSelector<V, WE, W>
+{
+
+    private final UndirectedGraph<V, WE> graph;
+
+    private final Mapper<WE, W> capacities;
+
+    public DefaultGomoryHuAlgorithmSelector( UndirectedGraph<V, WE> graph, Mapper<WE, W> capacities )
+    {
+        this.graph = graph;
+        this.capacities = capacities;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> GomoryHuTree<V, WE, W> applyingGusfield( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "Weight operations can not be null to find the Gomory-Hu tree" );
+        return new Gusfield<V, WE, W>( new ResidualNetwork<V, WE, W>( graph, capacities, weightOperations ) ).findGomoryHuTree();
+    }
+
+}
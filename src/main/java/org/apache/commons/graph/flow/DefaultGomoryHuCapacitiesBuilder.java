@@ -0,0 +1,53 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.UndirectedGraph;
+
+/**
+ * {@link GomoryHuCapacitiesBuilder} implementation.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ */
+public final class DefaultGomoryHuCapacitiesBuilder<V, WE>
+    implements GomoryHuCapacitiesBuilder<V, WE>
+{
+
+    private final UndirectedGraph<V, WE> graph;
+
+    public DefaultGomoryHuCapacitiesBuilder( UndirectedGraph<V, WE> graph )
+    {
+        this.graph = graph;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <W, M extends Mapper<WE, W>> GomoryHuAlgorithmSelector<V, WE, W> whereEdgesHaveCapacities( M capacities )
+    {
+        capacities = checkNotNull( capacities, "Function to calculate edges capacity can not be null." );
+        return new DefaultGomoryHuAlgorithmSelector<V, WE, W>( graph, capacities );
+    }
+
+}
@@ -19,14 +19,10 @@ package org.apache.commons.graph.flow;
  * under the License.
  */
 
-import static org.apache.commons.graph.CommonsGraph.newDirectedMutableGraph;
-import static org.apache.commons.graph.CommonsGraph.visit;
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 
 import org.apache.commons.graph.DirectedGraph;
 import org.apache.commons.graph.Mapper;
-import org.apache.commons.graph.VertexPair;
-import org.apache.commons.graph.builder.AbstractGraphConnection;
 import org.apache.commons.graph.weight.OrderedMonoid;
 
 /**
@@ -59,137 +55,69 @@ final class DefaultMaxFlowAlgorithmSelector<V, WE, W>
     /**
      * {@inheritDoc}
      */
-    public <WO extends OrderedMonoid<W>> W applyingFordFulkerson( WO weightOperations )
+    public <WO extends OrderedMonoid<W>> MaxFlowResult<V, WE, W> applyingFordFulkerson( WO weightOperations )
     {
-        final WO checkedWeightOperations = checkNotNull( weightOperations, "Weight operations can not be null to find the max flow in the graph" );
-
-        // create flow network
-        final DirectedGraph<V, EdgeWrapper<WE>> flowNetwork = newFlowNetwok( graph, checkedWeightOperations );
-
-        // create flow network handler
-        final FlowNetworkHandler<V, EdgeWrapper<WE>, W> flowNetworkHandler =
-                        new FlowNetworkHandler<V, EdgeWrapper<WE>, W>( flowNetwork, source, target, checkedWeightOperations, new MapperWrapper<WE, W, WO>( checkedWeightOperations, weightedEdges ) );
-
-        // perform depth first search
-        visit( flowNetwork ).from( source ).applyingDepthFirstSearch( flowNetworkHandler );
+        final ResidualNetwork<V, WE, W> residualNetwork = newResidualNetwork( weightOperations );
 
-        while ( flowNetworkHandler.hasAugmentingPath() )
-        {
-            // update flow network
-            flowNetworkHandler.updateResidualNetworkWithCurrentAugmentingPath();
-            // look for another augmenting path with depth first search
-            visit( flowNetwork ).from( source ).applyingDepthFirstSearch( flowNetworkHandler );
-        }
+        final int sourceIndex = residualNetwork.indexOf( source );
+        final W maxFlow = new AugmentingPaths<V, WE, W>( residualNetwork, sourceIndex, residualNetwork.indexOf( target ) ).findMaxFlow( false );
 
-        return flowNetworkHandler.onCompleted();
+        return new MaxFlowResult<V, WE, W>( residualNetwork, sourceIndex, maxFlow );
     }
 
     /**
      * {@inheritDoc}
      */
-    public <WO extends OrderedMonoid<W>> W applyingEdmondsKarp( WO weightOperations )
+    public <WO extends OrderedMonoid<W>> MaxFlowResult<V, WE, W> applyingEdmondsKarp( WO weightOperations )
     {
-        final WO checkedWeightOperations = checkNotNull( weightOperations, "Weight operations can not be null to find the max flow in the graph" );
-
-        // create flow network
-        final DirectedGraph<V, EdgeWrapper<WE>> flowNetwork = newFlowNetwok( graph, checkedWeightOperations );
-
-        // create flow network handler
-        final FlowNetworkHandler<V, EdgeWrapper<WE>, W> flowNetworkHandler =
-                        new FlowNetworkHandler<V, EdgeWrapper<WE>, W>( flowNetwork, source, target, checkedWeightOperations, new MapperWrapper<WE, W, WO>( checkedWeightOperations, weightedEdges ) );
+        final ResidualNetwork<V, WE, W> residualNetwork = newResidualNetwork( weightOperations );
 
-        // perform breadth first search
-        visit( flowNetwork ).from( source ).applyingBreadthFirstSearch( flowNetworkHandler );
+        final int sourceIndex = residualNetwork.indexOf( source );
+        final W maxFlow = new AugmentingPaths<V, WE, W>( residualNetwork, sourceIndex, residualNetwork.indexOf( target ) ).findMaxFlow( true );
 
-        while ( flowNetworkHandler.hasAugmentingPath() )
-        {
-            // update flow network
-            flowNetworkHandler.updateResidualNetworkWithCurrentAugmentingPath();
-            // look for another augmenting path with breadth first search
-            visit( flowNetwork ).from( source ).applyingBreadthFirstSearch( flowNetworkHandler );
-        }
-
-        return flowNetworkHandler.onCompleted();
-    }
-
-    private <WO extends OrderedMonoid<W>> DirectedGraph<V, EdgeWrapper<WE>> newFlowNetwok( final DirectedGraph<V, WE> graph,
-                                                                                           final WO weightOperations )
-    {
-        return newDirectedMutableGraph( new AbstractGraphConnection<V, EdgeWrapper<WE>>()
-        {
-            @Override
-            public void connect()
-            {
-                // vertices
-                for ( V vertex : graph.getVertices() )
-                {
-                    addVertex( vertex );
-                }
-                // edges
-                for ( WE edge : graph.getEdges() )
-                {
-                    VertexPair<V> edgeVertices = graph.getVertices( edge );
-                    V head = edgeVertices.getHead();
-                    V tail = edgeVertices.getTail();
-
-                    addEdge( new EdgeWrapper<WE>( edge ) ).from( head ).to( tail );
-
-                    if ( graph.getEdge( tail, head ) == null )
-                    {
-                        // complete the flow network with a zero-capacity inverse edge
-                        addEdge( new EdgeWrapper<WE>() ).from( tail ).to( head );
-                    }
-                }
-            }
-        } );
+        return new MaxFlowResult<V, WE, W>( residualNetwork, sourceIndex, maxFlow );
     }
 
-    private static final class EdgeWrapper<WE>
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> MaxFlowResult<V, WE, W> applyingPushRelabel( WO weightOperations )
     {
+        final ResidualNetwork<V, WE, W> residualNetwork = newResidualNetwork( weightOperations );
 
-        private final WE wrapped;
-
-        public EdgeWrapper()
-        {
-            this( null );
-        }
-
-        public EdgeWrapper( WE wrapped )
-        {
-            this.wrapped = wrapped;
-        }
-
-        public WE getWrapped()
-        {
-            return wrapped;
-        }
+        final int sourceIndex = residualNetwork.indexOf( source );
+        final W maxFlow = new PushRelabel<V, WE, W>( residualNetwork, sourceIndex, residualNetwork.indexOf( target ) ).findMaxFlow();
 
+        return new MaxFlowResult<V, WE, W>( residualNetwork, sourceIndex, maxFlow );
     }
 
-    @SuppressWarnings( "serial" ) //the algorithm isn't serializable.
-    private static final class MapperWrapper<WE, W, WO extends OrderedMonoid<W>>
-        implements Mapper<EdgeWrapper<WE>, W>
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> MaxFlowResult<V, WE, W> applyingDinic( WO weightOperations )
     {
+        final ResidualNetwork<V, WE, W> residualNetwork = newResidualNetwork( weightOperations );
 
-        private final WO weightOperations;
+        final int sourceIndex = residualNetwork.indexOf( source );
+        final W maxFlow = new Dinic<V, WE, W>( residualNetwork ).findMaxFlow( sourceIndex, residualNetwork.indexOf( target ) );
 
-        private final Mapper<WE, W> weightedEdges;
+        return new MaxFlowResult<V, WE, W>( residualNetwork, sourceIndex, maxFlow );
+    }
 
-        public MapperWrapper( WO weightOperations, Mapper<WE, W> weightedEdges )
-        {
-            this.weightOperations = weightOperations;
-            this.weightedEdges = weightedEdges;
-        }
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> MaxFlowSession<V, WE, W> applyingIncrementalDinic( WO weightOperations )
+    {
+        final ResidualNetwork<V, WE, W> residualNetwork = newResidualNetwork( weightOperations );
 
-        public W map( EdgeWrapper<WE> input )
-        {
-            if ( input.getWrapped() == null )
-            {
-                return weightOperations.identity();
-            }
-            return weightedEdges.map( input.getWrapped() );
-        }
+        return new MaxFlowSession<V, WE, W>( residualNetwork, residualNetwork.indexOf( source ), residualNetwork.indexOf( target ) );
+    }
 
+    private <WO extends OrderedMonoid<W>> ResidualNetwork<V, WE, W> newResidualNetwork( WO weightOperations )
+    {
+        final WO checkedWeightOperations = checkNotNull( weightOperations, "Weight operations can not be null to find the max flow in the graph" );
+        return new ResidualNetwork<V, WE, W>( graph, weightedEdges, checkedWeightOperations );
     }
 
 }
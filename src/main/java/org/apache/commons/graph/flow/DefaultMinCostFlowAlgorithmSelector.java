@@ -0,0 +1,74 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.weight.OrderedMonoid;
+import org.apache.commons.graph.weight.primitive.LongWeightBaseOperations;
+
+/**
+ * {@link MinCostFlowAlgorithmSelector} implementation.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the cost type
+ */
+final class DefaultMinCostFlowAlgorithmSelector<V, WE, W>
+    implements MinCostFlowAlgorithmSelector<V, WE, W>
+{
+
+    private final DirectedGraph<V, WE> graph;
+
+    private final Mapper<WE, Long> capacities;
+
+    private final Mapper<WE, W> costs;
+
+    private final V source;
+
+    private final V target;
+
+    public DefaultMinCostFlowAlgorithmSelector( DirectedGraph<V, WE> graph, Mapper<WE, Long> capacities, Mapper<WE, W> costs, V source, V target )
+    {
+        this.graph = graph;
+        this.capacities = capacities;
+        this.costs = costs;
+        this.source = source;
+        this.target = target;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> MinCostFlowResult<V, WE, W> applyingSuccessiveShortestPaths( WO costOperations )
+    {
+        costOperations = checkNotNull( costOperations, "Cost operations can not be null to find the min cost flow in the graph" );
+
+        final ResidualNetwork<V, WE, Long> residualNetwork =
+            new ResidualNetwork<V, WE, Long>( graph, capacities, new LongWeightBaseOperations() );
+
+        return new SuccessiveShortestPaths<V, WE, W>( residualNetwork, costs, costOperations,
+                                                      residualNetwork.indexOf( source ),
+                                                      residualNetwork.indexOf( target ) ).findMinCostMaxFlow();
+    }
+
+}
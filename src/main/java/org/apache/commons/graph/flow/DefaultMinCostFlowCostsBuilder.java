@@ -0,0 +1,56 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Mapper;
+
+/**
+ * {@link MinCostFlowCostsBuilder} implementation.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ */
+final class DefaultMinCostFlowCostsBuilder<V, WE>
+    implements MinCostFlowCostsBuilder<V, WE>
+{
+
+    private final DirectedGraph<V, WE> graph;
+
+    private final Mapper<WE, Long> capacities;
+
+    public DefaultMinCostFlowCostsBuilder( DirectedGraph<V, WE> graph, Mapper<WE, Long> capacities )
+    {
+        this.graph = graph;
+        this.capacities = capacities;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <W, M extends Mapper<WE, W>> MinCostFlowSourceSelector<V, WE, W> whereEdgesHaveCosts( M costs )
+    {
+        costs = checkNotNull( costs, "Function to calculate edges cost can not be null." );
+        return new DefaultMinCostFlowSourceSelector<V, WE, W>( graph, capacities, costs );
+    }
+
+}
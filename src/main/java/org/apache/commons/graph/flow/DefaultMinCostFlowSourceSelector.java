@@ -0,0 +1,60 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Mapper;
+
+/**
+ * {@link MinCostFlowSourceSelector} implementation.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the cost type
+ */
+final class DefaultMinCostFlowSourceSelector<V, WE, W>
+    implements MinCostFlowSourceSelector<V, WE, W>
+{
+
+    private final DirectedGraph<V, WE> graph;
+
+    private final Mapper<WE, Long> capacities;
+
+    private final Mapper<WE, W> costs;
+
+    public DefaultMinCostFlowSourceSelector( DirectedGraph<V, WE> graph, Mapper<WE, Long> capacities, Mapper<WE, W> costs )
+    {
+        this.graph = graph;
+        this.capacities = capacities;
+        this.costs = costs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <S extends V> MinCostFlowTargetSelector<V, WE, W> from( S source )
+    {
+        source = checkNotNull( source, "Source vertex has to be specified when looking for the min cost flow" );
+        return new DefaultMinCostFlowTargetSelector<V, WE, W>( graph, capacities, costs, source );
+    }
+
+}
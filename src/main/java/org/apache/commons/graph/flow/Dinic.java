@@ -0,0 +1,201 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+
+/**
+ * Dinic's maximum flow algorithm: each phase builds the level graph by a breadth first search from the source,
+ * then saturates it with a blocking flow, found by depth first searches that never revisit a dead arc
+ * thanks to the current arc pointers.
+ *
+ * The flow already routed through the residual network is kept, so the same instance can be used
+ * to augment it again once capacities changed, or to move bounded amounts of flow between any two vertices.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the Graph weight type
+ */
+final class Dinic<V, WE, W>
+{
+
+    private final ResidualNetwork<V, WE, W> network;
+
+    private final int[] levels;
+
+    private final int[] currentArcs;
+
+    // the breadth first search queue, then the arcs of the path being explored
+    private final int[] stack;
+
+    public Dinic( ResidualNetwork<V, WE, W> network )
+    {
+        this.network = network;
+
+        levels = new int[network.getOrder()];
+        currentArcs = new int[network.getOrder()];
+        stack = new int[network.getOrder()];
+    }
+
+    /**
+     * Routes the maximum flow from the source to the target through the residual network.
+     *
+     * @param source the source vertex index
+     * @param target the target vertex index
+     * @return the flow added by this call
+     */
+    W findMaxFlow( int source, int target )
+    {
+        return sendFlow( source, target, null );
+    }
+
+    /**
+     * Routes as much flow as possible from the source to the target through the residual network,
+     * without exceeding the input limit.
+     *
+     * @param source the source vertex index
+     * @param target the target vertex index
+     * @param limit the maximum amount of flow to route, null if unlimited
+     * @return the flow added by this call
+     */
+    W sendFlow( int source, int target, W limit )
+    {
+        W flow = network.getWeightOperations().identity();
+
+        if ( source == target )
+        {
+            return flow;
+        }
+
+        while ( ( limit == null || network.isPositive( network.minus( limit, flow ) ) ) && buildLevelGraph( source, target ) )
+        {
+            for ( int v = 0; v < levels.length; v++ )
+            {
+                currentArcs[v] = network.getFirstArc( v );
+            }
+            flow = network.plus( flow, sendBlockingFlow( source, target, limit == null ? null : network.minus( limit, flow ) ) );
+        }
+
+        return flow;
+    }
+
+    /**
+     * @return true if the target can be reached in the residual network
+     */
+    private boolean buildLevelGraph( int source, int target )
+    {
+        Arrays.fill( levels, -1 );
+        levels[source] = 0;
+
+        int head = 0;
+        int tail = 0;
+        stack[tail++] = source;
+        while ( head < tail )
+        {
+            int v = stack[head++];
+            for ( int position = network.getFirstArc( v ); position < network.getLastArc( v ); position++ )
+            {
+                int arc = network.getArc( position );
+                int w = network.getTarget( arc );
+                if ( levels[w] < 0 && network.hasResidual( arc ) )
+                {
+                    levels[w] = levels[v] + 1;
+                    stack[tail++] = w;
+                }
+            }
+        }
+
+        return levels[target] >= 0;
+    }
+
+    private W sendBlockingFlow( int source, int target, W limit )
+    {
+        W blockingFlow = network.getWeightOperations().identity();
+
+        int depth = 0;
+        int v = source;
+        while ( true )
+        {
+            if ( v == target )
+            {
+                W bottleneck = network.getResidual( stack[0] );
+                for ( int i = 1; i < depth; i++ )
+                {
+                    bottleneck = network.min( bottleneck, network.getResidual( stack[i] ) );
+                }
+                if ( limit != null )
+                {
+                    bottleneck = network.min( bottleneck, network.minus( limit, blockingFlow ) );
+                }
+
+                int firstSaturated = -1;
+                for ( int i = 0; i < depth; i++ )
+                {
+                    network.push( stack[i], bottleneck );
+                    if ( firstSaturated < 0 && !network.hasResidual( stack[i] ) )
+                    {
+                        firstSaturated = i;
+                    }
+                }
+                blockingFlow = network.plus( blockingFlow, bottleneck );
+
+                if ( firstSaturated < 0 )
+                {
+                    // only the limit could stop the path
+                    return blockingFlow;
+                }
+
+                // restart from the tail of the closest saturated arc, the path before it still has residual capacity
+                depth = firstSaturated;
+                v = network.getSource( stack[depth] );
+                continue;
+            }
+
+            // advance along the first admissible arc
+            while ( currentArcs[v] < network.getLastArc( v ) )
+            {
+                int arc = network.getArc( currentArcs[v] );
+                if ( levels[network.getTarget( arc )] == levels[v] + 1 && network.hasResidual( arc ) )
+                {
+                    break;
+                }
+                currentArcs[v]++;
+            }
+
+            if ( currentArcs[v] < network.getLastArc( v ) )
+            {
+                int arc = network.getArc( currentArcs[v] );
+                stack[depth++] = arc;
+                v = network.getTarget( arc );
+            }
+            else
+            {
+                // dead end, retreat and discard the arc that led here
+                if ( v == source )
+                {
+                    return blockingFlow;
+                }
+                v = network.getSource( stack[--depth] );
+                currentArcs[v]++;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Gomory-Hu tree algorithms selector.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the capacity type
+ */
+public interface GomoryHuAlgorithmSelector<V, WE, W>
+{
+
+    /**
+     * Calculates the Gomory-Hu tree using Gusfield's algorithm, which needs {@code V - 1} maximum flows
+     * on the input network, without contracting it.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on capacities
+     * @return the Gomory-Hu tree of the input network
+     */
+    <WO extends OrderedMonoid<W>> GomoryHuTree<V, WE, W> applyingGusfield( WO weightOperations );
+
+}
@@ -0,0 +1,43 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.Mapper;
+
+/**
+ * Builder to specify how much flow each edge of the undirected network can carry, in both directions.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ */
+public interface GomoryHuCapacitiesBuilder<V, WE>
+{
+
+    /**
+     * Specifies the edges capacities.
+     *
+     * @param <W> the capacity type
+     * @param <M> the capacities mapper type
+     * @param capacities the function mapping each edge to its non negative capacity
+     * @return the Gomory-Hu tree algorithm selector
+     */
+    <W, M extends Mapper<WE, W>> GomoryHuAlgorithmSelector<V, WE, W> whereEdgesHaveCapacities( M capacities );
+
+}
@@ -0,0 +1,222 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableSet;
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * The Gomory-Hu tree of an undirected network: a tree on the same vertices where the minimum cut between
+ * any two vertices is the lightest edge on the tree path connecting them, and removing that edge splits
+ * the vertices as the minimum cut does.
+ *
+ * Each vertex but the root is linked to its parent by a tree edge, weighted by the value of the cut
+ * separating the subtree of the vertex from the rest of the network, so that queries walk the path
+ * between two vertices up to their lowest common ancestor.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the capacity type
+ */
+public final class GomoryHuTree<V, WE, W>
+{
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final Object[] vertices;
+
+    private final Map<V, Integer> indexes;
+
+    private final int[] parents;
+
+    private final Object[] cuts;
+
+    private final int[] depths;
+
+    GomoryHuTree( ResidualNetwork<V, WE, W> network, int[] parents, Object[] cuts )
+    {
+        this.weightOperations = network.getWeightOperations();
+        this.parents = parents;
+        this.cuts = cuts;
+
+        final int order = network.getOrder();
+        vertices = new Object[order];
+        indexes = new HashMap<V, Integer>( order * 4 / 3 + 1 );
+        for ( int v = 0; v < order; v++ )
+        {
+            vertices[v] = network.getVertex( v );
+            indexes.put( network.getVertex( v ), v );
+        }
+
+        // the depth of each vertex, filled walking up to the closest vertex whose depth is known
+        depths = new int[order];
+        final boolean[] known = new boolean[order];
+        final int[] path = new int[order];
+        for ( int v = 0; v < order; v++ )
+        {
+            int length = 0;
+            int u = v;
+            while ( !known[u] && parents[u] != u )
+            {
+                path[length++] = u;
+                u = parents[u];
+            }
+            known[u] = true;
+            for ( int i = length - 1; i >= 0; i-- )
+            {
+                depths[path[i]] = depths[u] + 1;
+                known[path[i]] = true;
+                u = path[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the value of the minimum cut separating the input vertices.
+     *
+     * @param source a vertex of the network
+     * @param target another vertex of the network
+     * @return the value of the minimum cut between the source and the target
+     */
+    public W getMinimumCutValue( V source, V target )
+    {
+        return cut( lightestEdge( indexOf( source ), indexOf( target ) ) );
+    }
+
+    /**
+     * Returns the side of the source in the minimum cut separating the input vertices.
+     *
+     * @param source a vertex of the network
+     * @param target another vertex of the network
+     * @return the vertices on the side of the source
+     */
+    public Set<V> getMinimumCutSourceSide( V source, V target )
+    {
+        final int s = indexOf( source );
+        final int child = lightestEdge( s, indexOf( target ) );
+
+        // the vertices below the lightest edge are the ones whose ancestors include its child end
+        final int[] below = new int[vertices.length];
+        below[child] = 1;
+        for ( int v = 0; v < vertices.length; v++ )
+        {
+            int u = v;
+            while ( below[u] == 0 && parents[u] != u )
+            {
+                u = parents[u];
+            }
+            final int side = below[u] == 1 ? 1 : 2;
+            for ( u = v; below[u] == 0; u = parents[u] )
+            {
+                below[u] = side;
+            }
+        }
+
+        final Set<V> sourceSide = new LinkedHashSet<V>();
+        for ( int v = 0; v < vertices.length; v++ )
+        {
+            if ( below[v] == below[s] )
+            {
+                sourceSide.add( vertexAt( v ) );
+            }
+        }
+        return unmodifiableSet( sourceSide );
+    }
+
+    /**
+     * Walks the tree path between the input vertices.
+     *
+     * @return the lower end of the lightest edge on the path
+     */
+    private int lightestEdge( int source, int target )
+    {
+        checkArgument( source != target, "Source and target of a minimum cut have to be different, %s given", vertexAt( source ) );
+
+        int lightest = -1;
+        while ( source != target )
+        {
+            int child;
+            if ( depths[source] >= depths[target] )
+            {
+                child = source;
+                source = parents[source];
+            }
+            else
+            {
+                child = target;
+                target = parents[target];
+            }
+
+            if ( lightest < 0 || weightOperations.compare( cut( child ), cut( lightest ) ) < 0 )
+            {
+                lightest = child;
+            }
+        }
+        return lightest;
+    }
+
+    private int indexOf( V vertex )
+    {
+        vertex = checkNotNull( vertex, "Minimum cut can not be calculated for a null vertex" );
+        Integer index = indexes.get( vertex );
+        checkArgument( index != null, "Vertex %s does not exist in the Graph", vertex );
+        return index;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only V instances are stored
+    private V vertexAt( int index )
+    {
+        return (V) vertices[index];
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored
+    private W cut( int index )
+    {
+        return (W) cuts[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        final StringBuilder edges = new StringBuilder();
+        for ( int v = 0; v < vertices.length; v++ )
+        {
+            if ( parents[v] != v )
+            {
+                edges.append( edges.length() == 0 ? "" : ", " )
+                     .append( format( "%s - %s (%s)", vertexAt( v ), vertexAt( parents[v] ), cut( v ) ) );
+            }
+        }
+        return format( "GomoryHuTree [edges=[%s]]", edges );
+    }
+
+}
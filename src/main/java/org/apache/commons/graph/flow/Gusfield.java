@@ -0,0 +1,124 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+
+/**
+ * Gusfield's algorithm for the Gomory-Hu tree: each vertex {@code s}, but the first one, is separated from its
+ * current tree parent {@code t} by a minimum cut, found on the whole network by Dinic's algorithm.
+ * The vertices on the side of {@code s} that hung from {@code t} are moved below {@code s},
+ * and {@code s} takes the place of {@code t} when the parent of {@code t} is on its side too.
+ *
+ * Each cut depends on the tree left by the previous ones, so the {@code V - 1} maximum flows are sequential;
+ * they all reuse the same residual network, reset before each of them.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the capacity type
+ */
+final class Gusfield<V, WE, W>
+{
+
+    private final ResidualNetwork<V, WE, W> network;
+
+    private final Dinic<V, WE, W> dinic;
+
+    private final boolean[] sourceSide;
+
+    private final int[] queue;
+
+    public Gusfield( ResidualNetwork<V, WE, W> network )
+    {
+        this.network = network;
+
+        dinic = new Dinic<V, WE, W>( network );
+        sourceSide = new boolean[network.getOrder()];
+        queue = new int[network.getOrder()];
+    }
+
+    public GomoryHuTree<V, WE, W> findGomoryHuTree()
+    {
+        final int order = network.getOrder();
+
+        // the first vertex is the root, its own parent
+        final int[] parents = new int[order];
+        final Object[] cuts = new Object[order];
+
+        for ( int s = 1; s < order; s++ )
+        {
+            final int t = parents[s];
+
+            network.reset();
+            final W cut = dinic.findMaxFlow( s, t );
+            markSourceSide( s );
+
+            for ( int v = 0; v < order; v++ )
+            {
+                if ( v != s && sourceSide[v] && parents[v] == t )
+                {
+                    parents[v] = s;
+                }
+            }
+
+            if ( sourceSide[parents[t]] )
+            {
+                parents[s] = parents[t];
+                parents[t] = s;
+                cuts[s] = cuts[t];
+                cuts[t] = cut;
+            }
+            else
+            {
+                cuts[s] = cut;
+            }
+        }
+
+        return new GomoryHuTree<V, WE, W>( network, parents, cuts );
+    }
+
+    /**
+     * Marks the vertices still reachable from the source in the residual network.
+     */
+    private void markSourceSide( int source )
+    {
+        Arrays.fill( sourceSide, false );
+
+        int head = 0;
+        int tail = 0;
+        sourceSide[source] = true;
+        queue[tail++] = source;
+        while ( head < tail )
+        {
+            int v = queue[head++];
+            for ( int position = network.getFirstArc( v ); position < network.getLastArc( v ); position++ )
+            {
+                int arc = network.getArc( position );
+                int w = network.getTarget( arc );
+                if ( !sourceSide[w] && network.hasResidual( arc ) )
+                {
+                    sourceSide[w] = true;
+                    queue[tail++] = w;
+                }
+            }
+        }
+    }
+
+}
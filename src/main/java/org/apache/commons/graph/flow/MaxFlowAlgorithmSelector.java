@@ -36,17 +36,45 @@ public interface MaxFlowAlgorithmSelector<V, WE, W>
      *
      * @param <WO> the type of weight operations
      * @param weightOperations the class responsible for operations on weights
-     * @return the max flow calculate with Ford and Furkenson algorithm
+     * @return the max flow, with its minimum cut, calculated with the Ford-Fulkerson method
      */
-    <WO extends OrderedMonoid<W>> W applyingFordFulkerson( WO weightOperations );
+    <WO extends OrderedMonoid<W>> MaxFlowResult<V, WE, W> applyingFordFulkerson( WO weightOperations );
 
     /**
      * Calculates the maximum flow using the Edmonds-Karp algorithm.
      *
      * @param <WO> the type of weight operations
      * @param weightOperations the class responsible for operations on weights
-     * @return the max flow calculate with Edmonds and Karp algorithm
+     * @return the max flow, with its minimum cut, calculated with the Edmonds-Karp algorithm
      */
-    <WO extends OrderedMonoid<W>> W applyingEdmondsKarp( WO weightOperations );
+    <WO extends OrderedMonoid<W>> MaxFlowResult<V, WE, W> applyingEdmondsKarp( WO weightOperations );
+
+    /**
+     * Calculates the maximum flow using the FIFO push-relabel algorithm, with the gap and global relabeling heuristics.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @return the max flow, with its minimum cut, calculated with the push-relabel algorithm
+     */
+    <WO extends OrderedMonoid<W>> MaxFlowResult<V, WE, W> applyingPushRelabel( WO weightOperations );
+
+    /**
+     * Calculates the maximum flow using Dinic's algorithm, sending blocking flows along level graphs.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @return the max flow, with its minimum cut, calculated with Dinic's algorithm
+     */
+    <WO extends OrderedMonoid<W>> MaxFlowResult<V, WE, W> applyingDinic( WO weightOperations );
+
+    /**
+     * Calculates the maximum flow using Dinic's algorithm, then keeps the residual network
+     * so that the flow can be repaired, rather than recalculated, when the capacities change.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @return the session holding the max flow
+     */
+    <WO extends OrderedMonoid<W>> MaxFlowSession<V, WE, W> applyingIncrementalDinic( WO weightOperations );
 
 }
@@ -0,0 +1,170 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableSet;
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The outcome of a maximum flow algorithm: the flow value, the flow routed through each edge
+ * and the minimum cut separating the source from the target.
+ *
+ * The cut is read from the final residual network: the source side holds the vertices still reachable
+ * from the source, and the cut edges go from the source side to the other one, all saturated.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the Graph weight type
+ */
+public final class MaxFlowResult<V, WE, W>
+{
+
+    private final W maxFlow;
+
+    private final Object[] edges;
+
+    private final Object[] flows;
+
+    private final Set<V> sourceSide;
+
+    private final Set<WE> cutEdges;
+
+    private volatile Map<WE, Integer> edgeIndexes;
+
+    MaxFlowResult( ResidualNetwork<V, WE, W> network, int source, W maxFlow )
+    {
+        this.maxFlow = maxFlow;
+
+        edges = new Object[network.getEdgeCount()];
+        flows = new Object[network.getEdgeCount()];
+        for ( int edge = 0; edge < edges.length; edge++ )
+        {
+            edges[edge] = network.getEdge( edge );
+            flows[edge] = network.getFlow( edge );
+        }
+
+        final boolean[] reached = new boolean[network.getOrder()];
+        final int[] queue = new int[network.getOrder()];
+        int head = 0;
+        int tail = 0;
+        reached[source] = true;
+        queue[tail++] = source;
+        while ( head < tail )
+        {
+            int v = queue[head++];
+            for ( int position = network.getFirstArc( v ); position < network.getLastArc( v ); position++ )
+            {
+                int arc = network.getArc( position );
+                int w = network.getTarget( arc );
+                if ( !reached[w] && network.hasResidual( arc ) )
+                {
+                    reached[w] = true;
+                    queue[tail++] = w;
+                }
+            }
+        }
+
+        sourceSide = new LinkedHashSet<V>();
+        for ( int i = 0; i < tail; i++ )
+        {
+            sourceSide.add( network.getVertex( queue[i] ) );
+        }
+
+        cutEdges = new LinkedHashSet<WE>();
+        for ( int edge = 0; edge < edges.length; edge++ )
+        {
+            // forward arcs are the even ones
+            if ( reached[network.getSource( 2 * edge )] && !reached[network.getTarget( 2 * edge )] )
+            {
+                cutEdges.add( network.getEdge( edge ) );
+            }
+        }
+    }
+
+    /**
+     * @return the maximum flow value, equal to the capacity of the minimum cut
+     */
+    public W getMaxFlow()
+    {
+        return maxFlow;
+    }
+
+    /**
+     * Returns the flow routed through the input edge.
+     *
+     * @param edge the edge of the flow network
+     * @return the flow routed through the edge, between zero and the edge capacity
+     */
+    @SuppressWarnings( "unchecked" ) // only W instances are stored
+    public W getFlow( WE edge )
+    {
+        Integer index = getEdgeIndexes().get( edge );
+        checkArgument( index != null, "Edge %s is not in the flow network", edge );
+        return (W) flows[index];
+    }
+
+    /**
+     * @return the vertices on the source side of the minimum cut
+     */
+    public Set<V> getSourceSide()
+    {
+        return unmodifiableSet( sourceSide );
+    }
+
+    /**
+     * @return the edges crossing the minimum cut, from the source side to the target side
+     */
+    public Set<WE> getCutEdges()
+    {
+        return unmodifiableSet( cutEdges );
+    }
+
+    @SuppressWarnings( "unchecked" ) // only WE instances are stored
+    private Map<WE, Integer> getEdgeIndexes()
+    {
+        Map<WE, Integer> indexes = edgeIndexes;
+        if ( indexes == null )
+        {
+            indexes = new HashMap<WE, Integer>( edges.length * 4 / 3 + 1 );
+            for ( int i = 0; i < edges.length; i++ )
+            {
+                indexes.put( (WE) edges[i], i );
+            }
+            edgeIndexes = indexes;
+        }
+        return indexes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return format( "MaxFlowResult [maxFlow=%s, sourceSide=%s, cutEdges=%s]", maxFlow, sourceSide, cutEdges );
+    }
+
+}
@@ -0,0 +1,173 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A maximum flow kept up to date while the capacities of the network change.
+ *
+ * When a capacity grows, the current flow is still feasible and it is only augmented.
+ * When a capacity drops below the flow routed through the edge, the flow in excess is first rerouted
+ * from the edge head to its tail; what can not be rerouted is pushed back to the source from the edge head,
+ * and drawn back from the target to the edge tail, before augmenting again.
+ * In both cases only the residual network around the change is explored, instead of starting from an empty flow.
+ *
+ * Sessions are not thread safe.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the Graph weight type
+ */
+public final class MaxFlowSession<V, WE, W>
+{
+
+    private final ResidualNetwork<V, WE, W> network;
+
+    private final Dinic<V, WE, W> dinic;
+
+    private final int source;
+
+    private final int target;
+
+    private final Map<WE, Integer> edgeIndexes;
+
+    private W maxFlow;
+
+    MaxFlowSession( ResidualNetwork<V, WE, W> network, int source, int target )
+    {
+        this.network = network;
+        this.source = source;
+        this.target = target;
+
+        dinic = new Dinic<V, WE, W>( network );
+        maxFlow = dinic.findMaxFlow( source, target );
+
+        edgeIndexes = new HashMap<WE, Integer>( network.getEdgeCount() * 4 / 3 + 1 );
+        for ( int edge = 0; edge < network.getEdgeCount(); edge++ )
+        {
+            edgeIndexes.put( network.getEdge( edge ), edge );
+        }
+    }
+
+    /**
+     * @return the current maximum flow value
+     */
+    public W getMaxFlow()
+    {
+        return maxFlow;
+    }
+
+    /**
+     * @return the current flow assignment and minimum cut
+     */
+    public MaxFlowResult<V, WE, W> getResult()
+    {
+        return new MaxFlowResult<V, WE, W>( network, source, maxFlow );
+    }
+
+    /**
+     * Updates the maximum flow after the capacity of the input edge changed.
+     *
+     * @param edge the edge whose capacity changed
+     * @param newCapacity the new, non negative, edge capacity
+     * @return the new maximum flow value
+     */
+    public W capacityChanged( WE edge, W newCapacity )
+    {
+        newCapacity = checkNotNull( newCapacity, "Capacity of edge %s can not be null", edge );
+        checkArgument( network.getWeightOperations().compare( newCapacity, network.getWeightOperations().identity() ) >= 0,
+                       "Edge %s can not have a negative capacity", edge );
+        Integer index = edgeIndexes.get( edge );
+        checkArgument( index != null, "Edge %s is not in the flow network", edge );
+
+        final int forwardArc = 2 * index;
+        final W flow = network.getFlow( index );
+        final W excess = network.minus( flow, newCapacity );
+
+        if ( !network.isPositive( excess ) )
+        {
+            network.setResidual( forwardArc, network.minus( newCapacity, flow ) );
+        }
+        else
+        {
+            network.setResidual( forwardArc, network.getWeightOperations().identity() );
+            network.setResidual( forwardArc + 1, newCapacity );
+
+            final int head = network.getSource( forwardArc );
+            final int tail = network.getTarget( forwardArc );
+
+            // the head now receives more than it sends, the tail sends more than it receives
+            if ( head != tail )
+            {
+                W remaining = network.minus( excess, dinic.sendFlow( head, tail, excess ) );
+
+                // the source and the target do not need to conserve the flow
+                if ( network.isPositive( remaining ) && head != source && head != target )
+                {
+                    dinic.sendFlow( head, source, remaining );
+                }
+                if ( network.isPositive( remaining ) && tail != source && tail != target )
+                {
+                    dinic.sendFlow( target, tail, remaining );
+                }
+            }
+        }
+
+        dinic.findMaxFlow( source, target );
+        maxFlow = netInflowOf( target );
+        return maxFlow;
+    }
+
+    private W netInflowOf( int v )
+    {
+        W inflow = network.getWeightOperations().identity();
+        for ( int position = network.getFirstArc( v ); position < network.getLastArc( v ); position++ )
+        {
+            int arc = network.getArc( position );
+            // reverse arcs leaving v belong to the edges entering it
+            if ( ( arc & 1 ) == 1 )
+            {
+                inflow = network.plus( inflow, network.getFlow( arc >> 1 ) );
+            }
+            else
+            {
+                inflow = network.minus( inflow, network.getFlow( arc >> 1 ) );
+            }
+        }
+        return inflow;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return format( "MaxFlowSession [source=%s, target=%s, maxFlow=%s]",
+                       network.getVertex( source ), network.getVertex( target ), maxFlow );
+    }
+
+}
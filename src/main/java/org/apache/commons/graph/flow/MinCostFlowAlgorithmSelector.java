@@ -0,0 +1,46 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Minimum cost maximum flow algorithm selector.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the cost type
+ */
+public interface MinCostFlowAlgorithmSelector<V, WE, W>
+{
+
+    /**
+     * Calculates the maximum flow of minimum cost, sending flow along successive shortest paths,
+     * found by Dijkstra's algorithm on costs made non negative by Johnson's potentials.
+     *
+     * Negative costs are allowed, as long as they do not form a cycle of negative cost.
+     *
+     * @param <WO> the type of cost operations
+     * @param costOperations the class responsible for operations on costs
+     * @return the flow assignment, with its total cost
+     */
+    <WO extends OrderedMonoid<W>> MinCostFlowResult<V, WE, W> applyingSuccessiveShortestPaths( WO costOperations );
+
+}
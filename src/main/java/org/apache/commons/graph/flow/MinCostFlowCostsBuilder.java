@@ -0,0 +1,43 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.Mapper;
+
+/**
+ * Builder to specify how much it costs to send a unit of flow through each edge of the network.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ */
+public interface MinCostFlowCostsBuilder<V, WE>
+{
+
+    /**
+     * Specifies the edges costs per unit of flow.
+     *
+     * @param <W> the cost type
+     * @param <M> the costs mapper type
+     * @param costs the function mapping each edge to its cost per unit of flow
+     * @return the flow source selector
+     */
+    <W, M extends Mapper<WE, W>> MinCostFlowSourceSelector<V, WE, W> whereEdgesHaveCosts( M costs );
+
+}
@@ -0,0 +1,98 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+
+import java.util.Set;
+
+/**
+ * The outcome of a minimum cost maximum flow algorithm: the maximum flow, routed so that its total cost is minimum.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the cost type
+ */
+public final class MinCostFlowResult<V, WE, W>
+{
+
+    private final MaxFlowResult<V, WE, Long> maxFlow;
+
+    private final W totalCost;
+
+    MinCostFlowResult( MaxFlowResult<V, WE, Long> maxFlow, W totalCost )
+    {
+        this.maxFlow = maxFlow;
+        this.totalCost = totalCost;
+    }
+
+    /**
+     * @return the maximum flow value
+     */
+    public Long getMaxFlow()
+    {
+        return maxFlow.getMaxFlow();
+    }
+
+    /**
+     * @return the sum, over all the edges, of the edge cost times the flow routed through it
+     */
+    public W getTotalCost()
+    {
+        return totalCost;
+    }
+
+    /**
+     * Returns the flow routed through the input edge.
+     *
+     * @param edge the edge of the flow network
+     * @return the flow routed through the edge, between zero and the edge capacity
+     */
+    public Long getFlow( WE edge )
+    {
+        return maxFlow.getFlow( edge );
+    }
+
+    /**
+     * @return the vertices on the source side of the minimum cut
+     */
+    public Set<V> getSourceSide()
+    {
+        return maxFlow.getSourceSide();
+    }
+
+    /**
+     * @return the edges crossing the minimum cut, from the source side to the target side
+     */
+    public Set<WE> getCutEdges()
+    {
+        return maxFlow.getCutEdges();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return format( "MinCostFlowResult [maxFlow=%s, totalCost=%s]", maxFlow.getMaxFlow(), totalCost );
+    }
+
+}
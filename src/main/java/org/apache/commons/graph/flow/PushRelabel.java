@@ -0,0 +1,254 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+
+/**
+ * FIFO push-relabel maximum flow algorithm, with the gap and the global relabeling heuristics.
+ *
+ * The preflow is discharged until no vertex has excess left, so the final state is a valid flow:
+ * excess that can not reach the target is pushed back to the source, whose height is the number of vertices.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the Graph weight type
+ */
+final class PushRelabel<V, WE, W>
+{
+
+    private final ResidualNetwork<V, WE, W> network;
+
+    private final int source;
+
+    private final int target;
+
+    private final int order;
+
+    private final int[] heights;
+
+    private final int[] heightCounts;
+
+    private final int[] currentArcs;
+
+    private final Object[] excesses;
+
+    // FIFO queue of the active vertices, each one enqueued at most once
+    private final int[] active;
+
+    private final boolean[] enqueued;
+
+    private int activeHead;
+
+    private int activeCount;
+
+    private int relabels;
+
+    public PushRelabel( ResidualNetwork<V, WE, W> network, int source, int target )
+    {
+        this.network = network;
+        this.source = source;
+        this.target = target;
+
+        order = network.getOrder();
+        heights = new int[order];
+        heightCounts = new int[2 * order + 1];
+        currentArcs = new int[order];
+        excesses = new Object[order];
+        active = new int[order];
+        enqueued = new boolean[order];
+    }
+
+    /**
+     * Routes the maximum flow from the source to the target through the residual network.
+     *
+     * @return the maximum flow value
+     */
+    W findMaxFlow()
+    {
+        Arrays.fill( excesses, network.getWeightOperations().identity() );
+
+        if ( source == target )
+        {
+            return network.getWeightOperations().identity();
+        }
+
+        for ( int position = network.getFirstArc( source ); position < network.getLastArc( source ); position++ )
+        {
+            int arc = network.getArc( position );
+            int w = network.getTarget( arc );
+            if ( w != source && network.hasResidual( arc ) )
+            {
+                send( arc, w, network.getResidual( arc ) );
+            }
+        }
+
+        globalRelabel();
+
+        while ( activeCount > 0 )
+        {
+            int v = active[activeHead];
+            activeHead = ( activeHead + 1 ) % order;
+            activeCount--;
+            enqueued[v] = false;
+
+            discharge( v );
+
+            // heights drift from the exact distances while relabeling, recompute them from time to time
+            if ( relabels >= order )
+            {
+                globalRelabel();
+            }
+        }
+
+        return excessOf( target );
+    }
+
+    private void discharge( int v )
+    {
+        while ( network.isPositive( excessOf( v ) ) )
+        {
+            if ( currentArcs[v] == network.getLastArc( v ) )
+            {
+                relabel( v );
+                currentArcs[v] = network.getFirstArc( v );
+                continue;
+            }
+
+            int arc = network.getArc( currentArcs[v] );
+            int w = network.getTarget( arc );
+            if ( heights[v] == heights[w] + 1 && network.hasResidual( arc ) )
+            {
+                W delta = network.min( excessOf( v ), network.getResidual( arc ) );
+                excesses[v] = network.minus( excessOf( v ), delta );
+                send( arc, w, delta );
+            }
+            else
+            {
+                currentArcs[v]++;
+            }
+        }
+    }
+
+    private void send( int arc, int w, W delta )
+    {
+        network.push( arc, delta );
+        excesses[w] = network.plus( excessOf( w ), delta );
+
+        if ( w != source && w != target && !enqueued[w] )
+        {
+            active[( activeHead + activeCount ) % order] = w;
+            activeCount++;
+            enqueued[w] = true;
+        }
+    }
+
+    private void relabel( int v )
+    {
+        int oldHeight = heights[v];
+
+        int newHeight = 2 * order;
+        for ( int position = network.getFirstArc( v ); position < network.getLastArc( v ); position++ )
+        {
+            int arc = network.getArc( position );
+            if ( network.hasResidual( arc ) )
+            {
+                newHeight = Math.min( newHeight, heights[network.getTarget( arc )] + 1 );
+            }
+        }
+
+        setHeight( v, newHeight );
+        relabels++;
+
+        // gap heuristic: vertices above an empty height can not reach the target anymore
+        if ( heightCounts[oldHeight] == 0 && oldHeight < order )
+        {
+            for ( int u = 0; u < order; u++ )
+            {
+                if ( u != source && heights[u] > oldHeight && heights[u] < order )
+                {
+                    setHeight( u, order + 1 );
+                    currentArcs[u] = network.getFirstArc( u );
+                }
+            }
+        }
+    }
+
+    private void setHeight( int v, int height )
+    {
+        heightCounts[heights[v]]--;
+        heights[v] = height;
+        heightCounts[height]++;
+    }
+
+    /**
+     * Sets the heights to the exact residual distances to the target or, for the vertices that can not reach it,
+     * to the number of vertices plus the residual distance to the source.
+     */
+    private void globalRelabel()
+    {
+        Arrays.fill( heights, 2 * order );
+        heights[target] = 0;
+        heights[source] = order;
+
+        final int[] queue = new int[order];
+        int tail = 0;
+        queue[tail++] = target;
+        tail = reverseBreadthFirstSearch( queue, 0, tail );
+        int head = tail;
+        queue[tail++] = source;
+        reverseBreadthFirstSearch( queue, head, tail );
+
+        Arrays.fill( heightCounts, 0 );
+        for ( int v = 0; v < order; v++ )
+        {
+            heightCounts[heights[v]]++;
+            currentArcs[v] = network.getFirstArc( v );
+        }
+        relabels = 0;
+    }
+
+    private int reverseBreadthFirstSearch( int[] queue, int head, int tail )
+    {
+        while ( head < tail )
+        {
+            int u = queue[head++];
+            for ( int position = network.getFirstArc( u ); position < network.getLastArc( u ); position++ )
+            {
+                int arc = network.getArc( position );
+                int w = network.getTarget( arc );
+                // w can reach u if the paired arc has residual capacity
+                if ( heights[w] == 2 * order && network.hasResidual( arc ^ 1 ) )
+                {
+                    heights[w] = heights[u] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        return tail;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored
+    private W excessOf( int v )
+    {
+        return (W) excesses[v];
+    }
+
+}
@@ -0,0 +1,277 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+import static org.apache.commons.graph.utils.Assertions.checkState;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Compact residual network of a flow network, built once in O(V + E).
+ *
+ * Each edge {@code i} of the input graph is split into the forward arc {@code 2i}, from the edge head to its tail,
+ * and the reverse arc {@code 2i + 1}, so that the paired arc of any arc {@code a} is {@code a ^ 1}.
+ * The arcs leaving each vertex are stored contiguously, and the residual capacity of the reverse arc
+ * is the flow currently routed through the edge.
+ *
+ * Edges of undirected graphs can carry flow both ways, so their reverse arcs start with the edge capacity as well:
+ * the flow of such edges is then shifted by their capacity.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the Graph weight type
+ */
+final class ResidualNetwork<V, WE, W>
+{
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final Object[] vertices;
+
+    private final Map<V, Integer> indexes;
+
+    private final Object[] edges;
+
+    private final int[] offsets;
+
+    private final int[] arcs;
+
+    private final int[] targets;
+
+    private final Object[] residuals;
+
+    private final Object[] capacities;
+
+    public ResidualNetwork( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations )
+    {
+        this.weightOperations = weightOperations;
+
+        final int order = graph.getOrder();
+        vertices = new Object[order];
+        indexes = new HashMap<V, Integer>( order * 4 / 3 + 1 );
+        for ( V vertex : graph.getVertices() )
+        {
+            vertices[indexes.size()] = vertex;
+            indexes.put( vertex, indexes.size() );
+        }
+
+        final int size = graph.getSize();
+        edges = new Object[size];
+        targets = new int[2 * size];
+        residuals = new Object[2 * size];
+        offsets = new int[order + 1];
+
+        final boolean undirected = !( graph instanceof DirectedGraph );
+        int edge = 0;
+        for ( WE e : graph.getEdges() )
+        {
+            VertexPair<V> edgeVertices = graph.getVertices( e );
+            int head = indexes.get( edgeVertices.getHead() );
+            int tail = indexes.get( edgeVertices.getTail() );
+
+            edges[edge] = e;
+            targets[2 * edge] = tail;
+            targets[2 * edge + 1] = head;
+            residuals[2 * edge] = checkNotNull( weightedEdges.map( e ), "Edge %s has no capacity", e );
+            residuals[2 * edge + 1] = undirected ? residuals[2 * edge] : weightOperations.identity();
+
+            offsets[head + 1]++;
+            offsets[tail + 1]++;
+            edge++;
+        }
+
+        for ( int v = 0; v < order; v++ )
+        {
+            offsets[v + 1] += offsets[v];
+        }
+
+        capacities = residuals.clone();
+
+        // the source of an arc is the target of its paired arc
+        arcs = new int[2 * size];
+        final int[] next = new int[order];
+        System.arraycopy( offsets, 0, next, 0, order );
+        for ( int arc = 0; arc < 2 * size; arc++ )
+        {
+            arcs[next[targets[arc ^ 1]]++] = arc;
+        }
+    }
+
+    /**
+     * Removes all the flow routed through the network, restoring the initial residual capacities.
+     */
+    void reset()
+    {
+        System.arraycopy( capacities, 0, residuals, 0, residuals.length );
+    }
+
+    /**
+     * @return the weight operations the residual capacities are calculated with
+     */
+    OrderedMonoid<W> getWeightOperations()
+    {
+        return weightOperations;
+    }
+
+    /**
+     * @return the number of vertices
+     */
+    int getOrder()
+    {
+        return vertices.length;
+    }
+
+    /**
+     * Returns the index of the input vertex, which has to be in the network.
+     *
+     * @param vertex the vertex
+     * @return the vertex index
+     */
+    int indexOf( V vertex )
+    {
+        Integer index = indexes.get( vertex );
+        checkState( index != null, "Vertex %s does not exist in the Graph", vertex );
+        return index;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only V instances are stored
+    V getVertex( int index )
+    {
+        return (V) vertices[index];
+    }
+
+    /**
+     * @return the number of edges, half the number of arcs
+     */
+    int getEdgeCount()
+    {
+        return edges.length;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only WE instances are stored
+    WE getEdge( int index )
+    {
+        return (WE) edges[index];
+    }
+
+    /**
+     * @param edge the edge index
+     * @return the flow currently routed through the edge, that is the residual capacity of its reverse arc
+     */
+    W getFlow( int edge )
+    {
+        return getResidual( 2 * edge + 1 );
+    }
+
+    /**
+     * @param vertex the vertex index
+     * @return the position, in the arcs array, of the first arc leaving the vertex
+     */
+    int getFirstArc( int vertex )
+    {
+        return offsets[vertex];
+    }
+
+    /**
+     * @param vertex the vertex index
+     * @return the position, in the arcs array, after the last arc leaving the vertex
+     */
+    int getLastArc( int vertex )
+    {
+        return offsets[vertex + 1];
+    }
+
+    /**
+     * @param position the position in the arcs array
+     * @return the arc at the input position
+     */
+    int getArc( int position )
+    {
+        return arcs[position];
+    }
+
+    int getTarget( int arc )
+    {
+        return targets[arc];
+    }
+
+    int getSource( int arc )
+    {
+        return targets[arc ^ 1];
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored
+    W getResidual( int arc )
+    {
+        return (W) residuals[arc];
+    }
+
+    void setResidual( int arc, W residual )
+    {
+        residuals[arc] = residual;
+    }
+
+    boolean hasResidual( int arc )
+    {
+        return isPositive( getResidual( arc ) );
+    }
+
+    /**
+     * Sends the input amount of flow along the arc, which decreases its residual capacity
+     * and increases the one of its paired arc.
+     *
+     * @param arc the arc
+     * @param amount the amount of flow
+     */
+    void push( int arc, W amount )
+    {
+        residuals[arc] = minus( getResidual( arc ), amount );
+        residuals[arc ^ 1] = plus( getResidual( arc ^ 1 ), amount );
+    }
+
+    W plus( W left, W right )
+    {
+        return weightOperations.append( left, right );
+    }
+
+    W minus( W left, W right )
+    {
+        return weightOperations.append( left, weightOperations.inverse( right ) );
+    }
+
+    W min( W left, W right )
+    {
+        return weightOperations.compare( left, right ) <= 0 ? left : right;
+    }
+
+    boolean isPositive( W weight )
+    {
+        return weightOperations.compare( weight, weightOperations.identity() ) > 0;
+    }
+
+}
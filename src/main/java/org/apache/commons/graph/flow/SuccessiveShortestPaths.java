@@ -0,0 +1,293 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.shortestpath.NegativeWeightedCycleException;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Successive shortest paths minimum cost flow algorithm: flow is always sent along a cheapest residual path,
+ * found by Dijkstra's algorithm on the reduced costs {@code cost(u, w) + p(u) - p(w)}, which Johnson's potentials
+ * {@code p} keep non negative. After each search the potentials grow by the found distances.
+ *
+ * When some cost is negative, the initial potentials are the distances calculated by the Bellman-Ford algorithm.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the cost type
+ */
+final class SuccessiveShortestPaths<V, WE, W>
+{
+
+    private final ResidualNetwork<V, WE, Long> network;
+
+    private final OrderedMonoid<W> costOperations;
+
+    private final int source;
+
+    private final int target;
+
+    private final Object[] arcCosts;
+
+    private final Object[] potentials;
+
+    private final Object[] distances;
+
+    private final int[] predecessorArcs;
+
+    private boolean negativeCosts;
+
+    public SuccessiveShortestPaths( ResidualNetwork<V, WE, Long> network, Mapper<WE, W> costs, OrderedMonoid<W> costOperations,
+                                    int source, int target )
+    {
+        this.network = network;
+        this.costOperations = costOperations;
+        this.source = source;
+        this.target = target;
+
+        arcCosts = new Object[2 * network.getEdgeCount()];
+        for ( int edge = 0; edge < network.getEdgeCount(); edge++ )
+        {
+            WE e = network.getEdge( edge );
+            checkArgument( network.getResidual( 2 * edge ) >= 0, "Edge %s can not have a negative capacity", e );
+
+            W cost = checkNotNull( costs.map( e ), "Edge %s has no cost", e );
+            arcCosts[2 * edge] = cost;
+            arcCosts[2 * edge + 1] = costOperations.inverse( cost );
+            negativeCosts |= costOperations.compare( cost, costOperations.identity() ) < 0;
+        }
+
+        potentials = new Object[network.getOrder()];
+        distances = new Object[network.getOrder()];
+        predecessorArcs = new int[network.getOrder()];
+    }
+
+    /**
+     * Routes the maximum flow of minimum cost from the source to the target through the residual network.
+     *
+     * @return the flow assignment, with its total cost
+     */
+    MinCostFlowResult<V, WE, W> findMinCostMaxFlow()
+    {
+        Arrays.fill( potentials, costOperations.identity() );
+
+        long maxFlow = 0;
+        if ( source != target )
+        {
+            if ( negativeCosts )
+            {
+                applyBellmanFord();
+            }
+
+            while ( applyDijkstra() )
+            {
+                // vertices not reached now will never be reached again, their potentials do not matter anymore
+                for ( int v = 0; v < distances.length; v++ )
+                {
+                    if ( distances[v] != null )
+                    {
+                        potentials[v] = costOperations.append( potential( v ), distance( v ) );
+                    }
+                }
+
+                long flowIncrement = Long.MAX_VALUE;
+                for ( int v = target; v != source; v = network.getSource( predecessorArcs[v] ) )
+                {
+                    flowIncrement = Math.min( flowIncrement, network.getResidual( predecessorArcs[v] ) );
+                }
+                for ( int v = target; v != source; v = network.getSource( predecessorArcs[v] ) )
+                {
+                    network.push( predecessorArcs[v], flowIncrement );
+                }
+                maxFlow += flowIncrement;
+            }
+        }
+
+        W totalCost = costOperations.identity();
+        for ( int edge = 0; edge < network.getEdgeCount(); edge++ )
+        {
+            totalCost = costOperations.append( totalCost, times( cost( 2 * edge ), network.getFlow( edge ) ) );
+        }
+
+        return new MinCostFlowResult<V, WE, W>( new MaxFlowResult<V, WE, Long>( network, source, maxFlow ), totalCost );
+    }
+
+    /**
+     * @return true if the target can be reached in the residual network
+     */
+    private boolean applyDijkstra()
+    {
+        Arrays.fill( distances, null );
+        Arrays.fill( predecessorArcs, -1 );
+
+        final PriorityQueue<Entry> open = new PriorityQueue<Entry>( 16, new Comparator<Entry>()
+        {
+
+            public int compare( Entry left, Entry right )
+            {
+                return costOperations.compare( left.distance, right.distance );
+            }
+
+        } );
+
+        distances[source] = costOperations.identity();
+        open.add( new Entry( source, costOperations.identity() ) );
+
+        while ( !open.isEmpty() )
+        {
+            Entry entry = open.remove();
+            int v = entry.vertex;
+
+            // skip stale entries of vertices already settled with a shorter distance
+            if ( entry.distance != distances[v] )
+            {
+                continue;
+            }
+
+            for ( int position = network.getFirstArc( v ); position < network.getLastArc( v ); position++ )
+            {
+                int arc = network.getArc( position );
+                if ( network.getResidual( arc ) > 0 )
+                {
+                    int w = network.getTarget( arc );
+                    W reducedCost = costOperations.append( costOperations.append( cost( arc ), potential( v ) ),
+                                                           costOperations.inverse( potential( w ) ) );
+                    W distance = costOperations.append( entry.distance, reducedCost );
+
+                    if ( distances[w] == null || costOperations.compare( distance, distance( w ) ) < 0 )
+                    {
+                        distances[w] = distance;
+                        predecessorArcs[w] = arc;
+                        open.add( new Entry( w, distance ) );
+                    }
+                }
+            }
+        }
+
+        return distances[target] != null;
+    }
+
+    /**
+     * Sets the potentials to the distances from the source, along the arcs with residual capacity.
+     */
+    private void applyBellmanFord()
+    {
+        Arrays.fill( distances, null );
+        distances[source] = costOperations.identity();
+
+        for ( int round = 0; round < network.getOrder(); round++ )
+        {
+            boolean relaxed = false;
+            for ( int arc = 0; arc < arcCosts.length; arc++ )
+            {
+                int u = network.getSource( arc );
+                int w = network.getTarget( arc );
+                if ( distances[u] != null && network.getResidual( arc ) > 0 )
+                {
+                    W distance = costOperations.append( distance( u ), cost( arc ) );
+                    if ( distances[w] == null || costOperations.compare( distance, distance( w ) ) < 0 )
+                    {
+                        distances[w] = distance;
+                        relaxed = true;
+                    }
+                }
+            }
+
+            if ( !relaxed )
+            {
+                for ( int v = 0; v < distances.length; v++ )
+                {
+                    if ( distances[v] != null )
+                    {
+                        potentials[v] = distances[v];
+                    }
+                }
+                return;
+            }
+        }
+
+        throw new NegativeWeightedCycleException( "Graph contains a negative cost cycle reachable from %s",
+                                                  network.getVertex( source ) );
+    }
+
+    /**
+     * Adds the input cost to itself as many times as the input amount of flow, by repeated doubling.
+     */
+    private W times( W cost, long flow )
+    {
+        W result = costOperations.identity();
+        W power = cost;
+        while ( flow > 0 )
+        {
+            if ( ( flow & 1 ) == 1 )
+            {
+                result = costOperations.append( result, power );
+            }
+            flow >>= 1;
+            if ( flow > 0 )
+            {
+                power = costOperations.append( power, power );
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored
+    private W cost( int arc )
+    {
+        return (W) arcCosts[arc];
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored
+    private W potential( int v )
+    {
+        return (W) potentials[v];
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored
+    private W distance( int v )
+    {
+        return (W) distances[v];
+    }
+
+    private final class Entry
+    {
+
+        private final int vertex;
+
+        private final W distance;
+
+        public Entry( int vertex, W distance )
+        {
+            this.vertex = vertex;
+            this.distance = distance;
+        }
+
+    }
+
+}
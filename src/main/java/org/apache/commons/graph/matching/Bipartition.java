@@ -0,0 +1,234 @@
+package org.apache.commons.graph.matching;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.VertexPair;
+
+/**
+ * The input graph split in its two sides, left and right, where each side is indexed by consecutive integers
+ * and the edges are stored as arcs from the left vertices, in compressed rows.
+ *
+ * The sides are found by a breadth first 2-coloring of each connected component; edge directions are ignored.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+final class Bipartition<V, E>
+{
+
+    private final Object[] leftVertices;
+
+    private final Object[] rightVertices;
+
+    // arcs of the left vertex v are the positions from offsets[v] to offsets[v + 1]
+    private final int[] offsets;
+
+    private final int[] arcSources;
+
+    private final int[] arcTargets;
+
+    private final Object[] arcEdges;
+
+    public Bipartition( Graph<V, E> graph )
+    {
+        final int order = graph.getOrder();
+        final int size = graph.getSize();
+
+        final Object[] vertices = new Object[order];
+        final Map<V, Integer> indexes = new HashMap<V, Integer>( order * 4 / 3 + 1 );
+        for ( V vertex : graph.getVertices() )
+        {
+            vertices[indexes.size()] = vertex;
+            indexes.put( vertex, indexes.size() );
+        }
+
+        // both ends of every edge, then the undirected adjacency in compressed rows
+        final Object[] edges = new Object[size];
+        final int[] heads = new int[size];
+        final int[] tails = new int[size];
+        final int[] adjacencyOffsets = new int[order + 1];
+        int edgeCount = 0;
+        for ( E edge : graph.getEdges() )
+        {
+            VertexPair<V> pair = graph.getVertices( edge );
+            edges[edgeCount] = edge;
+            heads[edgeCount] = indexes.get( pair.getHead() );
+            tails[edgeCount] = indexes.get( pair.getTail() );
+            if ( heads[edgeCount] == tails[edgeCount] )
+            {
+                throw new NotBipartiteGraphException( edge );
+            }
+            adjacencyOffsets[heads[edgeCount] + 1]++;
+            adjacencyOffsets[tails[edgeCount] + 1]++;
+            edgeCount++;
+        }
+        for ( int v = 0; v < order; v++ )
+        {
+            adjacencyOffsets[v + 1] += adjacencyOffsets[v];
+        }
+        final int[] adjacentEdges = new int[2 * edgeCount];
+        final int[] fill = new int[order];
+        for ( int edge = 0; edge < edgeCount; edge++ )
+        {
+            adjacentEdges[adjacencyOffsets[heads[edge]] + fill[heads[edge]]++] = edge;
+            adjacentEdges[adjacencyOffsets[tails[edge]] + fill[tails[edge]]++] = edge;
+        }
+
+        // sides[v] is 0 for unvisited vertices, 1 for left and 2 for right ones
+        final int[] sides = new int[order];
+        final int[] sideIndexes = new int[order];
+        final int[] queue = new int[order];
+        int leftCount = 0;
+        int rightCount = 0;
+        for ( int root = 0; root < order; root++ )
+        {
+            if ( sides[root] != 0 )
+            {
+                continue;
+            }
+            sides[root] = 1;
+            sideIndexes[root] = leftCount++;
+
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while ( head < tail )
+            {
+                int v = queue[head++];
+                for ( int position = adjacencyOffsets[v]; position < adjacencyOffsets[v + 1]; position++ )
+                {
+                    int edge = adjacentEdges[position];
+                    int w = heads[edge] == v ? tails[edge] : heads[edge];
+                    if ( sides[w] == 0 )
+                    {
+                        sides[w] = 3 - sides[v];
+                        sideIndexes[w] = sides[w] == 1 ? leftCount++ : rightCount++;
+                        queue[tail++] = w;
+                    }
+                    else if ( sides[w] == sides[v] )
+                    {
+                        throw new NotBipartiteGraphException( edges[edge] );
+                    }
+                }
+            }
+        }
+
+        leftVertices = new Object[leftCount];
+        rightVertices = new Object[rightCount];
+        for ( int v = 0; v < order; v++ )
+        {
+            if ( sides[v] == 1 )
+            {
+                leftVertices[sideIndexes[v]] = vertices[v];
+            }
+            else
+            {
+                rightVertices[sideIndexes[v]] = vertices[v];
+            }
+        }
+
+        offsets = new int[leftCount + 1];
+        for ( int edge = 0; edge < edgeCount; edge++ )
+        {
+            offsets[sideIndexes[leftEnd( sides, heads, tails, edge )] + 1]++;
+        }
+        for ( int v = 0; v < leftCount; v++ )
+        {
+            offsets[v + 1] += offsets[v];
+        }
+        arcSources = new int[edgeCount];
+        arcTargets = new int[edgeCount];
+        arcEdges = new Object[edgeCount];
+        final int[] next = new int[leftCount];
+        System.arraycopy( offsets, 0, next, 0, leftCount );
+        for ( int edge = 0; edge < edgeCount; edge++ )
+        {
+            int left = leftEnd( sides, heads, tails, edge );
+            int right = left == heads[edge] ? tails[edge] : heads[edge];
+            int arc = next[sideIndexes[left]]++;
+            arcSources[arc] = sideIndexes[left];
+            arcTargets[arc] = sideIndexes[right];
+            arcEdges[arc] = edges[edge];
+        }
+    }
+
+    private static int leftEnd( int[] sides, int[] heads, int[] tails, int edge )
+    {
+        return sides[heads[edge]] == 1 ? heads[edge] : tails[edge];
+    }
+
+    public int getLeftCount()
+    {
+        return leftVertices.length;
+    }
+
+    public int getRightCount()
+    {
+        return rightVertices.length;
+    }
+
+    public int getArcCount()
+    {
+        return arcEdges.length;
+    }
+
+    @SuppressWarnings( "unchecked" ) // only V instances are stored
+    public V getLeftVertex( int left )
+    {
+        return (V) leftVertices[left];
+    }
+
+    @SuppressWarnings( "unchecked" ) // only V instances are stored
+    public V getRightVertex( int right )
+    {
+        return (V) rightVertices[right];
+    }
+
+    public int getFirstArc( int left )
+    {
+        return offsets[left];
+    }
+
+    public int getLastArc( int left )
+    {
+        return offsets[left + 1];
+    }
+
+    public int getSource( int arc )
+    {
+        return arcSources[arc];
+    }
+
+    public int getTarget( int arc )
+    {
+        return arcTargets[arc];
+    }
+
+    @SuppressWarnings( "unchecked" ) // only E instances are stored
+    public E getEdge( int arc )
+    {
+        return (E) arcEdges[arc];
+    }
+
+}
@@ -0,0 +1,66 @@
+package org.apache.commons.graph.matching;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+
+/**
+ * {@link MatchingAlgorithmSelector} implementation.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+public final class DefaultMatchingAlgorithmSelector<V, E>
+    implements MatchingAlgorithmSelector<V, E>
+{
+
+    private final Graph<V, E> graph;
+
+    /**
+     * Creates a new instance of matching algorithm selector for the given graph.
+     *
+     * @param graph the bipartite graph
+     */
+    public DefaultMatchingAlgorithmSelector( Graph<V, E> graph )
+    {
+        this.graph = graph;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Matching<V, E> applyingHopcroftKarp()
+    {
+        return new HopcroftKarp<V, E>( new Bipartition<V, E>( graph ) ).findMaximumMatching();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <W, M extends Mapper<E, W>> WeightedMatchingAlgorithmSelector<V, E, W> whereEdgesHaveWeights( M weightedEdges )
+    {
+        weightedEdges = checkNotNull( weightedEdges, "Function to calculate edges weight can not be null." );
+        return new DefaultWeightedMatchingAlgorithmSelector<V, E, W>( graph, weightedEdges );
+    }
+
+}
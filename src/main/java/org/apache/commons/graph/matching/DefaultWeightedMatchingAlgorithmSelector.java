@@ -0,0 +1,59 @@
+package org.apache.commons.graph.matching;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * {@link WeightedMatchingAlgorithmSelector} implementation.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the weight type
+ */
+final class DefaultWeightedMatchingAlgorithmSelector<V, WE, W>
+    implements WeightedMatchingAlgorithmSelector<V, WE, W>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    public DefaultWeightedMatchingAlgorithmSelector( Graph<V, WE> graph, Mapper<WE, W> weightedEdges )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> WeightedMatching<V, WE, W> applyingHungarian( WO weightOperations )
+    {
+        checkNotNull( weightOperations, "Weight operations can not be null to find the minimum weight matching" );
+        return new Hungarian<V, WE, W>( new Bipartition<V, WE>( graph ), weightedEdges, weightOperations )
+                        .findMinimumWeightMaximumMatching();
+    }
+
+}
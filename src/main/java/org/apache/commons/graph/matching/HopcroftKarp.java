@@ -0,0 +1,199 @@
+package org.apache.commons.graph.matching;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Arrays;
+
+/**
+ * Hopcroft-Karp's maximum bipartite matching algorithm: each phase finds, by a breadth first search
+ * from all the free left vertices, the length of the shortest augmenting paths, then augments
+ * along a maximal set of vertex disjoint shortest paths, found by depth first searches on the layers.
+ * At most {@code O(sqrt(V))} phases are needed, so the matching is found in {@code O(E sqrt(V))}.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+final class HopcroftKarp<V, E>
+{
+
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final Bipartition<V, E> bipartition;
+
+    // the arc matching each left vertex, and the left vertex matching each right one, or -1
+    private final int[] matchedArcs;
+
+    private final int[] mates;
+
+    private final int[] layers;
+
+    // the layer of the left vertices adjacent to the closest free right vertices
+    private int lastLayer;
+
+    private final int[] currentArcs;
+
+    // the breadth first search queue, then the left vertices of the path being explored
+    private final int[] stack;
+
+    public HopcroftKarp( Bipartition<V, E> bipartition )
+    {
+        this.bipartition = bipartition;
+
+        matchedArcs = new int[bipartition.getLeftCount()];
+        mates = new int[bipartition.getRightCount()];
+        layers = new int[bipartition.getLeftCount()];
+        currentArcs = new int[bipartition.getLeftCount()];
+        stack = new int[bipartition.getLeftCount()];
+    }
+
+    public Matching<V, E> findMaximumMatching()
+    {
+        Arrays.fill( matchedArcs, -1 );
+        Arrays.fill( mates, -1 );
+
+        // a greedy matching saves the first phases most of the work
+        for ( int left = 0; left < matchedArcs.length; left++ )
+        {
+            for ( int arc = bipartition.getFirstArc( left ); arc < bipartition.getLastArc( left ); arc++ )
+            {
+                if ( mates[bipartition.getTarget( arc )] < 0 )
+                {
+                    match( arc );
+                    break;
+                }
+            }
+        }
+
+        while ( buildLayers() )
+        {
+            for ( int left = 0; left < matchedArcs.length; left++ )
+            {
+                currentArcs[left] = bipartition.getFirstArc( left );
+            }
+            for ( int left = 0; left < matchedArcs.length; left++ )
+            {
+                if ( matchedArcs[left] < 0 )
+                {
+                    augment( left );
+                }
+            }
+        }
+
+        return new Matching<V, E>( bipartition, matchedArcs );
+    }
+
+    private void match( int arc )
+    {
+        matchedArcs[bipartition.getSource( arc )] = arc;
+        mates[bipartition.getTarget( arc )] = bipartition.getSource( arc );
+    }
+
+    /**
+     * Layers the left vertices by their alternating distance from the free ones.
+     *
+     * @return true if a free right vertex can be reached, so that an augmenting path exists
+     */
+    private boolean buildLayers()
+    {
+        Arrays.fill( layers, UNREACHED );
+
+        int head = 0;
+        int tail = 0;
+        for ( int left = 0; left < matchedArcs.length; left++ )
+        {
+            if ( matchedArcs[left] < 0 )
+            {
+                layers[left] = 0;
+                stack[tail++] = left;
+            }
+        }
+
+        lastLayer = UNREACHED;
+        while ( head < tail )
+        {
+            int left = stack[head++];
+            if ( layers[left] >= lastLayer )
+            {
+                break;
+            }
+            for ( int arc = bipartition.getFirstArc( left ); arc < bipartition.getLastArc( left ); arc++ )
+            {
+                int mate = mates[bipartition.getTarget( arc )];
+                if ( mate < 0 )
+                {
+                    lastLayer = layers[left];
+                }
+                else if ( layers[mate] == UNREACHED )
+                {
+                    layers[mate] = layers[left] + 1;
+                    stack[tail++] = mate;
+                }
+            }
+        }
+
+        return lastLayer != UNREACHED;
+    }
+
+    /**
+     * Looks for a shortest augmenting path from the input free left vertex, and augments the matching along it.
+     */
+    private void augment( int root )
+    {
+        int depth = 0;
+        stack[0] = root;
+        while ( depth >= 0 )
+        {
+            int left = stack[depth];
+
+            if ( currentArcs[left] == bipartition.getLastArc( left ) )
+            {
+                // dead end, no other path will go through this vertex in this phase
+                layers[left] = UNREACHED;
+                if ( --depth >= 0 )
+                {
+                    currentArcs[stack[depth]]++;
+                }
+                continue;
+            }
+
+            int mate = mates[bipartition.getTarget( currentArcs[left] )];
+            if ( mate < 0 )
+            {
+                // flip the path, each left vertex is now matched through its current arc
+                for ( int i = depth; i >= 0; i-- )
+                {
+                    match( currentArcs[stack[i]] );
+                }
+                return;
+            }
+
+            // shortest paths end at the last layer
+            if ( layers[left] < lastLayer && layers[mate] == layers[left] + 1 )
+            {
+                stack[++depth] = mate;
+            }
+            else
+            {
+                currentArcs[left]++;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,290 @@
+package org.apache.commons.graph.matching;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * The Hungarian method, in its shortest augmenting paths form for sparse graphs: the matching always grows
+ * along the cheapest alternating path from any free left vertex to a free right one, found by Dijkstra's algorithm
+ * on the reduced weights {@code w(u, v) + p(u) - p(v)}, which the potentials {@code p} keep non negative.
+ * After each search the potentials grow by the found distances, so that matched edges have zero reduced weight.
+ *
+ * Paths start from a virtual source, linked to the free left vertices, and end to a virtual sink, linked
+ * from the free right vertices, so that the potentials of both ends are taken into account.
+ * Negative weights are supported: the initial potential of each right vertex is the lightest weight reaching it.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the weight type
+ */
+final class Hungarian<V, WE, W>
+{
+
+    private final Bipartition<V, WE> bipartition;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final Object[] arcWeights;
+
+    // left vertices first, then right ones, then the sink
+    private final Object[] potentials;
+
+    private final int sink;
+
+    private final Object[] distances;
+
+    private final boolean[] settled;
+
+    // the arc matching each left vertex, and the left vertex matching each right one, or -1
+    private final int[] matchedArcs;
+
+    private final int[] mates;
+
+    private final int[] predecessorArcs;
+
+    public Hungarian( Bipartition<V, WE> bipartition, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations )
+    {
+        this.bipartition = bipartition;
+        this.weightOperations = weightOperations;
+
+        final int leftCount = bipartition.getLeftCount();
+        final int order = leftCount + bipartition.getRightCount() + 1;
+        sink = order - 1;
+
+        arcWeights = new Object[bipartition.getArcCount()];
+        potentials = new Object[order];
+        Arrays.fill( potentials, weightOperations.identity() );
+        for ( int arc = 0; arc < arcWeights.length; arc++ )
+        {
+            WE edge = bipartition.getEdge( arc );
+            W weight = checkNotNull( weightedEdges.map( edge ), "Edge %s has no weight", edge );
+            arcWeights[arc] = weight;
+
+            int right = leftCount + bipartition.getTarget( arc );
+            if ( weightOperations.compare( weight, potential( right ) ) < 0 )
+            {
+                potentials[right] = weight;
+            }
+            // the sink potential can not be greater than the free right vertices ones
+            if ( weightOperations.compare( weight, potential( sink ) ) < 0 )
+            {
+                potentials[sink] = weight;
+            }
+        }
+
+        distances = new Object[order];
+        settled = new boolean[order];
+        matchedArcs = new int[leftCount];
+        mates = new int[bipartition.getRightCount()];
+        predecessorArcs = new int[bipartition.getRightCount()];
+    }
+
+    public WeightedMatching<V, WE, W> findMinimumWeightMaximumMatching()
+    {
+        Arrays.fill( matchedArcs, -1 );
+        Arrays.fill( mates, -1 );
+
+        while ( augment() )
+        {
+            // each augmentation matches one more edge
+        }
+
+        W weight = weightOperations.identity();
+        for ( int arc : matchedArcs )
+        {
+            if ( arc >= 0 )
+            {
+                weight = weightOperations.append( weight, arcWeight( arc ) );
+            }
+        }
+
+        return new WeightedMatching<V, WE, W>( new Matching<V, WE>( bipartition, matchedArcs ), weight );
+    }
+
+    /**
+     * Augments the matching along the cheapest alternating path.
+     *
+     * @return true if the matching has been augmented, false if it is maximum
+     */
+    private boolean augment()
+    {
+        final int leftCount = bipartition.getLeftCount();
+
+        Arrays.fill( distances, null );
+        Arrays.fill( settled, false );
+
+        final PriorityQueue<Entry> open = new PriorityQueue<Entry>( 16, new Comparator<Entry>()
+        {
+
+            public int compare( Entry left, Entry right )
+            {
+                return weightOperations.compare( left.distance, right.distance );
+            }
+
+        } );
+
+        // the free left vertices are reached from a virtual source, whose potential stays at the identity
+        for ( int left = 0; left < leftCount; left++ )
+        {
+            if ( matchedArcs[left] < 0 && bipartition.getFirstArc( left ) < bipartition.getLastArc( left ) )
+            {
+                distances[left] = weightOperations.inverse( potential( left ) );
+                open.add( new Entry( left, distance( left ) ) );
+            }
+        }
+
+        int freeRight = -1;
+        while ( !open.isEmpty() )
+        {
+            Entry entry = open.remove();
+            int v = entry.vertex;
+
+            // skip stale entries of vertices already settled
+            if ( settled[v] )
+            {
+                continue;
+            }
+            settled[v] = true;
+
+            if ( v == sink )
+            {
+                break;
+            }
+
+            if ( v >= leftCount )
+            {
+                int mate = mates[v - leftCount];
+                if ( mate < 0 )
+                {
+                    W candidate = weightOperations.append( entry.distance, weightOperations.append( potential( v ),
+                                                           weightOperations.inverse( potential( sink ) ) ) );
+                    if ( distance( sink ) == null || weightOperations.compare( candidate, distance( sink ) ) < 0 )
+                    {
+                        distances[sink] = candidate;
+                        freeRight = v - leftCount;
+                        open.add( new Entry( sink, candidate ) );
+                    }
+                    continue;
+                }
+
+                // the matched edge, backwards, has zero reduced weight
+                if ( !settled[mate] && ( distance( mate ) == null || weightOperations.compare( entry.distance, distance( mate ) ) < 0 ) )
+                {
+                    distances[mate] = entry.distance;
+                    open.add( new Entry( mate, entry.distance ) );
+                }
+                continue;
+            }
+
+            for ( int arc = bipartition.getFirstArc( v ); arc < bipartition.getLastArc( v ); arc++ )
+            {
+                int w = leftCount + bipartition.getTarget( arc );
+                if ( arc == matchedArcs[v] || settled[w] )
+                {
+                    continue;
+                }
+
+                W reduced = weightOperations.append( weightOperations.append( arcWeight( arc ), potential( v ) ),
+                                                     weightOperations.inverse( potential( w ) ) );
+                W candidate = weightOperations.append( entry.distance, reduced );
+                if ( distance( w ) == null || weightOperations.compare( candidate, distance( w ) ) < 0 )
+                {
+                    distances[w] = candidate;
+                    predecessorArcs[w - leftCount] = arc;
+                    open.add( new Entry( w, candidate ) );
+                }
+            }
+        }
+
+        if ( freeRight < 0 )
+        {
+            return false;
+        }
+
+        // the search stopped at the sink: farther vertices grow by its distance
+        final W bound = distance( sink );
+        for ( int v = 0; v < potentials.length; v++ )
+        {
+            W distance = distance( v );
+            W increment = distance != null && weightOperations.compare( distance, bound ) < 0 ? distance : bound;
+            potentials[v] = weightOperations.append( potential( v ), increment );
+        }
+
+        // flip the path, back to the free left vertex it started from
+        int right = freeRight;
+        while ( true )
+        {
+            int arc = predecessorArcs[right];
+            int left = bipartition.getSource( arc );
+            int previous = matchedArcs[left];
+
+            matchedArcs[left] = arc;
+            mates[right] = left;
+
+            if ( previous < 0 )
+            {
+                return true;
+            }
+            right = bipartition.getTarget( previous );
+        }
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored
+    private W arcWeight( int arc )
+    {
+        return (W) arcWeights[arc];
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored
+    private W potential( int v )
+    {
+        return (W) potentials[v];
+    }
+
+    @SuppressWarnings( "unchecked" ) // only W instances are stored
+    private W distance( int v )
+    {
+        return (W) distances[v];
+    }
+
+    private final class Entry
+    {
+
+        private final int vertex;
+
+        private final W distance;
+
+        public Entry( int vertex, W distance )
+        {
+            this.vertex = vertex;
+            this.distance = distance;
+        }
+
+    }
+
+}
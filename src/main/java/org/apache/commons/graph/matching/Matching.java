@@ -0,0 +1,113 @@
+package org.apache.commons.graph.matching;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableSet;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A maximum matching of a bipartite graph: a largest set of edges where no two edges share a vertex.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+public final class Matching<V, E>
+{
+
+    private final Map<V, V> mates = new HashMap<V, V>();
+
+    private final Set<E> edges = new LinkedHashSet<E>();
+
+    /**
+     * @param bipartition the graph sides
+     * @param matchedArcs the arc matching each left vertex, -1 if the vertex is not matched
+     */
+    Matching( Bipartition<V, E> bipartition, int[] matchedArcs )
+    {
+        for ( int left = 0; left < matchedArcs.length; left++ )
+        {
+            int arc = matchedArcs[left];
+            if ( arc >= 0 )
+            {
+                V leftVertex = bipartition.getLeftVertex( left );
+                V rightVertex = bipartition.getRightVertex( bipartition.getTarget( arc ) );
+                mates.put( leftVertex, rightVertex );
+                mates.put( rightVertex, leftVertex );
+                edges.add( bipartition.getEdge( arc ) );
+            }
+        }
+    }
+
+    /**
+     * @return the number of matched edges
+     */
+    public int getSize()
+    {
+        return edges.size();
+    }
+
+    /**
+     * @return the matched edges
+     */
+    public Set<E> getEdges()
+    {
+        return unmodifiableSet( edges );
+    }
+
+    /**
+     * Tells whether the input vertex is an end of a matched edge.
+     *
+     * @param vertex the vertex to check
+     * @return true if the vertex is matched, false otherwise
+     */
+    public boolean isMatched( V vertex )
+    {
+        vertex = checkNotNull( vertex, "Null vertex can not be matched" );
+        return mates.containsKey( vertex );
+    }
+
+    /**
+     * Returns the vertex the input one is matched with.
+     *
+     * @param vertex the matched vertex
+     * @return the other end of the matched edge, null if the vertex is not matched
+     */
+    public V getMate( V vertex )
+    {
+        vertex = checkNotNull( vertex, "Null vertex can not be matched" );
+        return mates.get( vertex );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return format( "Matching [size=%s, edges=%s]", edges.size(), edges );
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.apache.commons.graph.matching;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.Mapper;
+
+/**
+ * Maximum bipartite matching algorithms selector.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+public interface MatchingAlgorithmSelector<V, E>
+{
+
+    /**
+     * Calculates a maximum matching using Hopcroft-Karp's algorithm.
+     *
+     * @return the maximum matching
+     * @throws NotBipartiteGraphException if the input graph is not bipartite
+     */
+    Matching<V, E> applyingHopcroftKarp();
+
+    /**
+     * Specifies the edges weight, to look for the maximum matching of minimum total weight.
+     *
+     * @param <W> the weight type
+     * @param <M> the mapper type
+     * @param weightedEdges the mapper that returns the weight of each edge
+     * @return the weighted matching algorithm selector
+     */
+    <W, M extends Mapper<E, W>> WeightedMatchingAlgorithmSelector<V, E, W> whereEdgesHaveWeights( M weightedEdges );
+
+}
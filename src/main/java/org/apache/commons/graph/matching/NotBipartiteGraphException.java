@@ -0,0 +1,44 @@
+package org.apache.commons.graph.matching;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.GraphException;
+
+/**
+ * Exception used by matching algorithms, when the vertices of the input graph
+ * can not be split in two sides such that every edge goes from a side to the other.
+ */
+public final class NotBipartiteGraphException
+    extends GraphException
+{
+
+    private static final long serialVersionUID = 2736281923105437192L;
+
+    /**
+     * Creates new instance of {@link NotBipartiteGraphException}.
+     *
+     * @param edge the edge that closes an odd cycle
+     */
+    public NotBipartiteGraphException( Object edge )
+    {
+        super( "Edge %s closes an odd cycle, the graph is not bipartite", edge );
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.apache.commons.graph.matching;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+
+import java.util.Set;
+
+/**
+ * A maximum matching of a bipartite graph whose total weight is minimum among all the maximum matchings.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the weight type
+ */
+public final class WeightedMatching<V, WE, W>
+{
+
+    private final Matching<V, WE> matching;
+
+    private final W weight;
+
+    WeightedMatching( Matching<V, WE> matching, W weight )
+    {
+        this.matching = matching;
+        this.weight = weight;
+    }
+
+    /**
+     * @return the sum of the matched edges weights
+     */
+    public W getWeight()
+    {
+        return weight;
+    }
+
+    /**
+     * @return the number of matched edges
+     */
+    public int getSize()
+    {
+        return matching.getSize();
+    }
+
+    /**
+     * @return the matched edges
+     */
+    public Set<WE> getEdges()
+    {
+        return matching.getEdges();
+    }
+
+    /**
+     * Tells whether the input vertex is an end of a matched edge.
+     *
+     * @param vertex the vertex to check
+     * @return true if the vertex is matched, false otherwise
+     */
+    public boolean isMatched( V vertex )
+    {
+        return matching.isMatched( vertex );
+    }
+
+    /**
+     * Returns the vertex the input one is matched with.
+     *
+     * @param vertex the matched vertex
+     * @return the other end of the matched edge, null if the vertex is not matched
+     */
+    public V getMate( V vertex )
+    {
+        return matching.getMate( vertex );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return format( "WeightedMatching [size=%s, weight=%s, edges=%s]", getSize(), weight, getEdges() );
+    }
+
+}
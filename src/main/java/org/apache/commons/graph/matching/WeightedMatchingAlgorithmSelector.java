@@ -0,0 +1,46 @@
+package org.apache.commons.graph.matching;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Minimum weight maximum bipartite matching algorithms selector.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ * @param <W> the weight type
+ */
+public interface WeightedMatchingAlgorithmSelector<V, WE, W>
+{
+
+    /**
+     * Calculates, among the maximum matchings, the one of minimum total weight using the Hungarian method,
+     * by successive shortest augmenting paths. The maximum weight assignment is found by mapping
+     * each edge to the inverse of its weight.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @return the minimum weight maximum matching
+     * @throws NotBipartiteGraphException if the input graph is not bipartite
+     */
+    <WO extends OrderedMonoid<W>> WeightedMatching<V, WE, W> applyingHungarian( WO weightOperations );
+
+}
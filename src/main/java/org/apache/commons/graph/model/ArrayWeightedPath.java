@@ -0,0 +1,323 @@
+package org.apache.commons.graph.model;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+import static org.apache.commons.graph.utils.Objects.eq;
+import static org.apache.commons.graph.utils.Objects.hash;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.graph.Path;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.WeightedPath;
+
+/**
+ * Immutable {@link WeightedPath} implementation, backed by plain arrays of vertices and edges,
+ * whose weight is calculated once when the path is built.
+ *
+ * Indexes needed to lookup vertices and edges are built only the first time they are needed.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> the weight type
+ */
+public final class ArrayWeightedPath<V, WE, W>
+    implements WeightedPath<V, WE, W>
+{
+
+    private static final long serialVersionUID = -4309573620413652862L;
+
+    private final V source;
+
+    private final V target;
+
+    private final Object[] vertices;
+
+    private final Object[] edges;
+
+    private final W weight;
+
+    private transient volatile Map<V, Integer> vertexIndexes;
+
+    private transient volatile Map<WE, Integer> edgeIndexes;
+
+    /**
+     * Creates a new instance of {@link ArrayWeightedPath}.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @param vertices the path vertices, from the source to the target, empty if the path has no edges
+     * @param edges the path edges, where the edge {@code i} connects the vertices {@code i} and {@code i + 1}
+     * @param weight the path weight
+     */
+    public ArrayWeightedPath( V source, V target, List<V> vertices, List<WE> edges, W weight )
+    {
+        this.source = checkNotNull( source, "Path source cannot be null" );
+        this.target = checkNotNull( target, "Path target cannot be null" );
+        vertices = checkNotNull( vertices, "Path vertices cannot be null" );
+        edges = checkNotNull( edges, "Path edges cannot be null" );
+        this.weight = checkNotNull( weight, "Path weight cannot be null" );
+
+        checkArgument( edges.isEmpty() ? vertices.isEmpty() : vertices.size() == edges.size() + 1,
+                       "A path with %s edges can not have %s vertices", edges.size(), vertices.size() );
+        checkArgument( vertices.isEmpty() || ( source.equals( vertices.get( 0 ) ) && target.equals( vertices.get( vertices.size() - 1 ) ) ),
+                       "Path vertices %s have to go from %s to %s", vertices, source, target );
+
+        this.vertices = vertices.toArray();
+        this.edges = edges.toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public V getSource()
+    {
+        return source;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public V getTarget()
+    {
+        return target;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public W getWeight()
+    {
+        return weight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Iterable<V> getVertices()
+    {
+        @SuppressWarnings( "unchecked" ) // only V instances are stored
+        List<V> list = (List<V>) unmodifiableList( asList( vertices ) );
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getOrder()
+    {
+        return vertices.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Iterable<WE> getEdges()
+    {
+        @SuppressWarnings( "unchecked" ) // only WE instances are stored
+        List<WE> list = (List<WE>) unmodifiableList( asList( edges ) );
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getSize()
+    {
+        return edges.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int getDegree( V v )
+    {
+        v = checkNotNull( v, "Impossible to get the degree of a null vertex" );
+        checkArgument( containsVertex( v ),
+                       "Impossible to get the degree of input vertex; %s not contained in this path", v );
+
+        if ( !source.equals( target ) && ( source.equals( v ) || target.equals( v ) ) )
+        {
+            return 1;
+        }
+
+        return 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Iterable<V> getConnectedVertices( V v )
+    {
+        v = checkNotNull( v, "Impossible to get the connected vertices of a null vertex" );
+
+        Integer index = getVertexIndexes().get( v );
+        checkArgument( index != null,
+                       "Impossible to get the connected vertices of input vertex; %s not contained in this path", v );
+
+        if ( index == edges.length )
+        {
+            return emptyList();
+        }
+
+        return singletonList( vertexAt( index + 1 ) );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public WE getEdge( V source, V target )
+    {
+        Integer index = getVertexIndexes().get( source );
+        if ( index == null || index == edges.length || !vertexAt( index + 1 ).equals( target ) )
+        {
+            return null;
+        }
+        return edgeAt( index );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public VertexPair<V> getVertices( WE e )
+    {
+        Integer index = getEdgeIndexes().get( e );
+        if ( index == null )
+        {
+            return null;
+        }
+        return new VertexPair<V>( vertexAt( index ), vertexAt( index + 1 ) );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean containsVertex( V v )
+    {
+        return getVertexIndexes().containsKey( v );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean containsEdge( WE e )
+    {
+        return getEdgeIndexes().containsKey( e );
+    }
+
+    @SuppressWarnings( "unchecked" ) // only V instances are stored
+    private V vertexAt( int index )
+    {
+        return (V) vertices[index];
+    }
+
+    @SuppressWarnings( "unchecked" ) // only WE instances are stored
+    private WE edgeAt( int index )
+    {
+        return (WE) edges[index];
+    }
+
+    private Map<V, Integer> getVertexIndexes()
+    {
+        Map<V, Integer> indexes = vertexIndexes;
+        if ( indexes == null )
+        {
+            indexes = new HashMap<V, Integer>( vertices.length * 4 / 3 + 1 );
+            // if the path is a cycle, the source is indexed at the beginning of the path
+            for ( int i = vertices.length - 1; i >= 0; i-- )
+            {
+                indexes.put( vertexAt( i ), i );
+            }
+            vertexIndexes = indexes;
+        }
+        return indexes;
+    }
+
+    private Map<WE, Integer> getEdgeIndexes()
+    {
+        Map<WE, Integer> indexes = edgeIndexes;
+        if ( indexes == null )
+        {
+            indexes = new HashMap<WE, Integer>( edges.length * 4 / 3 + 1 );
+            for ( int i = 0; i < edges.length; i++ )
+            {
+                indexes.put( edgeAt( i ), i );
+            }
+            edgeIndexes = indexes;
+        }
+        return indexes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = hash( 1, prime, getEdges(), source, target, getVertices() );
+        result = prime * result + weight.hashCode();
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals( Object obj )
+    {
+        if ( this == obj )
+        {
+            return true;
+        }
+
+        if ( !( obj instanceof WeightedPath ) )
+        {
+            return false;
+        }
+
+        @SuppressWarnings( "unchecked" ) // test against any WeightedPath typed instance
+        WeightedPath<Object, Object, Object> other = (WeightedPath<Object, Object, Object>) obj;
+        return eq( source, other.getSource() )
+            && eq( target, other.getTarget() )
+            && eq( getVertices(), other.getVertices() )
+            && eq( getEdges(), other.getEdges() )
+            && eq( weight, other.getWeight() );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return format( "ArrayWeightedPath [weight=%s, vertices=%s, edges=%s]", weight, getVertices(), getEdges() );
+    }
+
+}
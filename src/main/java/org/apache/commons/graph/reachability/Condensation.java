@@ -0,0 +1,308 @@
+package org.apache.commons.graph.reachability;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.graph.DirectedGraph;
+
+/**
+ * The condensation of a directed graph: the DAG where each strongly connected component is collapsed
+ * into a single node, computed by an iterative Tarjan's algorithm on primitive arrays.
+ *
+ * Components are numbered in the order Tarjan's algorithm completes them, that is a reverse topological order:
+ * every edge of the condensation goes from a component to a component with a lower index.
+ *
+ * @param <V> the Graph vertices type
+ */
+final class Condensation<V>
+{
+
+    private final List<V> vertices;
+
+    private final Map<V, Integer> vertexIndexes;
+
+    /** The component of each vertex, by vertex index. */
+    private final int[] componentOf;
+
+    private final int componentCount;
+
+    /** The members of component {@code c} are {@code members[memberOffsets[c] .. memberOffsets[c + 1]]}. */
+    private final int[] memberOffsets;
+
+    private final int[] members;
+
+    /** The successors of component {@code c} are {@code successors[successorOffsets[c] .. successorOffsets[c + 1]]}. */
+    private final int[] successorOffsets;
+
+    private final int[] successors;
+
+    /** True for components with more than one vertex or with a self loop. */
+    private final boolean[] cyclic;
+
+    /**
+     * Computes the condensation of the input graph.
+     *
+     * @param graph the graph to condense
+     * @return the condensation of the input graph
+     */
+    public static <V, E> Condensation<V> condense( DirectedGraph<V, E> graph )
+    {
+        return new Condensation<V>( graph );
+    }
+
+    private <E> Condensation( DirectedGraph<V, E> graph )
+    {
+        final int order = graph.getOrder();
+
+        vertices = new ArrayList<V>( order );
+        vertexIndexes = new HashMap<V, Integer>( order * 4 / 3 + 1 );
+        for ( V vertex : graph.getVertices() )
+        {
+            vertexIndexes.put( vertex, vertices.size() );
+            vertices.add( vertex );
+        }
+
+        // vertex adjacency, as compressed rows
+        final int[] adjacencyOffsets = new int[order + 1];
+        for ( int v = 0; v < order; v++ )
+        {
+            adjacencyOffsets[v + 1] = adjacencyOffsets[v] + graph.getOutDegree( vertices.get( v ) );
+        }
+        final int[] adjacency = new int[adjacencyOffsets[order]];
+        final boolean[] selfLoop = new boolean[order];
+        for ( int v = 0; v < order; v++ )
+        {
+            int next = adjacencyOffsets[v];
+            for ( V w : graph.getOutbound( vertices.get( v ) ) )
+            {
+                int target = vertexIndexes.get( w );
+                adjacency[next++] = target;
+                selfLoop[v] |= target == v;
+            }
+        }
+
+        // iterative Tarjan's algorithm
+        componentOf = new int[order];
+        final int[] index = new int[order];
+        final int[] lowLink = new int[order];
+        Arrays.fill( index, -1 );
+        final boolean[] onStack = new boolean[order];
+        final int[] stack = new int[order];
+        int stackSize = 0;
+        final int[] callStack = new int[order];
+        final int[] nextArc = new int[order];
+        int nextIndex = 0;
+        int components = 0;
+
+        for ( int root = 0; root < order; root++ )
+        {
+            if ( index[root] != -1 )
+            {
+                continue;
+            }
+
+            int depth = 0;
+            callStack[depth] = root;
+            index[root] = lowLink[root] = nextIndex++;
+            nextArc[root] = adjacencyOffsets[root];
+            stack[stackSize++] = root;
+            onStack[root] = true;
+
+            while ( depth >= 0 )
+            {
+                final int v = callStack[depth];
+
+                if ( nextArc[v] < adjacencyOffsets[v + 1] )
+                {
+                    final int w = adjacency[nextArc[v]++];
+                    if ( index[w] == -1 )
+                    {
+                        index[w] = lowLink[w] = nextIndex++;
+                        nextArc[w] = adjacencyOffsets[w];
+                        stack[stackSize++] = w;
+                        onStack[w] = true;
+                        callStack[++depth] = w;
+                    }
+                    else if ( onStack[w] )
+                    {
+                        lowLink[v] = Math.min( lowLink[v], index[w] );
+                    }
+                    continue;
+                }
+
+                // all the arcs of v have been explored
+                if ( lowLink[v] == index[v] )
+                {
+                    int w;
+                    do
+                    {
+                        w = stack[--stackSize];
+                        onStack[w] = false;
+                        componentOf[w] = components;
+                    }
+                    while ( w != v );
+                    components++;
+                }
+
+                depth--;
+                if ( depth >= 0 )
+                {
+                    final int parent = callStack[depth];
+                    lowLink[parent] = Math.min( lowLink[parent], lowLink[v] );
+                }
+            }
+        }
+
+        componentCount = components;
+
+        // component members
+        memberOffsets = new int[components + 1];
+        for ( int v = 0; v < order; v++ )
+        {
+            memberOffsets[componentOf[v] + 1]++;
+        }
+        for ( int c = 0; c < components; c++ )
+        {
+            memberOffsets[c + 1] += memberOffsets[c];
+        }
+        members = new int[order];
+        final int[] fill = Arrays.copyOf( memberOffsets, components );
+        for ( int v = 0; v < order; v++ )
+        {
+            members[fill[componentOf[v]]++] = v;
+        }
+
+        // condensation arcs, without duplicates and self loops
+        cyclic = new boolean[components];
+        successorOffsets = new int[components + 1];
+        final int[] lastSeen = new int[components];
+        Arrays.fill( lastSeen, -1 );
+        int[] arcs = new int[Math.max( 16, components )];
+        int arcCount = 0;
+        for ( int c = 0; c < components; c++ )
+        {
+            cyclic[c] = memberOffsets[c + 1] - memberOffsets[c] > 1;
+            for ( int m = memberOffsets[c]; m < memberOffsets[c + 1]; m++ )
+            {
+                final int v = members[m];
+                cyclic[c] |= selfLoop[v];
+                for ( int a = adjacencyOffsets[v]; a < adjacencyOffsets[v + 1]; a++ )
+                {
+                    final int d = componentOf[adjacency[a]];
+                    if ( d != c && lastSeen[d] != c )
+                    {
+                        lastSeen[d] = c;
+                        if ( arcCount == arcs.length )
+                        {
+                            arcs = Arrays.copyOf( arcs, arcs.length * 2 );
+                        }
+                        arcs[arcCount++] = d;
+                    }
+                }
+            }
+            successorOffsets[c + 1] = arcCount;
+        }
+        successors = Arrays.copyOf( arcs, arcCount );
+    }
+
+    /**
+     * @return the number of strongly connected components
+     */
+    public int getComponentCount()
+    {
+        return componentCount;
+    }
+
+    /**
+     * @return the component the input vertex belongs to, -1 if the vertex is not in the graph
+     */
+    public int getComponent( V vertex )
+    {
+        Integer index = vertexIndexes.get( vertex );
+        return index == null ? -1 : componentOf[index];
+    }
+
+    /**
+     * @return the vertex to component mapping
+     */
+    public Map<V, Integer> getComponents()
+    {
+        Map<V, Integer> components = new HashMap<V, Integer>( vertices.size() * 4 / 3 + 1 );
+        for ( int v = 0; v < vertices.size(); v++ )
+        {
+            components.put( vertices.get( v ), componentOf[v] );
+        }
+        return components;
+    }
+
+    /**
+     * @return the vertex with the given index
+     */
+    public V getVertex( int index )
+    {
+        return vertices.get( index );
+    }
+
+    /**
+     * @return the offsets of each component members in {@link #getMembers()}
+     */
+    public int[] getMemberOffsets()
+    {
+        return memberOffsets;
+    }
+
+    /**
+     * @return the vertex indexes, grouped by component
+     */
+    public int[] getMembers()
+    {
+        return members;
+    }
+
+    /**
+     * @return the offsets of each component successors in {@link #getSuccessors()}
+     */
+    public int[] getSuccessorOffsets()
+    {
+        return successorOffsets;
+    }
+
+    /**
+     * @return the successor components, grouped by component
+     */
+    public int[] getSuccessors()
+    {
+        return successors;
+    }
+
+    /**
+     * @return true if the input component contains a cycle, i.e. its vertices reach themselves
+     */
+    public boolean isCyclic( int component )
+    {
+        return cyclic[component];
+    }
+
+}
@@ -0,0 +1,119 @@
+package org.apache.commons.graph.reachability;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.concurrent.Executor;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+
+/**
+ * {@link TransitiveClosureAlgorithmSelector} implementation.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+public final class DefaultTransitiveClosureAlgorithmSelector<V, E>
+    implements TransitiveClosureAlgorithmSelector<V>
+{
+
+    private final DirectedGraph<V, E> graph;
+
+    public DefaultTransitiveClosureAlgorithmSelector( DirectedGraph<V, E> graph )
+    {
+        this.graph = graph;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public DirectedGraph<V, VertexPair<V>> applyingBitsetRows()
+    {
+        return closure( new TransitiveRows<V>( Condensation.condense( graph ), null ) );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public DirectedGraph<V, VertexPair<V>> applyingBitsetRows( Executor executor )
+    {
+        executor = checkNotNull( executor, "Transitive closure can not be calculated on a null executor" );
+        return closure( new TransitiveRows<V>( Condensation.condense( graph ), executor ) );
+    }
+
+    private DirectedGraph<V, VertexPair<V>> closure( TransitiveRows<V> rows )
+    {
+        final Condensation<V> condensation = rows.getCondensation();
+        final int[] memberOffsets = condensation.getMemberOffsets();
+        final int[] members = condensation.getMembers();
+
+        final DirectedMutableGraph<V, VertexPair<V>> closure = new DirectedMutableGraph<V, VertexPair<V>>();
+        for ( V vertex : graph.getVertices() )
+        {
+            closure.addVertex( vertex );
+        }
+
+        for ( int c = 0; c < condensation.getComponentCount(); c++ )
+        {
+            final long[] row = rows.getRow( c );
+
+            for ( int m = memberOffsets[c]; m < memberOffsets[c + 1]; m++ )
+            {
+                final V head = condensation.getVertex( members[m] );
+
+                // vertices in a cycle reach the whole component, themselves included
+                if ( condensation.isCyclic( c ) )
+                {
+                    connectTo( closure, head, c, condensation );
+                }
+
+                for ( int w = 0; w < row.length; w++ )
+                {
+                    long word = row[w];
+                    while ( word != 0 )
+                    {
+                        final int d = ( w << 6 ) + Long.numberOfTrailingZeros( word );
+                        word &= word - 1;
+                        connectTo( closure, head, d, condensation );
+                    }
+                }
+            }
+        }
+
+        return closure;
+    }
+
+    private static <V> void connectTo( DirectedMutableGraph<V, VertexPair<V>> closure, V head, int component,
+                                       Condensation<V> condensation )
+    {
+        final int[] memberOffsets = condensation.getMemberOffsets();
+        final int[] members = condensation.getMembers();
+
+        for ( int m = memberOffsets[component]; m < memberOffsets[component + 1]; m++ )
+        {
+            final V tail = condensation.getVertex( members[m] );
+            closure.addEdge( head, new VertexPair<V>( head, tail ), tail );
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package org.apache.commons.graph.reachability;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+
+/**
+ * {@link TransitiveReductionAlgorithmSelector} implementation.
+ *
+ * The arcs of the condensation are reduced exactly, each kept arc being represented by one of the edges
+ * connecting the two components. Since the minimum equivalent graph of a strongly connected component
+ * is a NP-hard problem, each component is instead kept strongly connected by an out-tree and an in-tree
+ * rooted in one of its vertices, that is at most {@code 2(k - 1)} edges for a component of {@code k} vertices.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+public final class DefaultTransitiveReductionAlgorithmSelector<V, E>
+    implements TransitiveReductionAlgorithmSelector<V, E>
+{
+
+    private final DirectedGraph<V, E> graph;
+
+    public DefaultTransitiveReductionAlgorithmSelector( DirectedGraph<V, E> graph )
+    {
+        this.graph = graph;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public DirectedGraph<V, E> applyingBitsetRows()
+    {
+        return reduction( new TransitiveRows<V>( Condensation.condense( graph ), null ) );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public DirectedGraph<V, E> applyingBitsetRows( Executor executor )
+    {
+        executor = checkNotNull( executor, "Transitive reduction can not be calculated on a null executor" );
+        return reduction( new TransitiveRows<V>( Condensation.condense( graph ), executor ) );
+    }
+
+    private DirectedGraph<V, E> reduction( TransitiveRows<V> rows )
+    {
+        final Condensation<V> condensation = rows.getCondensation();
+        final long count = condensation.getComponentCount();
+
+        final DirectedMutableGraph<V, E> reduction = new DirectedMutableGraph<V, E>();
+        for ( V vertex : graph.getVertices() )
+        {
+            reduction.addVertex( vertex );
+        }
+
+        // arcs between components, each one represented by the first edge found
+        final Set<Long> representedArcs = new HashSet<Long>();
+        for ( V head : graph.getVertices() )
+        {
+            final int c = condensation.getComponent( head );
+            for ( V tail : graph.getOutbound( head ) )
+            {
+                final int d = condensation.getComponent( tail );
+                if ( c != d && !rows.isRedundant( c, d ) && representedArcs.add( c * count + d ) )
+                {
+                    reduction.addEdge( head, graph.getEdge( head, tail ), tail );
+                }
+            }
+        }
+
+        // edges within components
+        final int[] memberOffsets = condensation.getMemberOffsets();
+        final int[] members = condensation.getMembers();
+        for ( int c = 0; c < count; c++ )
+        {
+            if ( !condensation.isCyclic( c ) )
+            {
+                continue;
+            }
+
+            final V root = condensation.getVertex( members[memberOffsets[c]] );
+            if ( memberOffsets[c + 1] - memberOffsets[c] == 1 )
+            {
+                // a self loop is the only way a single vertex can reach itself
+                reduction.addEdge( root, graph.getEdge( root, root ), root );
+            }
+            else
+            {
+                connectComponent( reduction, condensation, c, root, true );
+                connectComponent( reduction, condensation, c, root, false );
+            }
+        }
+
+        return reduction;
+    }
+
+    /**
+     * Adds the edges of a breadth-first tree of the component, rooted in the given vertex.
+     *
+     * @param outbound true for the out-tree, reaching each vertex from the root,
+     *        false for the in-tree, reaching the root from each vertex
+     */
+    private void connectComponent( DirectedMutableGraph<V, E> reduction, Condensation<V> condensation, int component,
+                                   V root, boolean outbound )
+    {
+        final Set<V> visited = new HashSet<V>();
+        final Queue<V> queue = new ArrayDeque<V>();
+        visited.add( root );
+        queue.add( root );
+
+        while ( !queue.isEmpty() )
+        {
+            final V v = queue.remove();
+            for ( V w : outbound ? graph.getOutbound( v ) : graph.getInbound( v ) )
+            {
+                if ( condensation.getComponent( w ) != component || !visited.add( w ) )
+                {
+                    continue;
+                }
+
+                final V head = outbound ? v : w;
+                final V tail = outbound ? w : v;
+                if ( reduction.getEdge( head, tail ) == null )
+                {
+                    reduction.addEdge( head, graph.getEdge( head, tail ), tail );
+                }
+                queue.add( w );
+            }
+        }
+    }
+
+}
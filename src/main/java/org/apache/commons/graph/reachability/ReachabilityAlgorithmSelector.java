@@ -0,0 +1,48 @@
+package org.apache.commons.graph.reachability;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ * Allows selecting the algorithm for indexing the reachability of graph vertices.
+ *
+ * @param <V> the Graph vertices type
+ */
+public interface ReachabilityAlgorithmSelector<V>
+{
+
+    /**
+     * Builds the reachability index labeling the graph condensation with the default number
+     * of GRAIL randomized interval labelings.
+     *
+     * @return the reachability index
+     */
+    ReachabilityIndex<V> applyingGrail();
+
+    /**
+     * Builds the reachability index labeling the graph condensation with the given number
+     * of GRAIL randomized interval labelings: more labelings answer more negative queries in constant time,
+     * at the cost of {@code O(V + E)} building time and {@code O(V)} space each.
+     *
+     * @param labelings the number of interval labelings, at least one
+     * @return the reachability index
+     */
+    ReachabilityIndex<V> applyingGrail( int labelings );
+
+}
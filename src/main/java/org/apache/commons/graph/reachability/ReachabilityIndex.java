@@ -0,0 +1,276 @@
+package org.apache.commons.graph.reachability;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Precomputed reachability index of a directed graph, built on the condensation of its strongly
+ * connected components and labeled with GRAIL randomized interval labelings.
+ *
+ * Each labeling assigns to each component {@code c} the interval {@code [low(c), rank(c)]}, where {@code rank}
+ * is the post-order rank of a randomized depth-first traversal and {@code low} the lowest rank of the
+ * components reachable from {@code c}: if {@code u} reaches {@code v}, the interval of {@code v} is contained
+ * in the interval of {@code u}, so most of the negative queries are answered in constant time.
+ * The depth-first tree of the first traversal answers in constant time the positive queries between
+ * a vertex and its descendants; the remaining queries fall back to a depth-first search, pruned by the labels.
+ *
+ * The index is a snapshot: it does not reflect changes applied to the graph after it has been built.
+ *
+ * @param <V> the Graph vertices type
+ */
+public final class ReachabilityIndex<V>
+    implements Serializable
+{
+
+    private static final long serialVersionUID = 4203356420213457231L;
+
+    private final Map<V, Integer> components;
+
+    private final int[] successorOffsets;
+
+    private final int[] successors;
+
+    /** The lowest rank reachable from each component, by labeling. */
+    private final int[][] lows;
+
+    /** The post-order rank of each component, by labeling. */
+    private final int[][] ranks;
+
+    /** The pre-order rank of each component in the first traversal tree. */
+    private final int[] treePreOrder;
+
+    ReachabilityIndex( Condensation<V> condensation, int labelings, long seed )
+    {
+        components = condensation.getComponents();
+        successorOffsets = condensation.getSuccessorOffsets();
+        successors = condensation.getSuccessors();
+
+        final int count = condensation.getComponentCount();
+        lows = new int[labelings][count];
+        ranks = new int[labelings][count];
+        treePreOrder = new int[count];
+
+        final Random random = new Random( seed );
+        for ( int labeling = 0; labeling < labelings; labeling++ )
+        {
+            label( labeling, labeling == 0 ? null : random );
+        }
+    }
+
+    /**
+     * Computes the labeling with the given index by a depth-first traversal of the condensation.
+     *
+     * @param labeling the labeling index
+     * @param random the source of the traversal randomization, null to follow the components order
+     */
+    private void label( int labeling, Random random )
+    {
+        final int count = ranks[labeling].length;
+        final int[] low = lows[labeling];
+        final int[] rank = ranks[labeling];
+
+        final boolean[] visited = new boolean[count];
+        final int[] stack = new int[count];
+        final int[] nextArc = new int[count];
+        final int[] firstArc = new int[count];
+        int nextRank = 1;
+        int nextPreOrder = 0;
+
+        // sources come last in the components order, being it a reverse topological order
+        final int[] roots = new int[count];
+        for ( int i = 0; i < count; i++ )
+        {
+            roots[i] = count - 1 - i;
+        }
+        if ( random != null )
+        {
+            for ( int i = count - 1; i > 0; i-- )
+            {
+                int j = random.nextInt( i + 1 );
+                int tmp = roots[i];
+                roots[i] = roots[j];
+                roots[j] = tmp;
+            }
+        }
+
+        for ( int root : roots )
+        {
+            if ( visited[root] )
+            {
+                continue;
+            }
+
+            int depth = 0;
+            stack[0] = root;
+            visited[root] = true;
+            if ( random == null )
+            {
+                treePreOrder[root] = nextPreOrder++;
+            }
+            firstArc[root] = rotation( root, random );
+            nextArc[root] = 0;
+
+            while ( depth >= 0 )
+            {
+                final int c = stack[depth];
+                final int degree = successorOffsets[c + 1] - successorOffsets[c];
+
+                if ( nextArc[c] < degree )
+                {
+                    // children are explored starting from a random arc
+                    final int d = successors[successorOffsets[c] + ( firstArc[c] + nextArc[c]++ ) % degree];
+                    if ( !visited[d] )
+                    {
+                        visited[d] = true;
+                        if ( random == null )
+                        {
+                            treePreOrder[d] = nextPreOrder++;
+                        }
+                        firstArc[d] = rotation( d, random );
+                        nextArc[d] = 0;
+                        stack[++depth] = d;
+                    }
+                    continue;
+                }
+
+                // all the children have been labeled
+                rank[c] = nextRank++;
+                int lowest = rank[c];
+                for ( int a = successorOffsets[c]; a < successorOffsets[c + 1]; a++ )
+                {
+                    lowest = Math.min( lowest, low[successors[a]] );
+                }
+                low[c] = lowest;
+                depth--;
+            }
+        }
+    }
+
+    private int rotation( int component, Random random )
+    {
+        final int degree = successorOffsets[component + 1] - successorOffsets[component];
+        return random == null || degree == 0 ? 0 : random.nextInt( degree );
+    }
+
+    /**
+     * Checks if there is a path from the source to the target vertex; each vertex reaches itself.
+     *
+     * @param source the path source
+     * @param target the path target
+     * @return true if the target is reachable from the source, false otherwise
+     */
+    public boolean isReachable( V source, V target )
+    {
+        source = checkNotNull( source, "Reachability can not be checked from a null source" );
+        target = checkNotNull( target, "Reachability can not be checked to a null target" );
+
+        Integer sourceComponent = components.get( source );
+        checkArgument( sourceComponent != null, "Vertex %s is not in the indexed Graph", source );
+        Integer targetComponent = components.get( target );
+        checkArgument( targetComponent != null, "Vertex %s is not in the indexed Graph", target );
+
+        return isReachable( sourceComponent, targetComponent );
+    }
+
+    private boolean isReachable( int u, int v )
+    {
+        if ( u == v )
+        {
+            return true;
+        }
+
+        if ( !mayReach( u, v ) )
+        {
+            return false;
+        }
+
+        if ( isTreeAncestor( u, v ) )
+        {
+            return true;
+        }
+
+        // depth-first search, pruned by the labels
+        final BitSet visited = new BitSet( treePreOrder.length );
+        int[] stack = new int[16];
+        int size = 0;
+        stack[size++] = u;
+        visited.set( u );
+
+        while ( size > 0 )
+        {
+            final int c = stack[--size];
+            for ( int a = successorOffsets[c]; a < successorOffsets[c + 1]; a++ )
+            {
+                final int d = successors[a];
+                if ( d == v || isTreeAncestor( d, v ) )
+                {
+                    return true;
+                }
+                if ( !visited.get( d ) && mayReach( d, v ) )
+                {
+                    visited.set( d );
+                    if ( size == stack.length )
+                    {
+                        int[] grown = new int[size * 2];
+                        System.arraycopy( stack, 0, grown, 0, size );
+                        stack = grown;
+                    }
+                    stack[size++] = d;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks the containment of the {@code v} intervals in the {@code u} ones, false means that
+     * {@code u} does not reach {@code v}.
+     */
+    private boolean mayReach( int u, int v )
+    {
+        for ( int labeling = 0; labeling < ranks.length; labeling++ )
+        {
+            if ( lows[labeling][v] < lows[labeling][u] || ranks[labeling][v] > ranks[labeling][u] )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if {@code v} is a descendant of {@code u} in the first traversal tree,
+     * true means that {@code u} reaches {@code v}.
+     */
+    private boolean isTreeAncestor( int u, int v )
+    {
+        // descendants are pre-ordered after and post-ordered before their ancestors
+        return treePreOrder[u] <= treePreOrder[v] && ranks[0][v] <= ranks[0][u];
+    }
+
+}
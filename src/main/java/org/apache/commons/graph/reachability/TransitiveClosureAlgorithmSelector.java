@@ -0,0 +1,53 @@
+package org.apache.commons.graph.reachability;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.concurrent.Executor;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.VertexPair;
+
+/**
+ * Allows selecting the algorithm for calculating the transitive closure of a directed graph.
+ *
+ * @param <V> the Graph vertices type
+ */
+public interface TransitiveClosureAlgorithmSelector<V>
+{
+
+    /**
+     * Calculates the transitive closure condensing the strongly connected components, then propagating
+     * the reachability bitset rows of the components in reverse topological order.
+     *
+     * @return the graph with an edge from each vertex to each vertex it reaches through at least one edge
+     */
+    DirectedGraph<V, VertexPair<V>> applyingBitsetRows();
+
+    /**
+     * Calculates the transitive closure condensing the strongly connected components, then propagating
+     * the reachability bitset rows of the components in reverse topological order, where the rows
+     * of each topological level are computed in parallel by tasks run on the given executor.
+     *
+     * @param executor the executor the rows computation tasks are run on
+     * @return the graph with an edge from each vertex to each vertex it reaches through at least one edge
+     */
+    DirectedGraph<V, VertexPair<V>> applyingBitsetRows( Executor executor );
+
+}
@@ -0,0 +1,53 @@
+package org.apache.commons.graph.reachability;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.concurrent.Executor;
+
+import org.apache.commons.graph.DirectedGraph;
+
+/**
+ * Allows selecting the algorithm for calculating the transitive reduction of a directed graph.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+public interface TransitiveReductionAlgorithmSelector<V, E>
+{
+
+    /**
+     * Calculates the transitive reduction condensing the strongly connected components, then dropping the arcs
+     * of the condensation implied by the reachability bitset rows of the components.
+     *
+     * @return the subgraph, with the same reachability, where no edge is implied by the other ones
+     */
+    DirectedGraph<V, E> applyingBitsetRows();
+
+    /**
+     * Calculates the transitive reduction condensing the strongly connected components, then dropping the arcs
+     * of the condensation implied by the reachability bitset rows of the components, where the rows
+     * of each topological level are computed in parallel by tasks run on the given executor.
+     *
+     * @param executor the executor the rows computation tasks are run on
+     * @return the subgraph, with the same reachability, where no edge is implied by the other ones
+     */
+    DirectedGraph<V, E> applyingBitsetRows( Executor executor );
+
+}
@@ -0,0 +1,240 @@
+package org.apache.commons.graph.reachability;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import org.apache.commons.graph.GraphException;
+
+/**
+ * Reachability rows of a graph condensation: the row of each component is the bitset of the components
+ * it reaches through at least one arc, stored as {@code long} words.
+ *
+ * Rows are computed in reverse topological order, OR-ing the successors rows word by word; rows of components
+ * at the same topological level do not depend on each other, so they can be computed concurrently.
+ *
+ * Rows take {@code C * C / 8} bytes, {@code C} being the number of components.
+ *
+ * @param <V> the Graph vertices type
+ */
+final class TransitiveRows<V>
+{
+
+    /**
+     * Levels smaller than this are not split.
+     */
+    private static final int MIN_CHUNK_SIZE = 64;
+
+    /**
+     * The number of chunks per available processor, to balance the load of tasks.
+     */
+    private static final int CHUNKS_PER_PROCESSOR = 4;
+
+    private final Condensation<V> condensation;
+
+    private final int words;
+
+    private final long[][] rows;
+
+    /**
+     * Computes the reachability rows of the given condensation.
+     *
+     * @param condensation the graph condensation
+     * @param executor the executor rows are computed on, null to compute them in the caller thread
+     */
+    public TransitiveRows( Condensation<V> condensation, Executor executor )
+    {
+        this.condensation = condensation;
+
+        final int count = condensation.getComponentCount();
+        words = ( count + Long.SIZE - 1 ) / Long.SIZE;
+        rows = new long[count][];
+
+        if ( executor == null )
+        {
+            // the components order is a reverse topological order
+            computeRows( 0, count, null );
+            return;
+        }
+
+        final int[] successorOffsets = condensation.getSuccessorOffsets();
+        final int[] successors = condensation.getSuccessors();
+
+        // sinks are at level 0, any other component one level above its highest successor
+        final int[] levels = new int[count];
+        int maxLevel = 0;
+        for ( int c = 0; c < count; c++ )
+        {
+            for ( int a = successorOffsets[c]; a < successorOffsets[c + 1]; a++ )
+            {
+                levels[c] = Math.max( levels[c], levels[successors[a]] + 1 );
+            }
+            maxLevel = Math.max( maxLevel, levels[c] );
+        }
+
+        // components sorted by level
+        final int[] levelOffsets = new int[maxLevel + 2];
+        for ( int c = 0; c < count; c++ )
+        {
+            levelOffsets[levels[c] + 1]++;
+        }
+        for ( int l = 0; l <= maxLevel; l++ )
+        {
+            levelOffsets[l + 1] += levelOffsets[l];
+        }
+        final int[] byLevel = new int[count];
+        final int[] fill = new int[maxLevel + 1];
+        System.arraycopy( levelOffsets, 0, fill, 0, maxLevel + 1 );
+        for ( int c = 0; c < count; c++ )
+        {
+            byLevel[fill[levels[c]]++] = c;
+        }
+
+        final int chunks = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR;
+        for ( int l = 0; l <= maxLevel; l++ )
+        {
+            final int size = levelOffsets[l + 1] - levelOffsets[l];
+            final int chunkSize = Math.max( MIN_CHUNK_SIZE, ( size + chunks - 1 ) / chunks );
+
+            if ( size <= chunkSize )
+            {
+                computeRows( levelOffsets[l], levelOffsets[l + 1], byLevel );
+                continue;
+            }
+
+            final List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>();
+            for ( int from = levelOffsets[l]; from < levelOffsets[l + 1]; from += chunkSize )
+            {
+                final int chunkFrom = from;
+                final int chunkTo = Math.min( from + chunkSize, levelOffsets[l + 1] );
+                FutureTask<Void> task = new FutureTask<Void>( new Runnable()
+                {
+
+                    public void run()
+                    {
+                        computeRows( chunkFrom, chunkTo, byLevel );
+                    }
+
+                }, null );
+                tasks.add( task );
+                executor.execute( task );
+            }
+
+            for ( FutureTask<Void> task : tasks )
+            {
+                try
+                {
+                    task.get();
+                }
+                catch ( InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                    throw new GraphException( "Transitive rows computation has been interrupted" );
+                }
+                catch ( ExecutionException e )
+                {
+                    if ( e.getCause() instanceof RuntimeException )
+                    {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new GraphException( e.getCause() );
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the rows of the components in the given range, whose successors rows are already computed.
+     *
+     * @param from the first position, inclusive
+     * @param to the last position, exclusive
+     * @param order the components by position, null if positions are the components themselves
+     */
+    private void computeRows( int from, int to, int[] order )
+    {
+        final int[] successorOffsets = condensation.getSuccessorOffsets();
+        final int[] successors = condensation.getSuccessors();
+
+        for ( int i = from; i < to; i++ )
+        {
+            final int c = order == null ? i : order[i];
+            final long[] row = new long[words];
+            for ( int a = successorOffsets[c]; a < successorOffsets[c + 1]; a++ )
+            {
+                final int d = successors[a];
+                final long[] successorRow = rows[d];
+                for ( int w = 0; w < words; w++ )
+                {
+                    row[w] |= successorRow[w];
+                }
+                row[d >>> 6] |= 1L << d;
+            }
+            rows[c] = row;
+        }
+    }
+
+    /**
+     * @return the graph condensation
+     */
+    public Condensation<V> getCondensation()
+    {
+        return condensation;
+    }
+
+    /**
+     * @return true if the component {@code c} reaches the component {@code d} through at least one arc
+     */
+    public boolean reaches( int c, int d )
+    {
+        return ( rows[c][d >>> 6] & ( 1L << d ) ) != 0;
+    }
+
+    /**
+     * @return the reachability row of the input component
+     */
+    public long[] getRow( int c )
+    {
+        return rows[c];
+    }
+
+    /**
+     * Checks if the arc from {@code c} to its successor {@code d} is implied by other arcs,
+     * i.e. if {@code d} is reachable from another successor of {@code c}.
+     */
+    public boolean isRedundant( int c, int d )
+    {
+        final int[] successorOffsets = condensation.getSuccessorOffsets();
+        final int[] successors = condensation.getSuccessors();
+
+        for ( int a = successorOffsets[c]; a < successorOffsets[c + 1]; a++ )
+        {
+            if ( reaches( successors[a], d ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
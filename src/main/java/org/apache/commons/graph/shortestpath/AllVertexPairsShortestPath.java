@@ -19,18 +19,31 @@ package org.apache.commons.graph.shortestpath;
  * under the License.
  */
 
+import static java.lang.String.format;
+import static java.util.Arrays.fill;
+import static java.util.Collections.reverse;
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
 import org.apache.commons.graph.VertexPair;
 import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.ArrayWeightedPath;
 import org.apache.commons.graph.weight.OrderedMonoid;
 
 /**
  * Represents all shortest paths between all vertex pairs calculated by {@link FloydWarshall} algorithm.
  *
+ * Only the shortest distances and the predecessor vertices are stored, the shortest paths are rebuilt
+ * walking the predecessors when requested; an optional bounded cache keeps the most recently requested paths.
+ *
  * @param <V> the Graph vertices type
  * @param <WE> the Graph weighted edges type
  * @param <W> the weight type
@@ -38,32 +51,141 @@ import org.apache.commons.graph.weight.OrderedMonoid;
 public final class AllVertexPairsShortestPath<V, WE, W>
 {
 
-    private final Map<VertexPair<V>, WeightedPath<V, WE, W>> paths = new HashMap<VertexPair<V>, WeightedPath<V, WE, W>>();
+    private static final int NO_PREDECESSOR = -1;
+
+    private final Graph<V, WE> graph;
 
-    private final Map<VertexPair<V>, W> shortestDistances = new HashMap<VertexPair<V>, W>();
+    private final Mapper<WE, W> weightedEdges;
 
     private final OrderedMonoid<W> weightOperations;
 
+    private final List<V> vertices = new ArrayList<V>();
+
+    private final Map<V, Integer> indexes = new HashMap<V, Integer>();
+
+    /**
+     * Distances rows, a row is allocated only when a distance from its source is set.
+     */
+    private final Object[][] shortestDistances;
+
+    /**
+     * Predecessors rows, where {@code predecessors[i][j]} is the index of the vertex preceding {@code j}
+     * in the shortest path from {@code i} to {@code j}; a single row is enough to rebuild all the paths from its source.
+     */
+    private final int[][] predecessors;
+
+    private volatile PathsCache<V, WE, W> paths;
+
     /**
      * Constructor visible only inside the package
      */
-    AllVertexPairsShortestPath( OrderedMonoid<W> weightOperations )
+    AllVertexPairsShortestPath( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations )
     {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
         this.weightOperations = weightOperations;
+
+        for ( V vertex : graph.getVertices() )
+        {
+            indexes.put( vertex, vertices.size() );
+            vertices.add( vertex );
+        }
+
+        shortestDistances = new Object[vertices.size()][];
+        predecessors = new int[vertices.size()][];
     }
 
     /**
-     * @param source
-     * @param target
-     * @param weightedPath
+     * Keeps up to {@code maximumSize} of the most recently requested shortest paths,
+     * so they are not rebuilt each time they are requested.
+     *
+     * @param maximumSize the maximum number of shortest paths kept, {@code 0} disables the cache
+     * @return this data structure
      */
-    void addShortestPath( V source, V target, WeightedPath<V, WE, W> weightedPath )
+    public AllVertexPairsShortestPath<V, WE, W> cachingPaths( int maximumSize )
     {
-        source = checkNotNull( source, "Impossible to add a shortest path from a null source" );
-        target = checkNotNull( target, "Impossible to add a shortest path to a null target" );
-        weightedPath = checkNotNull( weightedPath, "Impossible to add a null weightedPath path to a null target" );
+        checkArgument( maximumSize >= 0, "Impossible to cache a negative number of paths: %s", maximumSize );
+
+        paths = maximumSize == 0 ? null : new PathsCache<V, WE, W>( maximumSize );
+        return this;
+    }
+
+    /**
+     * Returns the number of vertices the shortest paths are calculated for.
+     */
+    int getOrder()
+    {
+        return vertices.size();
+    }
+
+    /**
+     * Returns the vertex at the given index.
+     */
+    V getVertex( int index )
+    {
+        return vertices.get( index );
+    }
+
+    /**
+     * Returns the index of the given vertex.
+     */
+    int indexOf( V vertex )
+    {
+        Integer index = indexes.get( vertex );
+        checkArgument( index != null, "Vertex %s not contained in the Graph", vertex );
+        return index;
+    }
+
+    /**
+     * @param source the source index
+     * @param target the target index
+     * @param distance the shortest distance
+     * @param predecessor the index of the vertex preceding the target in the shortest path from source
+     */
+    void setShortestPath( int source, int target, W distance, int predecessor )
+    {
+        if ( shortestDistances[source] == null )
+        {
+            shortestDistances[source] = new Object[vertices.size()];
+            predecessors[source] = new int[vertices.size()];
+            fill( predecessors[source], NO_PREDECESSOR );
+        }
 
-        paths.put( new VertexPair<V>( source, target ), weightedPath );
+        shortestDistances[source][target] = distance;
+        predecessors[source][target] = predecessor;
+    }
+
+    /**
+     * Returns the shortest distance between source and target indexes, null if there is not any.
+     */
+    W getShortestDistance( int source, int target )
+    {
+        if ( source == target )
+        {
+            return weightOperations.identity();
+        }
+
+        if ( shortestDistances[source] == null )
+        {
+            return null;
+        }
+
+        @SuppressWarnings( "unchecked" ) // only W instances are stored
+        W distance = (W) shortestDistances[source][target];
+        return distance;
+    }
+
+    /**
+     * Returns the index of the vertex preceding the target in the shortest path from source,
+     * a negative value if there is not any.
+     */
+    int getPredecessor( int source, int target )
+    {
+        if ( predecessors[source] == null )
+        {
+            return NO_PREDECESSOR;
+        }
+        return predecessors[source][target];
     }
 
     /**
@@ -78,28 +200,79 @@ public final class AllVertexPairsShortestPath<V, WE, W>
         source = checkNotNull( source, "Impossible to add a shortest path from a null source" );
         target = checkNotNull( target, "Impossible to add a shortest path to a null target" );
 
-        WeightedPath<V, WE, W> path = paths.get( new VertexPair<V>( source, target ) );
+        Integer sourceIndex = indexes.get( source );
+        Integer targetIndex = indexes.get( target );
 
-        if ( path == null )
+        if ( sourceIndex == null || targetIndex == null || source.equals( target )
+                || getPredecessor( sourceIndex, targetIndex ) == NO_PREDECESSOR )
         {
             throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist", source, target );
         }
 
+        VertexPair<V> key = new VertexPair<V>( source, target );
+
+        final PathsCache<V, WE, W> cache = paths;
+
+        if ( cache != null )
+        {
+            synchronized ( cache )
+            {
+                WeightedPath<V, WE, W> path = cache.get( key );
+                if ( path != null )
+                {
+                    return path;
+                }
+            }
+        }
+
+        WeightedPath<V, WE, W> path = buildPath( sourceIndex, targetIndex );
+
+        if ( cache != null )
+        {
+            synchronized ( cache )
+            {
+                cache.put( key, path );
+            }
+        }
+
         return path;
     }
 
-    /**
-     * @param source
-     * @param target
-     * @param distance
-     */
-    void addShortestDistance( V source, V target, W distance )
+    private WeightedPath<V, WE, W> buildPath( int source, int target )
     {
-        source = checkNotNull( source, "Impossible to add a shortest path from a null source" );
-        target = checkNotNull( target, "Impossible to add a shortest path to a null target" );
-        distance = checkNotNull( distance, "Impossible to add a shortest distance with a null distance" );
+        final List<V> pathVertices = new ArrayList<V>();
+        final List<WE> pathEdges = new ArrayList<WE>();
+
+        W weight = weightOperations.identity();
+
+        pathVertices.add( vertices.get( target ) );
+
+        int current = target;
+        while ( current != source )
+        {
+            int predecessor = getPredecessor( source, current );
+
+            // a shortest path can not be longer than the graph order, unless it hits a negative-weight cycle
+            if ( predecessor == NO_PREDECESSOR || pathEdges.size() == vertices.size() )
+            {
+                throw new NegativeWeightedCycleException( "Path from '%s' to '%s' crosses a negative-weight cycle",
+                                                          vertices.get( source ), vertices.get( target ) );
+            }
 
-        shortestDistances.put( new VertexPair<V>( source, target ), distance );
+            WE edge = graph.getEdge( vertices.get( predecessor ), vertices.get( current ) );
+
+            pathVertices.add( vertices.get( predecessor ) );
+            pathEdges.add( edge );
+            weight = weightOperations.append( weightedEdges.map( edge ), weight );
+
+            current = predecessor;
+        }
+
+        // the path has been collected bottom-up
+        reverse( pathVertices );
+        reverse( pathEdges );
+
+        return new ArrayWeightedPath<V, WE, W>( vertices.get( source ), vertices.get( target ), pathVertices, pathEdges, weight );
     }
 
     /**
@@ -119,7 +292,15 @@ public final class AllVertexPairsShortestPath<V, WE, W>
             return weightOperations.identity();
         }
 
-        return shortestDistances.get( new VertexPair<V>( source, target ) );
+        Integer sourceIndex = indexes.get( source );
+        Integer targetIndex = indexes.get( target );
+
+        if ( sourceIndex == null || targetIndex == null )
+        {
+            return null;
+        }
+
+        return getShortestDistance( sourceIndex.intValue(), targetIndex.intValue() );
     }
 
     /**
@@ -139,13 +320,54 @@ public final class AllVertexPairsShortestPath<V, WE, W>
             return true;
         }
 
-        return shortestDistances.containsKey( new VertexPair<V>( source, target ) );
+        return getShortestDistance( source, target ) != null;
     }
 
     @Override
     public String toString()
     {
-        return shortestDistances.toString();
+        StringBuilder result = new StringBuilder( "{" );
+        for ( int i = 0; i < vertices.size(); i++ )
+        {
+            for ( int j = 0; j < vertices.size(); j++ )
+            {
+                if ( i != j && getShortestDistance( i, j ) != null )
+                {
+                    if ( result.length() > 1 )
+                    {
+                        result.append( ", " );
+                    }
+                    result.append( format( "%s=%s", new VertexPair<V>( vertices.get( i ), vertices.get( j ) ),
+                                           getShortestDistance( i, j ) ) );
+                }
+            }
+        }
+        return result.append( '}' ).toString();
+    }
+
+    /**
+     * Least recently used shortest paths.
+     */
+    private static final class PathsCache<V, WE, W>
+        extends LinkedHashMap<VertexPair<V>, WeightedPath<V, WE, W>>
+    {
+
+        private static final long serialVersionUID = 2571925475163347962L;
+
+        private final int maximumSize;
+
+        public PathsCache( int maximumSize )
+        {
+            super( 16, 0.75f, true );
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry( Map.Entry<VertexPair<V>, WeightedPath<V, WE, W>> eldest )
+        {
+            return size() > maximumSize;
+        }
+
     }
 
 }
@@ -0,0 +1,137 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.CommonsGraph.topologicalSort;
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
+
+import java.util.List;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Single source shortest paths in a directed acyclic graph: edges are relaxed once, in topological order,
+ * starting from the source since no vertex sorted before it can be reached.
+ *
+ * <p>Note: the runtime complexity is O(V + E) and weights can be negative.</p>
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> the weight type
+ */
+final class DagRelaxation<V, WE, W>
+{
+
+    private final ShortestDistances<V, W> shortestDistances;
+
+    private final PredecessorsList<V, WE, W> predecessors;
+
+    /**
+     * Relaxes the edges reachable from the source.
+     *
+     * @param graph the directed acyclic graph
+     * @param weightedEdges the edges weights mapper
+     * @param weightOperations the weight operations
+     * @param source the paths source
+     * @param target the only vertex paths are needed to, null if paths are needed to all the vertices
+     * @param limits the budgets of the relaxation
+     * @throws org.apache.commons.graph.dag.CyclicGraphException if the graph contains a cycle
+     * @throws SearchBudgetExceededException if the relaxation exceeds one of its budgets
+     */
+    public DagRelaxation( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, OrderedMonoid<W> weightOperations,
+                          V source, V target, SearchLimits<W> limits )
+    {
+        checkArgument( graph instanceof DirectedGraph, "DAG relaxation can not be applied on undirected graph %s", graph );
+        DirectedGraph<V, WE> dag = (DirectedGraph<V, WE>) graph;
+
+        shortestDistances = new ShortestDistances<V, W>( weightOperations );
+        shortestDistances.setWeight( source, weightOperations.identity() );
+
+        predecessors = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
+
+        final long startNanos = System.nanoTime();
+
+        List<V> sorted = topologicalSort( dag ).applyingKahn().getVertices();
+
+        int relaxedVertices = 0;
+
+        // a source not in the graph reaches nothing
+        int start = sorted.indexOf( source );
+        for ( int i = start < 0 ? sorted.size() : start; i < sorted.size(); i++ )
+        {
+            V u = sorted.get( i );
+
+            // vertices sorted after the target can not be on a path to it
+            if ( u.equals( target ) )
+            {
+                break;
+            }
+
+            if ( !shortestDistances.alreadyVisited( u ) )
+            {
+                continue;
+            }
+
+            // weights can be negative, so the distance of u is not a lower bound of the distance of the target
+            SearchBudget exceeded = limits.exceeded( relaxedVertices, startNanos );
+            if ( exceeded != null )
+            {
+                throw new SearchBudgetExceededException( new PartialShortestPath<V, WE, W>( exceeded, relaxedVertices, predecessors.buildPath( source, u ) ),
+                                                         "Path from '%s' to '%s' not found within the %s budget", source, target, exceeded );
+            }
+            relaxedVertices++;
+
+            for ( V v : dag.getOutbound( u ) )
+            {
+                W shortDist = weightOperations.append( shortestDistances.getWeight( u ),
+                                                       weightedEdges.map( dag.getEdge( u, v ) ) );
+
+                if ( !shortestDistances.alreadyVisited( v )
+                        || weightOperations.compare( shortDist, shortestDistances.getWeight( v ) ) < 0 )
+                {
+                    shortestDistances.setWeight( v, shortDist );
+                    predecessors.addPredecessor( v, u );
+                }
+            }
+        }
+
+        // the distance of the target is known only once all the vertices sorted before it have been relaxed
+        if ( target != null && shortestDistances.alreadyVisited( target )
+                && limits.exceedsDistance( shortestDistances.getWeight( target ), weightOperations ) )
+        {
+            throw new SearchBudgetExceededException( new PartialShortestPath<V, WE, W>( SearchBudget.DISTANCE, relaxedVertices, predecessors.buildPath( source, target ) ),
+                                                     "Path from '%s' to '%s' not found within the %s budget", source, target, SearchBudget.DISTANCE );
+        }
+    }
+
+    public ShortestDistances<V, W> getShortestDistances()
+    {
+        return shortestDistances;
+    }
+
+    public PredecessorsList<V, WE, W> getPredecessors()
+    {
+        return predecessors;
+    }
+
+}
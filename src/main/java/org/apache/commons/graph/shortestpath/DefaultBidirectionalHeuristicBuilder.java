@@ -0,0 +1,282 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.collections.FibonacciHeap;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Bidirectional search shared by the bidirectional Dijkstra's and A* algorithms.
+ *
+ * When a heuristic is given, both searches are driven by the <i>averaged</i> potential functions
+ * <code>p<sub>f</sub>(v) = ( h(v, target) - h(v, source) ) / 2</code> and
+ * <code>p<sub>b</sub>(v) = -p<sub>f</sub>(v)</code>: forward and backward reduced edge costs are then the same,
+ * so the usual bidirectional Dijkstra's meeting criterion stays correct.
+ * Since weights can not be divided, the keys are kept doubled.
+ *
+ * The heuristic has to be consistent and symmetric, since {@code h(v, source)} is used as the estimate
+ * of the distance from the source to {@code v}.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> the weight type
+ */
+final class DefaultBidirectionalHeuristicBuilder<V, WE, W>
+    implements HeuristicBuilder<V, WE, W>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final V source;
+
+    private final V target;
+
+    private final OrderedMonoid<W> weightOperations;
+
+    private final SearchLimits<W> limits;
+
+    public DefaultBidirectionalHeuristicBuilder( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, V source, V target, OrderedMonoid<W> weightOperations, SearchLimits<W> limits )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.source = source;
+        this.target = target;
+        this.weightOperations = weightOperations;
+        this.limits = limits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <H extends Heuristic<V, W>> WeightedPath<V, WE, W> withHeuristic( H heuristic )
+    {
+        heuristic = checkNotNull( heuristic, "Bidirectional A* algorithm can not be applied using a null heuristic" );
+        return applyingSearch( heuristic );
+    }
+
+    /**
+     * Runs the bidirectional search.
+     *
+     * @param heuristic the heuristic that drives the search, null to apply plain bidirectional Dijkstra's algorithm
+     * @return the shortest path from source to target
+     */
+    WeightedPath<V, WE, W> applyingSearch( Heuristic<V, W> heuristic )
+    {
+        final ShortestDistances<V, W> shortestDistancesForward = new ShortestDistances<V, W>( weightOperations );
+        shortestDistancesForward.setWeight( source, weightOperations.identity() );
+
+        final ShortestDistances<V, W> shortestDistancesBackwards = new ShortestDistances<V, W>( weightOperations );
+        shortestDistancesBackwards.setWeight( target, weightOperations.identity() );
+
+        // without heuristic, the keys are the distances themselves
+        final ShortestDistances<V, W> keysForward =
+            heuristic == null ? shortestDistancesForward : new ShortestDistances<V, W>( weightOperations );
+        final ShortestDistances<V, W> keysBackwards =
+            heuristic == null ? shortestDistancesBackwards : new ShortestDistances<V, W>( weightOperations );
+
+        if ( heuristic != null )
+        {
+            keysForward.setWeight( source, forwardKey( heuristic, source, weightOperations.identity() ) );
+            keysBackwards.setWeight( target, backwardKey( heuristic, target, weightOperations.identity() ) );
+        }
+
+        final Queue<V> openForward = new FibonacciHeap<V>( keysForward );
+        openForward.add( source );
+
+        final Queue<V> openBackwards = new FibonacciHeap<V>( keysBackwards );
+        openBackwards.add( target );
+
+        final Set<V> closedForward = new HashSet<V>();
+
+        final Set<V> closedBackwards = new HashSet<V>();
+
+        final PredecessorsList<V, WE, W> predecessorsForward = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
+
+        final PredecessorsList<V, WE, W> predecessorsBackwards = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
+
+        W best = null;
+        V touch = null;
+
+        if ( source.equals( target ) )
+        {
+            return predecessorsForward.buildPath( source, target );
+        }
+
+        // doubled keys have to be compared against the doubled maximum distance
+        final SearchLimits<W> keysLimits = heuristic == null ? limits : limits.doubled( weightOperations );
+
+        final long startNanos = System.nanoTime();
+
+        while ( !openForward.isEmpty() && !openBackwards.isEmpty() )
+        {
+            final W tmp = weightOperations.append( keysForward.getWeight( openForward.peek() ),
+                                                   keysBackwards.getWeight( openBackwards.peek() ) );
+
+            if ( best != null )
+            {
+                // doubled keys have to be compared against the doubled best distance
+                final W bound = heuristic == null ? best : weightOperations.append( best, best );
+
+                if ( weightOperations.compare( tmp, bound ) >= 0 )
+                {
+                    return predecessorsForward.buildPath( source, touch, target, predecessorsBackwards );
+                }
+            }
+
+            // the sum of the top keys is a lower bound of the path weight
+            final int settled = closedForward.size() + closedBackwards.size();
+            final SearchBudget exceeded = keysLimits.exceeded( settled, tmp, weightOperations, startNanos );
+            if ( exceeded != null )
+            {
+                WeightedPath<V, WE, W> frontier = touch != null
+                                ? predecessorsForward.buildPath( source, touch, target, predecessorsBackwards )
+                                : predecessorsForward.buildPath( source, openForward.peek() );
+                throw new SearchBudgetExceededException( new PartialShortestPath<V, WE, W>( exceeded, settled, frontier ),
+                                                         "Path from '%s' to '%s' not found within the %s budget", source, target, exceeded );
+            }
+
+            if ( openForward.size() + closedForward.size() < openBackwards.size() + closedBackwards.size() )
+            {
+                V vertex = openForward.remove();
+
+                // skip stale entries of vertices already settled
+                if ( !closedForward.add( vertex ) )
+                {
+                    continue;
+                }
+
+                for ( V v : graph.getConnectedVertices( vertex ) )
+                {
+                    if ( !closedForward.contains( v ) )
+                    {
+                        WE edge = graph.getEdge( vertex, v );
+                        W shortDist = weightOperations.append( shortestDistancesForward.getWeight( vertex ), weightedEdges.map( edge ) );
+
+                        if ( !shortestDistancesForward.alreadyVisited( v )
+                                || weightOperations.compare( shortDist, shortestDistancesForward.getWeight( v ) ) < 0 )
+                        {
+                            shortestDistancesForward.setWeight( v, shortDist );
+                            if ( heuristic != null )
+                            {
+                                keysForward.setWeight( v, forwardKey( heuristic, v, shortDist ) );
+                            }
+                            openForward.add( v );
+                            predecessorsForward.addPredecessor( v, vertex );
+
+                            if ( shortestDistancesBackwards.alreadyVisited( v ) )
+                            {
+                                W tmpBest = weightOperations.append( shortDist, shortestDistancesBackwards.getWeight( v ) );
+
+                                if ( best == null || weightOperations.compare( tmpBest, best ) < 0 )
+                                {
+                                    best = tmpBest;
+                                    touch = v;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            else
+            {
+                V vertex = openBackwards.remove();
+
+                if ( !closedBackwards.add( vertex ) )
+                {
+                    continue;
+                }
+
+                Iterable<V> parentsIterable = ( graph instanceof DirectedGraph ? ( (DirectedGraph<V, WE>) graph ).getInbound( vertex ) : graph.getConnectedVertices( vertex ) );
+
+                for ( V v : parentsIterable )
+                {
+                    if ( !closedBackwards.contains( v ) )
+                    {
+                        WE edge = graph.getEdge( v, vertex );
+                        W shortDist = weightOperations.append( shortestDistancesBackwards.getWeight( vertex ), weightedEdges.map( edge ) );
+
+                        if ( !shortestDistancesBackwards.alreadyVisited( v )
+                                || weightOperations.compare( shortDist, shortestDistancesBackwards.getWeight( v ) ) < 0 )
+                        {
+                            shortestDistancesBackwards.setWeight( v, shortDist );
+                            if ( heuristic != null )
+                            {
+                                keysBackwards.setWeight( v, backwardKey( heuristic, v, shortDist ) );
+                            }
+                            openBackwards.add( v );
+                            predecessorsBackwards.addPredecessor( v, vertex );
+
+                            if ( shortestDistancesForward.alreadyVisited( v ) )
+                            {
+                                W tmpBest = weightOperations.append( shortDist, shortestDistancesForward.getWeight( v ) );
+
+                                if ( best == null || weightOperations.compare( tmpBest, best ) < 0 )
+                                {
+                                    best = tmpBest;
+                                    touch = v;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        if ( touch == null )
+        {
+            throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist in Graph '%s'", source, target, graph );
+        }
+
+        return predecessorsForward.buildPath( source, touch, target, predecessorsBackwards );
+    }
+
+    /**
+     * Calculates the doubled forward key {@code 2d(v) + h(v, target) - h(v, source)}.
+     */
+    private W forwardKey( Heuristic<V, W> heuristic, V vertex, W distance )
+    {
+        W potential = weightOperations.append( heuristic.applyHeuristic( vertex, target ),
+                                               weightOperations.inverse( heuristic.applyHeuristic( vertex, source ) ) );
+        return weightOperations.append( weightOperations.append( distance, distance ), potential );
+    }
+
+    /**
+     * Calculates the doubled backward key {@code 2d(v) + h(v, source) - h(v, target)}.
+     */
+    private W backwardKey( Heuristic<V, W> heuristic, V vertex, W distance )
+    {
+        W potential = weightOperations.append( heuristic.applyHeuristic( vertex, source ),
+                                               weightOperations.inverse( heuristic.applyHeuristic( vertex, target ) ) );
+        return weightOperations.append( weightOperations.append( distance, distance ), potential );
+    }
+
+}
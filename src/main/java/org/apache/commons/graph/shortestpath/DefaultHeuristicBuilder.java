@@ -46,13 +46,16 @@ final class DefaultHeuristicBuilder<V, WE, W>
 
     private final OrderedMonoid<W> weightOperations;
 
-    public DefaultHeuristicBuilder( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, V source, V target, OrderedMonoid<W> weightOperations )
+    private final SearchLimits<W> limits;
+
+    public DefaultHeuristicBuilder( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, V source, V target, OrderedMonoid<W> weightOperations, SearchLimits<W> limits )
     {
         this.graph = graph;
         this.weightedEdges = weightedEdges;
         this.start = source;
         this.goal = target;
         this.weightOperations = weightOperations;
+        this.limits = limits;
     }
 
     /**
@@ -81,6 +84,8 @@ final class DefaultHeuristicBuilder<V, WE, W>
         // The of navigated nodes
         final PredecessorsList<V, WE, W> predecessors = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
 
+        final long startNanos = System.nanoTime();
+
         // extract the node in openset having the lowest f_score[] value
         while ( !openSet.isEmpty() )
         {
@@ -92,6 +97,14 @@ final class DefaultHeuristicBuilder<V, WE, W>
                 return predecessors.buildPath( start, goal );
             }
 
+            // the lowest f_score[] is a lower bound of the path weight
+            SearchBudget exceeded = limits.exceeded( closedSet.size(), fScores.getWeight( current ), weightOperations, startNanos );
+            if ( exceeded != null )
+            {
+                throw new SearchBudgetExceededException( new PartialShortestPath<V, WE, W>( exceeded, closedSet.size(), predecessors.buildPath( start, current ) ),
+                                                         "Path from '%s' to '%s' not found within the %s budget", start, goal, exceeded );
+            }
+
             closedSet.add( current );
 
             Iterable<V> connected = ( graph instanceof DirectedGraph ) ? ( (DirectedGraph<V, WE>) graph ).getOutbound( current )
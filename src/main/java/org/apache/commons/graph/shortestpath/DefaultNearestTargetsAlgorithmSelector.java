@@ -0,0 +1,132 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.util.Collections.unmodifiableMap;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.collections.FibonacciHeap;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+final class DefaultNearestTargetsAlgorithmSelector<V, WE, W>
+    implements NearestTargetsAlgorithmSelector<V, WE, W>
+{
+
+    private final Graph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    private final V source;
+
+    private final Set<V> targets;
+
+    private final int k;
+
+    public DefaultNearestTargetsAlgorithmSelector( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, V source, Set<? extends V> targets, int k )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+        this.source = source;
+        // candidates may change while the search runs
+        this.targets = new HashSet<V>( targets );
+        this.k = k;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> Map<V, WeightedPath<V, WE, W>> applyingDijkstra( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "Dijkstra algorithm can not be applied using null weight operations" );
+
+        final ShortestDistances<V, W> shortestDistances = new ShortestDistances<V, W>( weightOperations );
+        shortestDistances.setWeight( source, weightOperations.identity() );
+
+        final Queue<V> unsettledNodes = new FibonacciHeap<V>( shortestDistances );
+        unsettledNodes.add( source );
+
+        final Set<V> settledNodes = new HashSet<V>();
+
+        final PredecessorsList<V, WE, W> predecessors = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
+
+        final Map<V, WeightedPath<V, WE, W>> nearestTargets = new LinkedHashMap<V, WeightedPath<V, WE, W>>();
+
+        // extract the node with the shortest distance
+        while ( !unsettledNodes.isEmpty() )
+        {
+            V vertex = unsettledNodes.remove();
+
+            // skip stale entries of vertices already settled
+            if ( !settledNodes.add( vertex ) )
+            {
+                continue;
+            }
+
+            // targets are settled in order of distance
+            if ( targets.contains( vertex ) )
+            {
+                nearestTargets.put( vertex, predecessors.buildPath( source, vertex ) );
+
+                if ( nearestTargets.size() == k )
+                {
+                    return unmodifiableMap( nearestTargets );
+                }
+            }
+
+            for ( V v : graph.getConnectedVertices( vertex ) )
+            {
+                // skip node already settled
+                if ( !settledNodes.contains( v ) )
+                {
+                    WE edge = graph.getEdge( vertex, v );
+                    W shortDist = weightOperations.append( shortestDistances.getWeight( vertex ), weightedEdges.map( edge ) );
+
+                    if ( !shortestDistances.alreadyVisited( v )
+                            || weightOperations.compare( shortDist, shortestDistances.getWeight( v ) ) < 0 )
+                    {
+                        // assign new shortest distance and mark unsettled
+                        shortestDistances.setWeight( v, shortDist );
+                        unsettledNodes.add( v );
+
+                        // assign predecessor in shortest path
+                        predecessors.addPredecessor( v, vertex );
+                    }
+                }
+            }
+        }
+
+        if ( nearestTargets.isEmpty() )
+        {
+            throw new PathNotFoundException( "Path from '%s' to any of '%s' doesn't exist in Graph '%s'", source, targets, graph );
+        }
+
+        return unmodifiableMap( nearestTargets );
+    }
+
+}
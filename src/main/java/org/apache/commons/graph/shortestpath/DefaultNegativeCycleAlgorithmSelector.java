@@ -0,0 +1,230 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * {@link NegativeCycleAlgorithmSelector} implementation.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> the weight type
+ */
+final class DefaultNegativeCycleAlgorithmSelector<V, WE, W>
+    implements NegativeCycleAlgorithmSelector<V, WE, W>
+{
+
+    private final DirectedGraph<V, WE> graph;
+
+    private final Mapper<WE, W> weightedEdges;
+
+    public DefaultNegativeCycleAlgorithmSelector( DirectedGraph<V, WE> graph, Mapper<WE, W> weightedEdges )
+    {
+        this.graph = graph;
+        this.weightedEdges = weightedEdges;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingSubtreeDisassembly( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "Negative cycle can not be searched using null weight operations" );
+
+        final int order = graph.getOrder();
+
+        // index vertices and load the outbound edges, mapping weights only once
+        final List<V> vertices = new ArrayList<V>( order );
+        final Map<V, Integer> indexes = new HashMap<V, Integer>();
+        for ( V vertex : graph.getVertices() )
+        {
+            indexes.put( vertex, vertices.size() );
+            vertices.add( vertex );
+        }
+
+        final int[] firstEdges = new int[order + 1];
+        final int[] edgeTargets = new int[graph.getSize()];
+        final List<WE> edges = new ArrayList<WE>( graph.getSize() );
+        final List<W> edgeWeights = new ArrayList<W>( graph.getSize() );
+
+        for ( int u = 0; u < order; u++ )
+        {
+            firstEdges[u] = edges.size();
+            V head = vertices.get( u );
+            for ( V tail : graph.getOutbound( head ) )
+            {
+                WE edge = graph.getEdge( head, tail );
+                edgeTargets[edges.size()] = indexes.get( tail );
+                edges.add( edge );
+                edgeWeights.add( weightedEdges.map( edge ) );
+            }
+        }
+        firstEdges[order] = edges.size();
+
+        // a virtual root is connected to all vertices through identity-weighted edges,
+        // so every cycle in the graph is reachable
+        final int root = order;
+
+        final List<W> distances = new ArrayList<W>( order );
+        final int[] parents = new int[order];
+        final int[] parentEdges = new int[order];
+        final boolean[] inTree = new boolean[order];
+
+        // the shortest path tree is threaded in preorder, so that the subtree of a vertex
+        // is the sequence of its successors having a greater depth
+        final int[] next = new int[order + 1];
+        final int[] previous = new int[order + 1];
+        final int[] depths = new int[order + 1];
+
+        final int[] queue = new int[order];
+        final boolean[] queued = new boolean[order];
+        int queueHead = 0;
+        int queueSize = 0;
+
+        previous[root] = order == 0 ? root : order - 1;
+        next[root] = order == 0 ? root : 0;
+        for ( int v = 0; v < order; v++ )
+        {
+            distances.add( weightOperations.identity() );
+            parents[v] = root;
+            parentEdges[v] = -1;
+            inTree[v] = true;
+
+            previous[v] = v == 0 ? root : v - 1;
+            next[v] = v == order - 1 ? root : v + 1;
+            depths[v] = 1;
+
+            queue[queueSize++] = v;
+            queued[v] = true;
+        }
+
+        while ( queueSize > 0 )
+        {
+            int u = queue[queueHead];
+            queueHead = ( queueHead + 1 ) % order;
+            queueSize--;
+            queued[u] = false;
+
+            // vertices removed from the tree wait to be reached again with a better label
+            if ( !inTree[u] )
+            {
+                continue;
+            }
+
+            for ( int e = firstEdges[u]; e < firstEdges[u + 1]; e++ )
+            {
+                int v = edgeTargets[e];
+                W shortDist = weightOperations.append( distances.get( u ), edgeWeights.get( e ) );
+
+                if ( weightOperations.compare( shortDist, distances.get( v ) ) < 0 )
+                {
+                    if ( v == u )
+                    {
+                        return buildCycle( v, u, e, parentEdges, parents, edgeTargets, vertices, edges, weightOperations );
+                    }
+
+                    if ( inTree[v] )
+                    {
+                        // disassemble the subtree rooted in v: if u is there, a negative cycle has been closed
+                        int x = next[v];
+                        while ( depths[x] > depths[v] )
+                        {
+                            if ( x == u )
+                            {
+                                return buildCycle( v, u, e, parentEdges, parents, edgeTargets, vertices, edges, weightOperations );
+                            }
+                            inTree[x] = false;
+                            x = next[x];
+                        }
+
+                        next[previous[v]] = x;
+                        previous[x] = previous[v];
+                    }
+
+                    distances.set( v, shortDist );
+                    parents[v] = u;
+                    parentEdges[v] = e;
+                    inTree[v] = true;
+
+                    // thread v right after its new parent
+                    depths[v] = depths[u] + 1;
+                    next[v] = next[u];
+                    previous[next[u]] = v;
+                    next[u] = v;
+                    previous[v] = u;
+
+                    if ( !queued[v] )
+                    {
+                        queue[( queueHead + queueSize ) % order] = v;
+                        queueSize++;
+                        queued[v] = true;
+                    }
+                }
+            }
+        }
+
+        throw new PathNotFoundException( "Graph '%s' doesn't contain any negative-weighted cycle", graph );
+    }
+
+    /**
+     * Builds the cycle closed by the {@code closingEdge}, following the parents from {@code u} up to {@code v}.
+     */
+    private WeightedPath<V, WE, W> buildCycle( int v, int u, int closingEdge,
+                                               int[] parentEdges, int[] parents, int[] edgeTargets,
+                                               List<V> vertices, List<WE> edges,
+                                               OrderedMonoid<W> weightOperations )
+    {
+        final LinkedList<Integer> cycle = new LinkedList<Integer>();
+        cycle.addFirst( closingEdge );
+        for ( int x = u; x != v; x = parents[x] )
+        {
+            cycle.addFirst( parentEdges[x] );
+        }
+
+        final V start = vertices.get( v );
+        final InMemoryWeightedPath<V, WE, W> path =
+            new InMemoryWeightedPath<V, WE, W>( start, start, weightOperations, weightedEdges );
+
+        V head = start;
+        for ( Integer e : cycle )
+        {
+            WE edge = edges.get( e );
+            V tail = vertices.get( edgeTargets[e] );
+            path.addConnectionInTail( head, edge, tail );
+            head = tail;
+        }
+
+        return path;
+    }
+
+}
@@ -21,14 +21,10 @@ package org.apache.commons.graph.shortestpath;
 
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.UndirectedGraph;
 import org.apache.commons.graph.VertexPair;
 import org.apache.commons.graph.Mapper;
-import org.apache.commons.graph.WeightedPath;
 import org.apache.commons.graph.weight.OrderedMonoid;
 
 final class DefaultPathSourceSelector<V, WE, W>
@@ -52,61 +48,51 @@ final class DefaultPathSourceSelector<V, WE, W>
     {
         weightOperations = checkNotNull( weightOperations, "Floyd-Warshall algorithm can not be applied using null weight operations" );
 
-        AllVertexPairsShortestPath<V, WE, W> shortestPaths = new AllVertexPairsShortestPath<V, WE, W>( weightOperations );
-        Map<VertexPair<V>, V> next = new HashMap<VertexPair<V>, V>();
+        AllVertexPairsShortestPath<V, WE, W> shortestPaths =
+            new AllVertexPairsShortestPath<V, WE, W>( graph, weightedEdges, weightOperations );
 
         // init
         for ( WE we : graph.getEdges() )
         {
             VertexPair<V> vertexPair = graph.getVertices( we );
-            shortestPaths.addShortestDistance( vertexPair.getHead(), vertexPair.getTail(), weightedEdges.map( we ) );
+            int head = shortestPaths.indexOf( vertexPair.getHead() );
+            int tail = shortestPaths.indexOf( vertexPair.getTail() );
 
-            if ( graph instanceof UndirectedGraph )
+            if ( head != tail )
             {
-                shortestPaths.addShortestDistance( vertexPair.getTail(), vertexPair.getHead(), weightedEdges.map( we ) );
-            }
-        }
+                shortestPaths.setShortestPath( head, tail, weightedEdges.map( we ), head );
 
-        // run the Floyd-Warshall algorithm.
-        for ( V k : graph.getVertices() )
-        {
-            for ( V i : graph.getVertices() )
-            {
-                for ( V j : graph.getVertices() )
+                if ( graph instanceof UndirectedGraph )
                 {
-                    if ( shortestPaths.hasShortestDistance( i, k ) && shortestPaths.hasShortestDistance( k, j ) )
-                    {
-                        W newDistance = weightOperations.append( shortestPaths.getShortestDistance( i, k ), shortestPaths.getShortestDistance( k, j ) );
-                        if ( !shortestPaths.hasShortestDistance( i, j )
-                                || weightOperations.compare( newDistance, shortestPaths.getShortestDistance( i, j ) ) < 0 )
-                        {
-                            shortestPaths.addShortestDistance( i, j, newDistance );
-
-                            // store the intermediate vertex
-                            next.put( new VertexPair<V>( i, j ), k );
-                        }
-                    }
-
+                    shortestPaths.setShortestPath( tail, head, weightedEdges.map( we ), tail );
                 }
             }
         }
 
-        // fills all WeightedPaths
-        for ( V source : graph.getVertices() )
+        final int order = shortestPaths.getOrder();
+
+        // run the Floyd-Warshall algorithm.
+        for ( int k = 0; k < order; k++ )
         {
-            for ( V target : graph.getVertices() )
+            for ( int i = 0; i < order; i++ )
             {
-                if ( !source.equals( target ) )
+                W ik = shortestPaths.getShortestDistance( i, k );
+                if ( i == k || ik == null )
                 {
-                    PredecessorsList<V, WE, W> predecessorsList = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
+                    continue;
+                }
 
-                    pathReconstruction( predecessorsList, source, target, next );
-                    if ( !predecessorsList.isEmpty() )
+                for ( int j = 0; j < order; j++ )
+                {
+                    W kj = shortestPaths.getShortestDistance( k, j );
+                    if ( i != j && kj != null )
                     {
-                        WeightedPath<V, WE, W> weightedPath = predecessorsList.buildPath( source, target );
-                        if ( weightedPath.getOrder() > 0 )
+                        W newDistance = weightOperations.append( ik, kj );
+                        W ij = shortestPaths.getShortestDistance( i, j );
+                        if ( ij == null || weightOperations.compare( newDistance, ij ) < 0 )
                         {
-                            shortestPaths.addShortestPath( source, target, weightedPath );
+                            // the shortest path to j goes through k, so it ends as the shortest path from k
+                            shortestPaths.setShortestPath( i, j, newDistance, shortestPaths.getPredecessor( k, j ) );
                         }
                     }
                 }
@@ -116,27 +102,6 @@ final class DefaultPathSourceSelector<V, WE, W>
         return shortestPaths;
     }
 
-    private void pathReconstruction( PredecessorsList<V, WE, W> path,
-                                     V source, V target,
-                                     Map<VertexPair<V>, V> next )
-    {
-        V k = next.get( new VertexPair<V>( source, target ) );
-        if ( k == null )
-        {
-            // there is a direct path between a and b
-            WE edge = graph.getEdge( source, target );
-            if ( edge != null )
-            {
-                path.addPredecessor( target, source );
-            }
-        }
-        else
-        {
-            pathReconstruction( path, source, k, next );
-            pathReconstruction( path, k, target, next );
-        }
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -19,23 +19,34 @@ package org.apache.commons.graph.shortestpath;
  * under the License.
  */
 
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 
 import java.util.HashSet;
 import java.util.Queue;
 import java.util.Set;
-import org.apache.commons.graph.DirectedGraph;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.Mapper;
 import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.collections.BucketQueue;
 import org.apache.commons.graph.collections.FibonacciHeap;
+import org.apache.commons.graph.collections.MonotonePriorityQueue;
+import org.apache.commons.graph.collections.RadixHeap;
 import org.apache.commons.graph.weight.OrderedMonoid;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.apache.commons.graph.weight.primitive.LongWeightBaseOperations;
 
 final class DefaultShortestPathAlgorithmSelector<V, WE, W>
     implements ShortestPathAlgorithmSelector<V, WE, W>
 {
 
+    /**
+     * Weights spreading over a wider range are handled by a radix heap rather than by a Dial's bucket queue.
+     */
+    private static final int MAX_BUCKETS = 1 << 16;
+
     private final Graph<V, WE> graph;
 
     private final Mapper<WE, W> weightedEdges;
@@ -44,12 +55,60 @@ final class DefaultShortestPathAlgorithmSelector<V, WE, W>
 
     private final V target;
 
+    private final SearchLimits<W> limits;
+
+    private final W maxEdgeWeight;
+
     public DefaultShortestPathAlgorithmSelector( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, V source, V target )
+    {
+        this( graph, weightedEdges, source, target, new SearchLimits<W>(), null );
+    }
+
+    private DefaultShortestPathAlgorithmSelector( Graph<V, WE> graph, Mapper<WE, W> weightedEdges, V source, V target, SearchLimits<W> limits, W maxEdgeWeight )
     {
         this.graph = graph;
         this.weightedEdges = weightedEdges;
         this.source = source;
         this.target = target;
+        this.limits = limits;
+        this.maxEdgeWeight = maxEdgeWeight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ShortestPathAlgorithmSelector<V, WE, W> settlingAtMost( int maxSettledVertices )
+    {
+        checkArgument( maxSettledVertices > 0, "The maximum number of settled vertices must be positive, %s given", maxSettledVertices );
+        return new DefaultShortestPathAlgorithmSelector<V, WE, W>( graph, weightedEdges, source, target, limits.settlingAtMost( maxSettledVertices ), maxEdgeWeight );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ShortestPathAlgorithmSelector<V, WE, W> withinDistance( W maxDistance )
+    {
+        maxDistance = checkNotNull( maxDistance, "Shortest path can not be searched within a null distance" );
+        return new DefaultShortestPathAlgorithmSelector<V, WE, W>( graph, weightedEdges, source, target, limits.withinDistance( maxDistance ), maxEdgeWeight );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ShortestPathAlgorithmSelector<V, WE, W> withinTime( long timeout, TimeUnit unit )
+    {
+        checkArgument( timeout >= 0, "Shortest path can not be searched within a negative timeout: %s", timeout );
+        unit = checkNotNull( unit, "Shortest path can not be searched within a timeout expressed in null unit" );
+        return new DefaultShortestPathAlgorithmSelector<V, WE, W>( graph, weightedEdges, source, target, limits.withinTime( timeout, unit ), maxEdgeWeight );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public ShortestPathAlgorithmSelector<V, WE, W> whereEdgeWeightsDoNotExceed( W maxEdgeWeight )
+    {
+        maxEdgeWeight = checkNotNull( maxEdgeWeight, "Edge weights can not be bounded by a null weight" );
+        return new DefaultShortestPathAlgorithmSelector<V, WE, W>( graph, weightedEdges, source, target, limits, maxEdgeWeight );
     }
 
     /**
@@ -58,7 +117,7 @@ final class DefaultShortestPathAlgorithmSelector<V, WE, W>
     public <WO extends OrderedMonoid<W>> HeuristicBuilder<V, WE, W> applyingAStar( WO weightOperations )
     {
         weightOperations = checkNotNull( weightOperations, "A* algorithm can not be applied using null weight operations" );
-        return new DefaultHeuristicBuilder<V, WE, W>( graph, weightedEdges, source, target, weightOperations );
+        return new DefaultHeuristicBuilder<V, WE, W>( graph, weightedEdges, source, target, weightOperations, limits );
     }
 
     /**
@@ -68,6 +127,12 @@ final class DefaultShortestPathAlgorithmSelector<V, WE, W>
     {
         weightOperations = checkNotNull( weightOperations, "Dijkstra algorithm can not be applied using null weight operations" );
 
+        MonotonePriorityQueue<V> monotoneQueue = newMonotoneQueue( weightOperations );
+        if ( monotoneQueue != null )
+        {
+            return applyingDijkstra( weightOperations, monotoneQueue );
+        }
+
         final ShortestDistances<V, W> shortestDistances = new ShortestDistances<V, W>( weightOperations );
         shortestDistances.setWeight( source, weightOperations.identity() );
 
@@ -78,6 +143,8 @@ final class DefaultShortestPathAlgorithmSelector<V, WE, W>
 
         final PredecessorsList<V, WE, W> predecessors = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
 
+        final long startNanos = System.nanoTime();
+
         // extract the node with the shortest distance
         while ( !unsettledNodes.isEmpty() )
         {
@@ -89,6 +156,14 @@ final class DefaultShortestPathAlgorithmSelector<V, WE, W>
                 return predecessors.buildPath( source, target );
             }
 
+            // the target is at least as far as the closest unsettled vertex
+            SearchBudget exceeded = limits.exceeded( settledNodes.size(), shortestDistances.getWeight( vertex ), weightOperations, startNanos );
+            if ( exceeded != null )
+            {
+                throw new SearchBudgetExceededException( new PartialShortestPath<V, WE, W>( exceeded, settledNodes.size(), predecessors.buildPath( source, vertex ) ),
+                                                         "Path from '%s' to '%s' not found within the %s budget", source, target, exceeded );
+            }
+
             settledNodes.add( vertex );
 
             for ( V v : graph.getConnectedVertices( vertex ) )
@@ -121,130 +196,129 @@ final class DefaultShortestPathAlgorithmSelector<V, WE, W>
     }
 
     /**
-     * {@inheritDoc}
+     * Creates the queue to run Dijkstra's algorithm on, when weights are bounded integers.
+     *
+     * @return a Dial's bucket queue if integer weights span over a small range, a radix heap for larger integer
+     *         and long weights, null if weights are not known to be bounded integers
      */
-    public <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingBidirectionalDijkstra( WO weightOperations )
+    private MonotonePriorityQueue<V> newMonotoneQueue( OrderedMonoid<W> weightOperations )
     {
-        weightOperations = checkNotNull( weightOperations, "Bidirectional Dijkstra algorithm can not be applied using null weight operations" );
-
-        final ShortestDistances<V, W> shortestDistancesForward = new ShortestDistances<V, W>( weightOperations );
-        shortestDistancesForward.setWeight( source, weightOperations.identity() );
-
-        final ShortestDistances<V, W> shortestDistancesBackwards = new ShortestDistances<V, W>( weightOperations );
-        shortestDistancesBackwards.setWeight( target, weightOperations.identity() );
+        if ( maxEdgeWeight == null
+                || !( weightOperations instanceof IntegerWeightBaseOperations || weightOperations instanceof LongWeightBaseOperations ) )
+        {
+            return null;
+        }
 
-        final Queue<V> openForward = new FibonacciHeap<V>( shortestDistancesForward );
-        openForward.add( source );
+        long maxKeySpread = ( (Number) maxEdgeWeight ).longValue();
+        checkArgument( maxKeySpread >= 0, "Dijkstra algorithm can not be applied to negative weights, up to %s", maxEdgeWeight );
 
-        final Queue<V> openBackwards = new FibonacciHeap<V>( shortestDistancesBackwards );
-        openBackwards.add( target );
+        if ( maxKeySpread < MAX_BUCKETS )
+        {
+            return new BucketQueue<V>( (int) maxKeySpread );
+        }
+        return new RadixHeap<V>();
+    }
 
-        final Set<V> closedForward = new HashSet<V>();
+    /**
+     * Dijkstra's algorithm where distances are non-negative integers, so the queue keys are the distances themselves.
+     */
+    private WeightedPath<V, WE, W> applyingDijkstra( OrderedMonoid<W> weightOperations, MonotonePriorityQueue<V> unsettledNodes )
+    {
+        final ShortestDistances<V, W> shortestDistances = new ShortestDistances<V, W>( weightOperations );
+        shortestDistances.setWeight( source, weightOperations.identity() );
 
-        final Set<V> closedBackwards = new HashSet<V>();
+        unsettledNodes.add( source, 0 );
 
-        final PredecessorsList<V, WE, W> predecessorsForward = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
+        final Set<V> settledNodes = new HashSet<V>();
 
-        final PredecessorsList<V, WE, W> predecessorsBackwards = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
+        final PredecessorsList<V, WE, W> predecessors = new PredecessorsList<V, WE, W>( graph, weightOperations, weightedEdges );
 
-        W best = null;
-        V touch = null;
+        final long startNanos = System.nanoTime();
 
-        while (!openForward.isEmpty() && !openBackwards.isEmpty())
+        while ( !unsettledNodes.isEmpty() )
         {
-            if ( best != null )
+            V vertex = unsettledNodes.remove();
+
+            // skip stale entries of vertices already settled
+            if ( settledNodes.contains( vertex ) )
             {
-                final W tmp = weightOperations.append( shortestDistancesForward.getWeight( openForward.peek() ),
-                                                       shortestDistancesBackwards.getWeight( openBackwards.peek() ) );
+                continue;
+            }
 
-                if ( weightOperations.compare( tmp, best ) >= 0 )
-                {
-                    return predecessorsForward.buildPath( source, touch, target, predecessorsBackwards );
-                }
+            // destination reached, stop and build the path
+            if ( target.equals( vertex ) )
+            {
+                return predecessors.buildPath( source, target );
             }
 
-            if (openForward.size() + closedForward.size() < openBackwards.size() + closedBackwards.size()) {
-                
-                V vertex = openForward.remove();
+            SearchBudget exceeded = limits.exceeded( settledNodes.size(), shortestDistances.getWeight( vertex ), weightOperations, startNanos );
+            if ( exceeded != null )
+            {
+                throw new SearchBudgetExceededException( new PartialShortestPath<V, WE, W>( exceeded, settledNodes.size(), predecessors.buildPath( source, vertex ) ),
+                                                         "Path from '%s' to '%s' not found within the %s budget", source, target, exceeded );
+            }
 
-                closedForward.add( vertex );
+            settledNodes.add( vertex );
 
-                for ( V v : graph.getConnectedVertices( vertex ) )
+            for ( V v : graph.getConnectedVertices( vertex ) )
+            {
+                if ( !settledNodes.contains( v ) )
                 {
-                    if ( !closedForward.contains( v ) )
-                    {
-                        WE edge = graph.getEdge( vertex, v );
-                        if ( shortestDistancesForward.alreadyVisited( vertex ) )
-                        {
-                            W shortDist = weightOperations.append( shortestDistancesForward.getWeight( vertex ), weightedEdges.map( edge ) );
-
-                            if ( !shortestDistancesForward.alreadyVisited( v )
-                                    || weightOperations.compare( shortDist, shortestDistancesForward.getWeight( v ) ) < 0 )
-                            {
-                                shortestDistancesForward.setWeight( v, shortDist );
-                                openForward.add( v );
-                                predecessorsForward.addPredecessor( v, vertex );
-
-                                if ( closedBackwards.contains( v ) )
-                                {
-                                    W tmpBest = weightOperations.append( shortDist, shortestDistancesBackwards.getWeight( v ) );
-
-                                    if ( best == null || weightOperations.compare( tmpBest, best ) < 0 )
-                                    {
-                                        best = tmpBest;
-                                        touch = v;
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-            } else {                
-
-                V vertex = openBackwards.remove();
-
-                closedBackwards.add( vertex );
+                    WE edge = graph.getEdge( vertex, v );
+                    W weight = weightedEdges.map( edge );
+                    checkArgument( weightOperations.compare( weight, maxEdgeWeight ) <= 0,
+                                   "Edge %s weight %s exceeds the declared maximum %s", edge, weight, maxEdgeWeight );
 
-                Iterable<V> parentsIterable = ( graph instanceof DirectedGraph ? ((DirectedGraph<V, WE>) graph).getInbound( vertex ) : graph.getConnectedVertices( vertex ) );
+                    W shortDist = weightOperations.append( shortestDistances.getWeight( vertex ), weight );
 
-                for ( V v : parentsIterable )
-                {
-                    if ( !closedBackwards.contains( v ) )
+                    if ( !shortestDistances.alreadyVisited( v )
+                            || weightOperations.compare( shortDist, shortestDistances.getWeight( v ) ) < 0 )
                     {
-                        WE edge = graph.getEdge( v, vertex );
-                        if ( shortestDistancesBackwards.alreadyVisited( vertex ) )
-                        {
-                            W shortDist = weightOperations.append( shortestDistancesBackwards.getWeight( vertex ), weightedEdges.map( edge ) );
-
-                            if ( !shortestDistancesBackwards.alreadyVisited( v )
-                                    || weightOperations.compare( shortDist, shortestDistancesBackwards.getWeight( v ) ) < 0 )
-                            {
-                                shortestDistancesBackwards.setWeight( v, shortDist );
-                                openBackwards.add( v );
-                                predecessorsBackwards.addPredecessor( v, vertex );
-
-                                if ( closedForward.contains( v ) )
-                                {
-                                    W tmpBest = weightOperations.append( shortDist, shortestDistancesForward.getWeight( v ) );
-
-                                    if ( best == null || weightOperations.compare( tmpBest, best ) < 0 )
-                                    {
-                                        best = tmpBest;
-                                        touch = v;
-                                    }
-                                }
-                            }
-                        }
+                        shortestDistances.setWeight( v, shortDist );
+                        unsettledNodes.add( v, ( (Number) shortDist ).longValue() );
+                        predecessors.addPredecessor( v, vertex );
                     }
                 }
             }
         }
 
-        if ( touch == null )
+        throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist in Graph '%s'", source, target, graph );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingDagRelaxation( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "DAG relaxation can not be applied using null weight operations" );
+
+        final DagRelaxation<V, WE, W> relaxation =
+            new DagRelaxation<V, WE, W>( graph, weightedEdges, weightOperations, source, target, limits );
+
+        if ( !source.equals( target ) && relaxation.getPredecessors().getPredecessor( target ) == null )
         {
-            throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist in Graph '%s'", source, target, graph);
+            throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist in Graph '%s'", source, target, graph );
         }
 
-        return predecessorsForward.buildPath( source, touch, target, predecessorsBackwards );
+        return relaxation.getPredecessors().buildPath( source, target );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingBidirectionalDijkstra( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "Bidirectional Dijkstra algorithm can not be applied using null weight operations" );
+        return new DefaultBidirectionalHeuristicBuilder<V, WE, W>( graph, weightedEdges, source, target, weightOperations, limits ).applyingSearch( null );
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> HeuristicBuilder<V, WE, W> applyingBidirectionalAStar( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "Bidirectional A* algorithm can not be applied using null weight operations" );
+        return new DefaultBidirectionalHeuristicBuilder<V, WE, W>( graph, weightedEdges, source, target, weightOperations, limits );
+    }
+
 }
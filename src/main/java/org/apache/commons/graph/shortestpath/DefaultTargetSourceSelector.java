@@ -19,12 +19,14 @@ package org.apache.commons.graph.shortestpath;
  * under the License.
  */
 
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 
+import java.util.Set;
+
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.VertexPair;
 import org.apache.commons.graph.Mapper;
-import org.apache.commons.graph.WeightedPath;
 import org.apache.commons.graph.weight.OrderedMonoid;
 
 final class DefaultTargetSourceSelector<V, WE, W>
@@ -101,21 +103,48 @@ final class DefaultTargetSourceSelector<V, WE, W>
             }
         }
 
-        AllVertexPairsShortestPath<V, WE, W> allVertexPairsShortestPath = new AllVertexPairsShortestPath<V, WE, W>( weightOperations );
+        AllVertexPairsShortestPath<V, WE, W> allVertexPairsShortestPath =
+            new AllVertexPairsShortestPath<V, WE, W>( graph, weightedEdges, weightOperations );
+
+        int sourceIndex = allVertexPairsShortestPath.indexOf( source );
 
         for ( V target : graph.getVertices() )
         {
-            if ( !source.equals( target ) )
+            if ( !source.equals( target ) && shortestDistances.alreadyVisited( target ) )
             {
-                try
-                {
-                    WeightedPath<V, WE, W> weightedPath = predecessors.buildPath( source, target );
-                    allVertexPairsShortestPath.addShortestPath( source, target, weightedPath );
-                }
-                catch ( PathNotFoundException e )
-                {
-                    continue;
-                }
+                allVertexPairsShortestPath.setShortestPath( sourceIndex,
+                                                            allVertexPairsShortestPath.indexOf( target ),
+                                                            shortestDistances.getWeight( target ),
+                                                            allVertexPairsShortestPath.indexOf( predecessors.getPredecessor( target ) ) );
+            }
+        }
+
+        return allVertexPairsShortestPath;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <WO extends OrderedMonoid<W>> AllVertexPairsShortestPath<V, WE, W> applyingDagRelaxation( WO weightOperations )
+    {
+        weightOperations = checkNotNull( weightOperations, "DAG relaxation can not be applied using null weight operations" );
+
+        final DagRelaxation<V, WE, W> relaxation =
+            new DagRelaxation<V, WE, W>( graph, weightedEdges, weightOperations, source, null, new SearchLimits<W>() );
+
+        AllVertexPairsShortestPath<V, WE, W> allVertexPairsShortestPath =
+            new AllVertexPairsShortestPath<V, WE, W>( graph, weightedEdges, weightOperations );
+
+        int sourceIndex = allVertexPairsShortestPath.indexOf( source );
+
+        for ( V target : graph.getVertices() )
+        {
+            if ( !source.equals( target ) && relaxation.getShortestDistances().alreadyVisited( target ) )
+            {
+                allVertexPairsShortestPath.setShortestPath( sourceIndex,
+                                                            allVertexPairsShortestPath.indexOf( target ),
+                                                            relaxation.getShortestDistances().getWeight( target ),
+                                                            allVertexPairsShortestPath.indexOf( relaxation.getPredecessors().getPredecessor( target ) ) );
             }
         }
 
@@ -131,4 +160,23 @@ final class DefaultTargetSourceSelector<V, WE, W>
         return new DefaultShortestPathAlgorithmSelector<V, WE, W>( graph, weightedEdges, source, target );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public NearestTargetsAlgorithmSelector<V, WE, W> toAnyOf( Set<? extends V> targets )
+    {
+        return toKNearest( targets, 1 );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public NearestTargetsAlgorithmSelector<V, WE, W> toKNearest( Set<? extends V> targets, int k )
+    {
+        targets = checkNotNull( targets, "Shortest paths can not be calculated to null targets" );
+        checkArgument( !targets.isEmpty(), "Shortest paths can not be calculated to an empty set of targets" );
+        checkArgument( k > 0, "The number of nearest targets must be positive, %s given", k );
+        return new DefaultNearestTargetsAlgorithmSelector<V, WE, W>( graph, weightedEdges, source, targets, k );
+    }
+
 }
@@ -0,0 +1,224 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.util.Collections.unmodifiableMap;
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+
+/**
+ * Direction-optimizing breadth-first search: the frontier is expanded top-down, visiting the edges leaving it,
+ * while it is small, and bottom-up, looking for a parent in the frontier for each vertex not yet visited,
+ * once its edges outnumber the edges still to be explored.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph edges type
+ */
+final class DefaultUnweightedTargetSourceSelector<V, WE>
+    implements UnweightedTargetSourceSelector<V, WE>
+{
+
+    /**
+     * Switch to bottom-up when the frontier edges are more than the unexplored edges divided by this factor.
+     */
+    private static final int ALPHA = 14;
+
+    /**
+     * Switch back to top-down when the frontier vertices are less than the graph order divided by this factor.
+     */
+    private static final int BETA = 24;
+
+    private final Graph<V, WE> graph;
+
+    private final V source;
+
+    public DefaultUnweightedTargetSourceSelector( Graph<V, WE> graph, V source )
+    {
+        this.graph = graph;
+        this.source = source;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T extends V> WeightedPath<V, WE, Integer> to( T target )
+    {
+        target = checkNotNull( target, "Shortest path can not be calculated to a null target" );
+
+        final PredecessorsList<V, WE, Integer> predecessors =
+            new PredecessorsList<V, WE, Integer>( graph, new IntegerWeightBaseOperations(), new Mapper<WE, Integer>()
+            {
+
+                private static final long serialVersionUID = 2462349217830547185L;
+
+                public Integer map( WE input )
+                {
+                    return 1;
+                }
+
+            } );
+
+        if ( !search( target, predecessors ).containsKey( target ) )
+        {
+            throw new PathNotFoundException( "Path from '%s' to '%s' doesn't exist in Graph '%s'", source, target, graph );
+        }
+
+        return predecessors.buildPath( source, target );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Map<V, Integer> toAllVertices()
+    {
+        return unmodifiableMap( search( null, null ) );
+    }
+
+    /**
+     * Runs the breadth-first search from the source.
+     *
+     * @param target the vertex the search stops at, null to reach all the vertices
+     * @param predecessors the list where parents are stored, null if not needed
+     * @return the hop distances of the reached vertices
+     */
+    private Map<V, Integer> search( V target, PredecessorsList<V, WE, Integer> predecessors )
+    {
+        final Map<V, Integer> distances = new HashMap<V, Integer>();
+        distances.put( source, 0 );
+
+        List<V> frontier = new ArrayList<V>();
+        frontier.add( source );
+
+        long frontierEdges = outDegree( source );
+        // each edge is explored once from a directed graph, twice from an undirected one
+        long unexploredEdges = ( graph instanceof DirectedGraph ? 1L : 2L ) * graph.getSize() - frontierEdges;
+
+        boolean bottomUp = false;
+        int depth = 0;
+
+        while ( !frontier.isEmpty() && ( target == null || !distances.containsKey( target ) ) )
+        {
+            if ( !bottomUp && frontierEdges > unexploredEdges / ALPHA )
+            {
+                bottomUp = true;
+            }
+            else if ( bottomUp && frontier.size() < graph.getOrder() / BETA )
+            {
+                bottomUp = false;
+            }
+
+            final Integer frontierDepth = depth;
+            final Integer nextDepth = ++depth;
+            final List<V> next = new ArrayList<V>();
+
+            if ( bottomUp )
+            {
+                for ( V vertex : graph.getVertices() )
+                {
+                    if ( !distances.containsKey( vertex ) )
+                    {
+                        for ( V parent : inbound( vertex ) )
+                        {
+                            // the first parent found in the frontier is enough
+                            if ( frontierDepth.equals( distances.get( parent ) ) )
+                            {
+                                visit( parent, vertex, nextDepth, distances, predecessors, next );
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+            else
+            {
+                for ( V vertex : frontier )
+                {
+                    for ( V child : outbound( vertex ) )
+                    {
+                        if ( !distances.containsKey( child ) )
+                        {
+                            visit( vertex, child, nextDepth, distances, predecessors, next );
+                        }
+                    }
+                }
+            }
+
+            frontierEdges = 0;
+            for ( V vertex : next )
+            {
+                frontierEdges += outDegree( vertex );
+            }
+            unexploredEdges -= frontierEdges;
+
+            frontier = next;
+        }
+
+        return distances;
+    }
+
+    private void visit( V parent, V vertex, Integer depth, Map<V, Integer> distances,
+                        PredecessorsList<V, WE, Integer> predecessors, List<V> next )
+    {
+        distances.put( vertex, depth );
+        if ( predecessors != null )
+        {
+            predecessors.addPredecessor( vertex, parent );
+        }
+        next.add( vertex );
+    }
+
+    private Iterable<V> outbound( V vertex )
+    {
+        if ( graph instanceof DirectedGraph )
+        {
+            return ( (DirectedGraph<V, WE>) graph ).getOutbound( vertex );
+        }
+        return graph.getConnectedVertices( vertex );
+    }
+
+    private Iterable<V> inbound( V vertex )
+    {
+        if ( graph instanceof DirectedGraph )
+        {
+            return ( (DirectedGraph<V, WE>) graph ).getInbound( vertex );
+        }
+        return graph.getConnectedVertices( vertex );
+    }
+
+    private int outDegree( V vertex )
+    {
+        if ( graph instanceof DirectedGraph )
+        {
+            return ( (DirectedGraph<V, WE>) graph ).getOutDegree( vertex );
+        }
+        return graph.getDegree( vertex );
+    }
+
+}
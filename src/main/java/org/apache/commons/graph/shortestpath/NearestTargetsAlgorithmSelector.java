@@ -0,0 +1,49 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Map;
+
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ *
+ *
+ * @param <V> the Graph vertices type.
+ * @param <WE> the Graph weighted edges type
+ * @param <W> the weight type
+ */
+public interface NearestTargetsAlgorithmSelector<V, WE, W>
+{
+
+    /**
+     * Calculates the shortest paths to the nearest targets running a single Dijkstra's algorithm,
+     * stopped as soon as the last needed target is settled.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @return the nearest targets, from the closest to the farthest, mapped to their shortest path;
+     *         less targets than requested are returned if not all of them are reachable, if no one is
+     *         a {@link PathNotFoundException} will be thrown
+     */
+    <WO extends OrderedMonoid<W>> Map<V, WeightedPath<V, WE, W>> applyingDijkstra( WO weightOperations );
+
+}
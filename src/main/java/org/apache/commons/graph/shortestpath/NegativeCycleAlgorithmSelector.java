@@ -0,0 +1,48 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * Negative-weighted cycle detection algorithm selector.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> the weight type
+ */
+public interface NegativeCycleAlgorithmSelector<V, WE, W>
+{
+
+    /**
+     * Looks for a negative-weighted cycle applying the Bellman-Ford-Tarjan algorithm, that is a FIFO
+     * Bellman-Ford search where the shortest path tree is disassembled every time a vertex label improves.
+     * The search stops as soon as the improved vertex turns out to be an ancestor of the scanned one,
+     * without waiting for the end of the {@code O(VE)} passes.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @return the negative-weighted cycle, as a path that starts and ends in the same vertex, if any,
+     *         otherwise a {@link PathNotFoundException} will be thrown
+     */
+    <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingSubtreeDisassembly( WO weightOperations );
+
+}
@@ -0,0 +1,43 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.Mapper;
+
+/**
+ * Configures the function that maps edges to weights before looking for a negative-weighted cycle.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ */
+public interface NegativeCycleWeightedEdgesBuilder<V, WE>
+{
+
+    /**
+     * Specifies the function that maps the input graph edges to their weights.
+     *
+     * @param <W> the weight type
+     * @param <M> the mapper type
+     * @param weightedEdges the function to calculate edges weight
+     * @return the negative cycle algorithm selector
+     */
+    <W, M extends Mapper<WE, W>> NegativeCycleAlgorithmSelector<V, WE, W> whereEdgesHaveWeights( M weightedEdges );
+
+}
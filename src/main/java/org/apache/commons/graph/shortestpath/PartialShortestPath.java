@@ -0,0 +1,95 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+
+import java.io.Serializable;
+
+import org.apache.commons.graph.WeightedPath;
+
+/**
+ * What a shortest path search found before exceeding one of its budgets.
+ *
+ * @param <V> the Graph vertices type
+ * @param <WE> the Graph weighted edges type
+ * @param <W> the weight type
+ */
+public final class PartialShortestPath<V, WE, W>
+    implements Serializable
+{
+
+    private static final long serialVersionUID = -2484312709178413412L;
+
+    private final SearchBudget exceededBudget;
+
+    private final int exploredVertices;
+
+    private final WeightedPath<V, WE, W> bestFrontier;
+
+    PartialShortestPath( SearchBudget exceededBudget, int exploredVertices, WeightedPath<V, WE, W> bestFrontier )
+    {
+        this.exceededBudget = exceededBudget;
+        this.exploredVertices = exploredVertices;
+        this.bestFrontier = bestFrontier;
+    }
+
+    /**
+     * Returns the budget which stopped the search.
+     *
+     * @return the budget which stopped the search
+     */
+    public SearchBudget getExceededBudget()
+    {
+        return exceededBudget;
+    }
+
+    /**
+     * Returns the number of vertices settled before the search has been stopped.
+     *
+     * @return the number of vertices settled before the search has been stopped
+     */
+    public int getExploredVertices()
+    {
+        return exploredVertices;
+    }
+
+    /**
+     * Returns the path from the source to the most promising vertex of the search frontier,
+     * or the best path to the target found so far, if any, when the search was bidirectional.
+     *
+     * @return the path from the source to the most promising vertex of the search frontier
+     */
+    public WeightedPath<V, WE, W> getBestFrontier()
+    {
+        return bestFrontier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return format( "PartialShortestPath [exceededBudget=%s, exploredVertices=%s, bestFrontier=%s]",
+                       exceededBudget, exploredVertices, bestFrontier );
+    }
+
+}
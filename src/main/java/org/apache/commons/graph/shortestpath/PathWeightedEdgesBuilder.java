@@ -28,4 +28,11 @@ public interface PathWeightedEdgesBuilder<V, WE>
     // TODO find a better sentence
     <W, M extends Mapper<WE, W>> PathSourceSelector<V, WE, W> whereEdgesHaveWeights( M weightedEdges );
 
+    /**
+     * Calculates shortest paths as the minimum number of edges, without any edge weight.
+     *
+     * @return the unweighted shortest path source selector
+     */
+    UnweightedPathSourceSelector<V, WE> unweighted();
+
 }
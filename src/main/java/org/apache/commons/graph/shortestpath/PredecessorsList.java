@@ -19,13 +19,17 @@ package org.apache.commons.graph.shortestpath;
  * under the License.
  */
 
+import static java.util.Collections.reverse;
+
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.graph.Graph;
 import org.apache.commons.graph.Mapper;
 import org.apache.commons.graph.WeightedPath;
-import org.apache.commons.graph.model.InMemoryWeightedPath;
+import org.apache.commons.graph.model.ArrayWeightedPath;
 import org.apache.commons.graph.weight.Monoid;
 
 /**
@@ -65,6 +69,17 @@ public final class PredecessorsList<V, WE, W>
         predecessors.put( tail, head );
     }
 
+    /**
+     * Returns the predecessor of the input vertex.
+     *
+     * @param vertex the vertex which predecessor has to be returned
+     * @return the predecessor of the input vertex, null if it has not been added
+     */
+    V getPredecessor( V vertex )
+    {
+        return predecessors.get( vertex );
+    }
+
     /**
      * Build a {@link WeightedPath} instance related to source-target path.
      *
@@ -74,7 +89,10 @@ public final class PredecessorsList<V, WE, W>
      */
     public WeightedPath<V, WE, W> buildPath( V source, V target )
     {
-        InMemoryWeightedPath<V, WE, W> path = new InMemoryWeightedPath<V, WE, W>( source, target, weightOperations, weightedEdges );
+        final List<V> vertices = new ArrayList<V>();
+        final List<WE> edges = new ArrayList<WE>();
+
+        W weight = weightOperations.identity();
 
         V vertex = target;
         while ( !source.equals( vertex ) )
@@ -86,12 +104,23 @@ public final class PredecessorsList<V, WE, W>
             }
             WE edge = graph.getEdge( predecessor, vertex );
 
-            path.addConnectionInHead( predecessor, edge, vertex );
+            vertices.add( vertex );
+            edges.add( edge );
+            weight = weightOperations.append( weightedEdges.map( edge ), weight );
 
             vertex = predecessor;
         }
 
-        return path;
+        if ( !edges.isEmpty() )
+        {
+            vertices.add( source );
+        }
+
+        // the path has been collected bottom-up
+        reverse( vertices );
+        reverse( edges );
+
+        return new ArrayWeightedPath<V, WE, W>( source, target, vertices, edges, weight );
     }
 
     /**
@@ -104,7 +133,10 @@ public final class PredecessorsList<V, WE, W>
      * @return the weighted path related to source to target
      */
     public WeightedPath<V, WE, W> buildPath( V source, V touch, V target, PredecessorsList<V, WE, W> backwardsList ) {
-        InMemoryWeightedPath<V, WE, W> path = new InMemoryWeightedPath<V, WE, W>( source, target, weightOperations, weightedEdges );
+        final List<V> vertices = new ArrayList<V>();
+        final List<WE> edges = new ArrayList<WE>();
+
+        W weight = weightOperations.identity();
 
         V vertex = touch;
         while ( !source.equals( vertex ) )
@@ -116,11 +148,19 @@ public final class PredecessorsList<V, WE, W>
             }
             WE edge = graph.getEdge( predecessor, vertex );
 
-            path.addConnectionInHead(predecessor, edge, vertex);
+            vertices.add( vertex );
+            edges.add( edge );
+            weight = weightOperations.append( weightedEdges.map( edge ), weight );
 
             vertex = predecessor;
         }
 
+        vertices.add( source );
+
+        // the path from source to touch has been collected bottom-up
+        reverse( vertices );
+        reverse( edges );
+
         vertex = touch;
 
         while ( !target.equals( vertex ) )
@@ -133,12 +173,19 @@ public final class PredecessorsList<V, WE, W>
             }
             WE edge = graph.getEdge( vertex, predecessor );
 
-            path.addConnectionInTail( vertex, edge, predecessor );
+            vertices.add( predecessor );
+            edges.add( edge );
+            weight = weightOperations.append( weightedEdges.map( edge ), weight );
 
             vertex = predecessor;
         }
 
-        return path;
+        if ( edges.isEmpty() )
+        {
+            vertices.clear();
+        }
+
+        return new ArrayWeightedPath<V, WE, W>( source, target, vertices, edges, weight );
     }
 
     /**
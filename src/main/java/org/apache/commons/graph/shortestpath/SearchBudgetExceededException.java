@@ -0,0 +1,55 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.GraphException;
+
+/**
+ * Exception thrown when a shortest path search exceeds one of its budgets before reaching the target.
+ */
+public final class SearchBudgetExceededException
+    extends GraphException
+{
+
+    private static final long serialVersionUID = -6511364215227612905L;
+
+    private final PartialShortestPath<?, ?, ?> partialResult;
+
+    public SearchBudgetExceededException( PartialShortestPath<?, ?, ?> partialResult, String messagePattern, Object...arguments )
+    {
+        super( messagePattern, arguments );
+        this.partialResult = partialResult;
+    }
+
+    /**
+     * Returns what the search found before being stopped.
+     *
+     * @param <V> the Graph vertices type
+     * @param <WE> the Graph weighted edges type
+     * @param <W> the weight type
+     * @return what the search found before being stopped
+     */
+    @SuppressWarnings( "unchecked" ) // an exception can not be generic, types are the same of the search
+    public <V, WE, W> PartialShortestPath<V, WE, W> getPartialResult()
+    {
+        return (PartialShortestPath<V, WE, W>) partialResult;
+    }
+
+}
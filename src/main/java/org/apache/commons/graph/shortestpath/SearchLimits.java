@@ -0,0 +1,141 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.graph.weight.OrderedMonoid;
+
+/**
+ * The budgets a shortest path search is bounded by; an instance is immutable and shared among searches.
+ *
+ * @param <W> the weight type
+ */
+final class SearchLimits<W>
+{
+
+    private final int maxSettledVertices;
+
+    private final W maxDistance;
+
+    private final long timeoutNanos;
+
+    /**
+     * Creates the limits of an unbounded search.
+     */
+    public SearchLimits()
+    {
+        this( Integer.MAX_VALUE, null, -1 );
+    }
+
+    private SearchLimits( int maxSettledVertices, W maxDistance, long timeoutNanos )
+    {
+        this.maxSettledVertices = maxSettledVertices;
+        this.maxDistance = maxDistance;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    public SearchLimits<W> settlingAtMost( int maxSettledVertices )
+    {
+        return new SearchLimits<W>( maxSettledVertices, maxDistance, timeoutNanos );
+    }
+
+    public SearchLimits<W> withinDistance( W maxDistance )
+    {
+        return new SearchLimits<W>( maxSettledVertices, maxDistance, timeoutNanos );
+    }
+
+    public SearchLimits<W> withinTime( long timeout, TimeUnit unit )
+    {
+        return new SearchLimits<W>( maxSettledVertices, maxDistance, unit.toNanos( timeout ) );
+    }
+
+    /**
+     * Returns the same limits, where the maximum distance is doubled, for searches keeping doubled distances.
+     */
+    public SearchLimits<W> doubled( OrderedMonoid<W> weightOperations )
+    {
+        if ( maxDistance == null )
+        {
+            return this;
+        }
+        return new SearchLimits<W>( maxSettledVertices, weightOperations.append( maxDistance, maxDistance ), timeoutNanos );
+    }
+
+    /**
+     * Checks the search is still within its budgets.
+     *
+     * @param settledVertices the number of vertices settled so far
+     * @param lowerBound the lower bound of the weight of the path to the target, known by the search
+     * @param weightOperations the weight operations
+     * @param startNanos the {@link System#nanoTime()} when the search started
+     * @return the exceeded budget, null if the search can go on
+     */
+    public SearchBudget exceeded( int settledVertices, W lowerBound, OrderedMonoid<W> weightOperations, long startNanos )
+    {
+        if ( settledVertices >= maxSettledVertices )
+        {
+            return SearchBudget.SETTLED_VERTICES;
+        }
+
+        if ( exceedsDistance( lowerBound, weightOperations ) )
+        {
+            return SearchBudget.DISTANCE;
+        }
+
+        return exceeded( settledVertices, startNanos );
+    }
+
+    /**
+     * Checks the search is still within its settled vertices and time budgets,
+     * for searches where distances are not lower bounds of the path to the target.
+     *
+     * @param settledVertices the number of vertices settled so far
+     * @param startNanos the {@link System#nanoTime()} when the search started
+     * @return the exceeded budget, null if the search can go on
+     */
+    public SearchBudget exceeded( int settledVertices, long startNanos )
+    {
+        if ( settledVertices >= maxSettledVertices )
+        {
+            return SearchBudget.SETTLED_VERTICES;
+        }
+
+        if ( timeoutNanos >= 0 && System.nanoTime() - startNanos > timeoutNanos )
+        {
+            return SearchBudget.DEADLINE;
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks whether the given distance is heavier than the maximum distance.
+     *
+     * @param distance the distance to check
+     * @param weightOperations the weight operations
+     * @return true if the distance exceeds the maximum distance, false otherwise
+     */
+    public boolean exceedsDistance( W distance, OrderedMonoid<W> weightOperations )
+    {
+        return maxDistance != null && weightOperations.compare( distance, maxDistance ) > 0;
+    }
+
+}
@@ -19,11 +19,17 @@ package org.apache.commons.graph.shortestpath;
  * under the License.
  */
 
+import java.util.concurrent.TimeUnit;
+
 import org.apache.commons.graph.WeightedPath;
 import org.apache.commons.graph.weight.OrderedMonoid;
 
 /**
+ * Selects the algorithm the shortest path from the source to the target is searched with.
  *
+ * <p>Searches can be bounded by the settled vertices, distance and time budgets, which are honored by every algorithm
+ * of this selector: Dijkstra's algorithm, A*, their bidirectional variants and the DAG relaxation.
+ * Single source searches, such as Bellman-Ford's algorithm selected when no target is given, can not be bounded.</p>
  *
  * @param <V> the Graph vertices type.
  * @param <WE> the Graph weighted edges type
@@ -32,6 +38,44 @@ import org.apache.commons.graph.weight.OrderedMonoid;
 public interface ShortestPathAlgorithmSelector<V, WE, W>
 {
 
+    /**
+     * Bounds the search to the given number of settled vertices; when exceeded,
+     * the search is stopped throwing a {@link SearchBudgetExceededException}.
+     *
+     * @param maxSettledVertices the maximum number of vertices the search can settle
+     * @return the algorithm selector, bounded by the given budget
+     */
+    ShortestPathAlgorithmSelector<V, WE, W> settlingAtMost( int maxSettledVertices );
+
+    /**
+     * Bounds the search to paths not heavier than the given distance; as soon as the search knows there is no
+     * such path, it is stopped throwing a {@link SearchBudgetExceededException}.
+     *
+     * @param maxDistance the maximum weight of the searched path
+     * @return the algorithm selector, bounded by the given budget
+     */
+    ShortestPathAlgorithmSelector<V, WE, W> withinDistance( W maxDistance );
+
+    /**
+     * Bounds the search to the given wall-clock time; when exceeded,
+     * the search is stopped throwing a {@link SearchBudgetExceededException}.
+     *
+     * @param timeout the maximum time the search can take
+     * @param unit the time unit of the timeout argument
+     * @return the algorithm selector, bounded by the given budget
+     */
+    ShortestPathAlgorithmSelector<V, WE, W> withinTime( long timeout, TimeUnit unit );
+
+    /**
+     * Declares edge weights are never greater than the given one. When weights are {@link Integer}s or
+     * {@link Long}s, Dijkstra's algorithm is then run on a Dial's bucket queue or on a radix heap,
+     * rather than on a Fibonacci heap.
+     *
+     * @param maxEdgeWeight the maximum edge weight
+     * @return the algorithm selector, aware of the edge weights bound
+     */
+    ShortestPathAlgorithmSelector<V, WE, W> whereEdgeWeightsDoNotExceed( W maxEdgeWeight );
+
     /**
      *  Calculates the shortest path using the A* algorithm.
      *
@@ -59,4 +103,28 @@ public interface ShortestPathAlgorithmSelector<V, WE, W>
      */
     <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingBidirectionalDijkstra( WO weightOperations );
 
+    /**
+     *  Calculates the shortest path using the bidirectional A* algorithm, driven by averaged potential functions.
+     *  The heuristic has to be consistent and symmetric.
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @return the heuristic builder
+     */
+    <WO extends OrderedMonoid<W>> HeuristicBuilder<V, WE, W> applyingBidirectionalAStar( WO weightOperations );
+
+    /**
+     *  Calculates the shortest path relaxing the edges of a directed acyclic graph in topological order.
+     *  Settled vertices and time budgets are checked before relaxing each vertex; since weights can be negative,
+     *  the distance budget is checked against the path found to the target.
+     *
+     * <p>Note: the runtime complexity is O(V + E) and weights can be negative.</p>
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @return a path which describes the shortest path, if any, otherwise a {@link PathNotFoundException} will be thrown
+     * @throws org.apache.commons.graph.dag.CyclicGraphException if the graph contains a cycle
+     */
+    <WO extends OrderedMonoid<W>> WeightedPath<V, WE, W> applyingDagRelaxation( WO weightOperations );
+
 }
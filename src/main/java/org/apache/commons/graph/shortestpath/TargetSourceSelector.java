@@ -19,6 +19,8 @@ package org.apache.commons.graph.shortestpath;
  * under the License.
  */
 
+import java.util.Set;
+
 import org.apache.commons.graph.weight.OrderedMonoid;
 
 /**
@@ -40,6 +42,18 @@ public interface TargetSourceSelector<V, WE, W>
      */
     <WO extends OrderedMonoid<W>> AllVertexPairsShortestPath<V, WE, W> applyingBelmannFord( WO weightOperations );
 
+    /**
+     * Calculates the shortest paths from the source relaxing the edges of a directed acyclic graph in topological order.
+     *
+     * <p>Note: the runtime complexity is O(V + E) and weights can be negative.</p>
+     *
+     * @param <WO> the type of weight operations
+     * @param weightOperations the class responsible for operations on weights
+     * @return the shortest paths from the source
+     * @throws org.apache.commons.graph.dag.CyclicGraphException if the graph contains a cycle
+     */
+    <WO extends OrderedMonoid<W>> AllVertexPairsShortestPath<V, WE, W> applyingDagRelaxation( WO weightOperations );
+
     /**
      * Specifies the shortest path source.
      *
@@ -47,4 +61,21 @@ public interface TargetSourceSelector<V, WE, W>
      */
     <T extends V> ShortestPathAlgorithmSelector<V, WE, W> to( T target );
 
+    /**
+     * Specifies the candidate targets, where the shortest path leads to the nearest one.
+     *
+     * @param targets the candidate targets
+     * @return the algorithm selector
+     */
+    NearestTargetsAlgorithmSelector<V, WE, W> toAnyOf( Set<? extends V> targets );
+
+    /**
+     * Specifies the candidate targets, where the shortest paths lead to the {@code k} nearest ones.
+     *
+     * @param targets the candidate targets
+     * @param k the number of nearest targets to be reached
+     * @return the algorithm selector
+     */
+    NearestTargetsAlgorithmSelector<V, WE, W> toKNearest( Set<? extends V> targets, int k );
+
 }
@@ -0,0 +1,38 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ *
+ * @param <V> the Graph vertices type.
+ * @param <WE> the Graph edges type
+ */
+public interface UnweightedPathSourceSelector<V, WE>
+{
+
+    /**
+     * Specifies the shortest path source.
+     *
+     * @param source the shortest path source
+     * @return the target selector
+     */
+    <H extends V> UnweightedTargetSourceSelector<V, WE> from( H source );
+
+}
@@ -0,0 +1,52 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Map;
+
+import org.apache.commons.graph.WeightedPath;
+
+/**
+ *
+ * @param <V> the Graph vertices type.
+ * @param <WE> the Graph edges type
+ */
+public interface UnweightedTargetSourceSelector<V, WE>
+{
+
+    /**
+     * Calculates the path from the source to the target with the minimum number of edges,
+     * using a direction-optimizing breadth-first search.
+     *
+     * @param target the shortest path target
+     * @return a path which weight is its number of edges, if any, otherwise a {@link PathNotFoundException}
+     *         will be thrown
+     */
+    <T extends V> WeightedPath<V, WE, Integer> to( T target );
+
+    /**
+     * Calculates the minimum number of edges from the source to each reachable vertex,
+     * using a direction-optimizing breadth-first search.
+     *
+     * @return the reachable vertices, the source included, mapped to their hop distance from the source
+     */
+    Map<V, Integer> toAllVertices();
+
+}
@@ -0,0 +1,75 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Collection;
+
+import org.apache.commons.graph.Graph;
+
+/**
+ * A {@link GraphVisitHandler} driving the parallel breadth-first search, where the frontier of each level
+ * is expanded by concurrent tasks.
+ *
+ * {@link #discoverVertex(Object)}, {@link #discoverEdge(Object, Object, Object)},
+ * {@link #finishEdge(Object, Object, Object)} and {@link #finishVertex(Object)} are invoked concurrently,
+ * so implementations have to be thread safe; all the other methods are invoked by the thread coordinating the visit,
+ * when no task is running.
+ *
+ * Vertices are claimed only once an edge leading to them has been discovered, so an edge skipped by
+ * {@link #discoverEdge(Object, Object, Object)} does not prevent its tail from being discovered through other edges.
+ * For the same reason, concurrent tasks may discover more edges leading to the same vertex in the same level,
+ * while the vertex is discovered once, through one of the edges the handler continued the visit with.
+ * As in the sequential breadth-first search, {@link #finishVertex(Object)} is invoked once the vertex
+ * has been expanded, or right after its discovery if it is not expanded.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ * @param <G> the Graph type
+ * @param <O> the visit result type
+ */
+public interface ConcurrentGraphVisitHandler<V, E, G extends Graph<V, E>, O>
+    extends GraphVisitHandler<V, E, G, O>
+{
+
+    /**
+     * Performs operations on the frontier of the given level, before its vertices are expanded,
+     * and determines the behavior of the visit algorithm based on the return value:
+     * <ul>
+     *   <li>{@link VisitState.CONTINUE} continues the visit normally;</li>
+     *   <li>{@link VisitState.SKIP} terminates the visit without expanding the frontier;</li>
+     *   <li>{@link VisitState.ABORT} terminates the visit.</li>
+     * </ul>
+     *
+     * @param level the distance, in edges, of the frontier vertices from the source
+     * @param frontier the vertices discovered in the previous level
+     * @return the state of the visit after operations on the frontier
+     */
+    VisitState discoverLevel( int level, Collection<V> frontier );
+
+    /**
+     * Checks if the search algorithm should be terminated. Called once all the vertices of the next level
+     * have been discovered.
+     *
+     * @param level the distance, in edges, of the expanded frontier vertices from the source
+     * @return {@link VisitState.ABORT} if the search algorithm should be terminated, {@link VisitState.CONTINUE} otherwise
+     */
+    VisitState finishLevel( int level );
+
+}
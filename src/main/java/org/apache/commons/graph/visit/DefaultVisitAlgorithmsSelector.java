@@ -19,18 +19,23 @@ package org.apache.commons.graph.visit;
  * under the License.
  */
 
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+import static org.apache.commons.graph.utils.Assertions.checkState;
 import static org.apache.commons.graph.visit.VisitState.ABORT;
 import static org.apache.commons.graph.visit.VisitState.CONTINUE;
 
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.Set;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.graph.DirectedGraph;
 import org.apache.commons.graph.Graph;
-import org.apache.commons.graph.VertexPair;
 
 /**
  * {@link VisitAlgorithmsSelector} implementation.
@@ -46,19 +51,113 @@ final class DefaultVisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
     /** The graph. */
     private final G graph;
 
-    /** The start vertex for the search. */
-    private final V source;
+    /** The start vertices for the search. */
+    private final List<V> sources;
+
+    /** The maximum depth of visited vertices. */
+    private final int maxDepth;
 
     /**
-     * Create a default {@link VisitAlgorithmsSelector} for the given {@link Graph} and start vertex.
+     * The visited vertices set, shared with the selectors derived from this one and cleared once a visit takes it;
+     * null if a new hash based one has to be created for each visit.
+     */
+    private final AtomicReference<VisitedVertices<V>> visitedVertices;
+
+    /**
+     * Create a default {@link VisitAlgorithmsSelector} for the given {@link Graph} and start vertices.
      *
      * @param graph the {@link Graph} to be used.
-     * @param source the start vertex.
+     * @param sources the start vertices.
      */
-    public DefaultVisitAlgorithmsSelector( final G graph, final V source )
+    public DefaultVisitAlgorithmsSelector( final G graph, final List<V> sources )
+    {
+        this( graph, sources, Integer.MAX_VALUE, null );
+    }
+
+    private DefaultVisitAlgorithmsSelector( final G graph, final List<V> sources, final int maxDepth,
+                                            final AtomicReference<VisitedVertices<V>> visitedVertices )
     {
         this.graph = graph;
-        this.source = source;
+        this.sources = sources;
+        this.maxDepth = maxDepth;
+        this.visitedVertices = visitedVertices;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public VisitAlgorithmsSelector<V, E, G> trackingVisitedVerticesWith( VisitedVertices<V> visitedVertices )
+    {
+        visitedVertices = checkNotNull( visitedVertices, "Visited vertices can not be tracked by a null set" );
+        return new DefaultVisitAlgorithmsSelector<V, E, G>( graph, sources, maxDepth,
+                                                            new AtomicReference<VisitedVertices<V>>( visitedVertices ) );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public VisitAlgorithmsSelector<V, E, G> withMaxDepth( int maxDepth )
+    {
+        checkArgument( maxDepth >= 0, "Visit max depth must be not negative, found %s", maxDepth );
+        return new DefaultVisitAlgorithmsSelector<V, E, G>( graph, sources, maxDepth, visitedVertices );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public VisitSteps<V, E> breadthFirst()
+    {
+        return lazyVisit( true );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public VisitSteps<V, E> depthFirst()
+    {
+        return lazyVisit( false );
+    }
+
+    private VisitSteps<V, E> lazyVisit( final boolean enqueue )
+    {
+        return new VisitSteps<V, E>()
+        {
+
+            public Iterator<VisitStep<V, E>> iterator()
+            {
+                return new VisitIterator<V, E>( graph, sources, maxDepth, enqueue, newVisitedVertices() );
+            }
+
+            public Spliterator<VisitStep<V, E>> spliterator()
+            {
+                // the spliterator advances the iterator one step at a time, so the visit stays lazy
+                return Spliterators.spliteratorUnknownSize( iterator(), Spliterator.ORDERED | Spliterator.NONNULL );
+            }
+
+            public Stream<VisitStep<V, E>> stream()
+            {
+                return StreamSupport.stream( spliterator(), false );
+            }
+
+        };
+    }
+
+    /**
+     * Returns the visited vertices set the next visit has to fill.
+     *
+     * @throws IllegalStateException if the set given by {@link #trackingVisitedVerticesWith(VisitedVertices)}
+     *         has already been filled by a previous visit
+     */
+    private VisitedVertices<V> newVisitedVertices()
+    {
+        if ( visitedVertices == null )
+        {
+            return new HashVisitedVertices<V>();
+        }
+
+        VisitedVertices<V> unused = visitedVertices.getAndSet( null );
+        checkState( unused != null, "The visited vertices set has already been filled by a previous visit" );
+        return unused;
     }
 
     /**
@@ -93,6 +192,24 @@ final class DefaultVisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
         return applyingSearch( handler, false );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public Graph<V, E> applyingParallelBreadthFirstSearch( Executor executor )
+    {
+        return applyingParallelBreadthFirstSearch( new ConcurrentVisitGraphBuilder<V, E, G>(), executor );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <O> O applyingParallelBreadthFirstSearch( ConcurrentGraphVisitHandler<V, E, G, O> handler, Executor executor )
+    {
+        handler = checkNotNull( handler, "Graph visitor handler can not be null." );
+        executor = checkNotNull( executor, "Parallel visit can not be run on a null executor." );
+        return new ParallelBreadthFirstSearch<V, E, G>( graph, sources, maxDepth, executor ).visit( handler );
+    }
+
     /**
      * A generalized graph search algorithm to be used to implement depth-first and breadth-first searches. Depending on
      * the used collection, the algorithm traverses the graph in a different way:
@@ -101,6 +218,10 @@ final class DefaultVisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
      * <li>Stack (LIFO): depth-first</li>
      * </ul>
      *
+     * All the sources are marked as visited before the search starts, so vertices reachable from
+     * more than one source are explored once; vertices at the max depth are discovered but not expanded.
+     * The edge leading to a vertex is looked up only when the vertex is actually discovered.
+     *
      * @param handler the handler intercepts visits
      * @param enqueue defines the collection behavior used to traverse the graph: true is a Queue, false is a Stack
      * @return the result of {@link GraphVisitHandler#onCompleted()}
@@ -111,35 +232,45 @@ final class DefaultVisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
 
         handler.discoverGraph( graph );
 
-        final LinkedList<VertexPair<V>> vertexList = new LinkedList<VertexPair<V>>();
+        // resolved once, rather than for each expanded vertex
+        @SuppressWarnings( "unchecked" ) // just checked
+        final DirectedGraph<V, E> directedGraph = ( graph instanceof DirectedGraph ) ? (DirectedGraph<V, E>) graph : null;
 
-        vertexList.addLast( new VertexPair<V>( source, source ) );
+        @SuppressWarnings( "unchecked" ) // just checked
+        final DepthAwareGraphVisitHandler<V, E, G, O> depthAwareHandler =
+            ( handler instanceof DepthAwareGraphVisitHandler ) ? (DepthAwareGraphVisitHandler<V, E, G, O>) handler : null;
 
-        final Set<V> visitedVertices = new HashSet<V>();
-        visitedVertices.add( source );
+        final VisitedVertices<V> visited = newVisitedVertices();
+        for ( V source : sources )
+        {
+            visited.add( source );
+        }
+
+        final VisitFrontier<V> frontier = new VisitFrontier<V>( sources, enqueue );
 
         boolean visitingGraph = true;
 
-        while ( visitingGraph && !vertexList.isEmpty() )
+        while ( visitingGraph && !frontier.isEmpty() )
         {
-            // if dequeue, remove the first element, otherwise the last
-            final VertexPair<V> pair = enqueue ? vertexList.removeFirst() : vertexList.removeLast();
-            final V v = pair.getHead();
-            final V prevHead = pair.getTail();
-            final E e = prevHead.equals( v ) ? null : graph.getEdge( prevHead, v );
+            frontier.remove();
+            final V v = frontier.getVertex();
+            final V prevHead = frontier.getPredecessor();
+            final int depth = frontier.getDepth();
 
             boolean skipVertex = false;
 
-            if ( e != null )
+            if ( prevHead != null )
             {
                 // if the vertex was already visited, do not discover
                 // another edge leading to the same vertex
-                if ( visitedVertices.contains( v ) )
+                if ( visited.contains( v ) )
                 {
                     skipVertex = true;
                 }
                 else
                 {
+                    final E e = graph.getEdge( prevHead, v );
+
                     VisitState stateAfterEdgeDiscovery = handler.discoverEdge( prevHead, e, v );
                     if ( CONTINUE != stateAfterEdgeDiscovery )
                     {
@@ -163,8 +294,10 @@ final class DefaultVisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
             boolean vertexWasDiscovered = false;
             if ( !skipVertex )
             {
-                visitedVertices.add( v );
-                VisitState stateAfterVertexDiscovery = handler.discoverVertex( v );
+                visited.add( v );
+                VisitState stateAfterVertexDiscovery = depthAwareHandler != null
+                                ? depthAwareHandler.discoverVertex( v, depth )
+                                : handler.discoverVertex( v );
                 vertexWasDiscovered = true;
                 if ( CONTINUE != stateAfterVertexDiscovery )
                 {
@@ -176,18 +309,15 @@ final class DefaultVisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
                 }
             }
 
-            if ( !skipVertex )
+            if ( !skipVertex && depth < maxDepth )
             {
-                Iterator<V> connected =
-                    ( graph instanceof DirectedGraph ) ? ( (DirectedGraph<V, E>) graph ).getOutbound( v ).iterator()
-                                    : graph.getConnectedVertices( v ).iterator();
+                Iterable<V> connected = directedGraph != null ? directedGraph.getOutbound( v ) : graph.getConnectedVertices( v );
 
-                while ( connected.hasNext() )
+                for ( V w : connected )
                 {
-                    V w = connected.next();
-                    if ( !visitedVertices.contains( w ) )
+                    if ( !visited.contains( w ) )
                     {
-                        vertexList.addLast( new VertexPair<V>( w, v ) );
+                        frontier.add( w, v, depth + 1 );
                     }
                 }
             }
@@ -19,9 +19,16 @@ package org.apache.commons.graph.visit;
  * under the License.
  */
 
+import static org.apache.commons.graph.utils.Assertions.checkArgument;
 import static org.apache.commons.graph.utils.Assertions.checkNotNull;
 import static org.apache.commons.graph.utils.Assertions.checkState;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import org.apache.commons.graph.Graph;
 
 /**
@@ -49,7 +56,26 @@ public final class DefaultVisitSourceSelector<V, E, G extends Graph<V, E>>
     {
         source = checkNotNull( source, "Impossible to visit input graph %s with null source", graph );
         checkState( graph.containsVertex( source ), "Vertex %s does not exist in the Graph", source );
-        return new DefaultVisitAlgorithmsSelector<V, E, G>( graph, source );
+        return new DefaultVisitAlgorithmsSelector<V, E, G>( graph, Collections.<V>singletonList( source ) );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <S extends V> VisitAlgorithmsSelector<V, E, G> from( Collection<S> sources )
+    {
+        sources = checkNotNull( sources, "Impossible to visit input graph %s with null sources", graph );
+        checkArgument( !sources.isEmpty(), "Impossible to visit input graph %s without sources", graph );
+
+        // duplicated sources are dropped, keeping the given order
+        Set<V> distinctSources = new LinkedHashSet<V>();
+        for ( S source : sources )
+        {
+            source = checkNotNull( source, "Impossible to visit input graph %s with null source", graph );
+            checkState( graph.containsVertex( source ), "Vertex %s does not exist in the Graph", source );
+            distinctSources.add( source );
+        }
+        return new DefaultVisitAlgorithmsSelector<V, E, G>( graph, new ArrayList<V>( distinctSources ) );
     }
 
 }
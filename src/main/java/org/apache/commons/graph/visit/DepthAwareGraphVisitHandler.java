@@ -0,0 +1,45 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.commons.graph.Graph;
+
+/**
+ * A {@link GraphVisitHandler} that is told how deep each discovered vertex is: 0 for the visit sources,
+ * the depth of the vertex it has been reached from plus one otherwise.
+ *
+ * Visits invoke {@link #discoverVertex(Object, int)} instead of {@link #discoverVertex(Object)}
+ * on handlers implementing this interface.
+ */
+public interface DepthAwareGraphVisitHandler<V, E, G extends Graph<V, E>, O>
+    extends GraphVisitHandler<V, E, G, O>
+{
+
+    /**
+     * Performs operations on the input vertex and determines the behavior of the visit algorithm
+     * based on the return value, as {@link #discoverVertex(Object)} does.
+     *
+     * @param vertex the discovered vertex
+     * @param depth the depth of the discovered vertex
+     * @return the state of the visit after operations on the vertex
+     */
+    VisitState discoverVertex( V vertex, int depth );
+
+}
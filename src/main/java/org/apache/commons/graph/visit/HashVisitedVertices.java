@@ -0,0 +1,52 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * {@link VisitedVertices} implementation backed by a {@link HashSet}, suitable for any vertex type.
+ *
+ * @param <V> the Graph vertices type
+ */
+public final class HashVisitedVertices<V>
+    implements VisitedVertices<V>
+{
+
+    private final Set<V> vertices = new HashSet<V>();
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean add( V vertex )
+    {
+        return vertices.add( vertex );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean contains( V vertex )
+    {
+        return vertices.contains( vertex );
+    }
+
+}
@@ -0,0 +1,76 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.utils.Assertions.checkNotNull;
+
+import java.util.BitSet;
+
+import org.apache.commons.graph.Mapper;
+
+/**
+ * {@link VisitedVertices} implementation backed by a bitmap, for graphs where each vertex
+ * can be mapped to a small non-negative index, i.e. its position in an array.
+ *
+ * @param <V> the Graph vertices type
+ */
+public final class IndexedVisitedVertices<V>
+    implements VisitedVertices<V>
+{
+
+    private final Mapper<V, Integer> indexes;
+
+    private final BitSet visited;
+
+    /**
+     * Creates a new empty bitmap of visited vertices.
+     *
+     * @param indexes the function mapping each vertex to its index
+     * @param order the number of vertices, used to size the bitmap
+     */
+    public IndexedVisitedVertices( Mapper<V, Integer> indexes, int order )
+    {
+        this.indexes = checkNotNull( indexes, "Vertices can not be indexed by a null function" );
+        this.visited = new BitSet( order );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean add( V vertex )
+    {
+        int index = indexes.map( vertex );
+        if ( visited.get( index ) )
+        {
+            return false;
+        }
+        visited.set( index );
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean contains( V vertex )
+    {
+        return visited.get( indexes.map( vertex ) );
+    }
+
+}
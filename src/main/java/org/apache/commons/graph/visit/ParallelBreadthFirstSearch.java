@@ -0,0 +1,336 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.util.Collections.unmodifiableList;
+import static org.apache.commons.graph.visit.VisitState.ABORT;
+import static org.apache.commons.graph.visit.VisitState.CONTINUE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.GraphException;
+
+/**
+ * Level-synchronous breadth-first search, where the frontier of each level is split in chunks
+ * expanded by concurrent tasks, and visited vertices are claimed atomically in a shared bitmap.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ * @param <G> the Graph type
+ */
+final class ParallelBreadthFirstSearch<V, E, G extends Graph<V, E>>
+{
+
+    /**
+     * Frontiers smaller than this are not split.
+     */
+    private static final int MIN_CHUNK_SIZE = 256;
+
+    /**
+     * The number of chunks per available processor, to balance the load of tasks.
+     */
+    private static final int CHUNKS_PER_PROCESSOR = 4;
+
+    private final G graph;
+
+    private final List<V> sources;
+
+    private final int maxDepth;
+
+    private final Executor executor;
+
+    private final Map<V, Integer> indexes = new HashMap<V, Integer>();
+
+    private final AtomicLongArray visited;
+
+    private final AtomicBoolean aborted = new AtomicBoolean();
+
+    public ParallelBreadthFirstSearch( G graph, List<V> sources, int maxDepth, Executor executor )
+    {
+        this.graph = graph;
+        this.sources = sources;
+        this.maxDepth = maxDepth;
+        this.executor = executor;
+
+        for ( V vertex : graph.getVertices() )
+        {
+            indexes.put( vertex, indexes.size() );
+        }
+        visited = new AtomicLongArray( ( indexes.size() + Long.SIZE - 1 ) / Long.SIZE );
+    }
+
+    /**
+     * Runs the visit.
+     *
+     * @param handler the handler intercepts visits
+     * @return the result of {@link GraphVisitHandler#onCompleted()}
+     */
+    public <O> O visit( ConcurrentGraphVisitHandler<V, E, G, O> handler )
+    {
+        handler.discoverGraph( graph );
+
+        for ( V source : sources )
+        {
+            claim( source );
+        }
+
+        List<V> frontier = new ArrayList<V>();
+
+        for ( V source : sources )
+        {
+            if ( !discoverVertex( handler, source, 0, frontier ) )
+            {
+                break;
+            }
+        }
+
+        int level = 0;
+
+        // vertices at the max depth are discovered but not expanded
+        while ( !aborted.get() && !frontier.isEmpty() && level < maxDepth )
+        {
+            VisitState stateAfterLevelDiscovery = handler.discoverLevel( level, unmodifiableList( frontier ) );
+            if ( ABORT == stateAfterLevelDiscovery )
+            {
+                break;
+            }
+            if ( CONTINUE != stateAfterLevelDiscovery )
+            {
+                // the frontier vertices will not be expanded
+                for ( V vertex : frontier )
+                {
+                    if ( ABORT == handler.finishVertex( vertex ) )
+                    {
+                        break;
+                    }
+                }
+                break;
+            }
+
+            frontier = expand( frontier, level + 1, handler );
+
+            if ( ABORT == handler.finishLevel( level ) )
+            {
+                break;
+            }
+
+            level++;
+        }
+
+        handler.finishGraph( graph );
+
+        return handler.onCompleted();
+    }
+
+    /**
+     * Expands the frontier in parallel.
+     *
+     * @param depth the depth of the vertices reached from the frontier
+     * @return the next frontier
+     */
+    private <O> List<V> expand( List<V> frontier, int depth, ConcurrentGraphVisitHandler<V, E, G, O> handler )
+    {
+        int chunks = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR;
+        int chunkSize = Math.max( MIN_CHUNK_SIZE, ( frontier.size() + chunks - 1 ) / chunks );
+
+        List<FutureTask<List<V>>> tasks = new ArrayList<FutureTask<List<V>>>();
+        for ( int from = 0; from < frontier.size(); from += chunkSize )
+        {
+            FutureTask<List<V>> task =
+                new FutureTask<List<V>>( new ExpandChunk<O>( frontier.subList( from, Math.min( from + chunkSize, frontier.size() ) ), depth, handler ) );
+            tasks.add( task );
+            executor.execute( task );
+        }
+
+        List<V> next = new ArrayList<V>();
+        for ( FutureTask<List<V>> task : tasks )
+        {
+            try
+            {
+                next.addAll( task.get() );
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw new GraphException( "Parallel visit of Graph %s has been interrupted", graph );
+            }
+            catch ( ExecutionException e )
+            {
+                if ( e.getCause() instanceof RuntimeException )
+                {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new GraphException( e.getCause() );
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Discovers the input vertex, telling its depth to depth aware handlers. Vertices to be expanded are added
+     * to the next frontier and finished once expanded, as in the sequential search; the other ones are finished now.
+     *
+     * @param next the frontier of the next level
+     * @return false if the visit has been aborted, true otherwise
+     */
+    @SuppressWarnings( "unchecked" ) // just checked
+    private <O> boolean discoverVertex( GraphVisitHandler<V, E, G, O> handler, V vertex, int depth, List<V> next )
+    {
+        VisitState stateAfterVertexDiscovery;
+        if ( handler instanceof DepthAwareGraphVisitHandler )
+        {
+            stateAfterVertexDiscovery = ( (DepthAwareGraphVisitHandler<V, E, G, O>) handler ).discoverVertex( vertex, depth );
+        }
+        else
+        {
+            stateAfterVertexDiscovery = handler.discoverVertex( vertex );
+        }
+
+        if ( CONTINUE == stateAfterVertexDiscovery && depth < maxDepth )
+        {
+            next.add( vertex );
+            return true;
+        }
+
+        if ( ABORT == stateAfterVertexDiscovery | ABORT == handler.finishVertex( vertex ) )
+        {
+            aborted.set( true );
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Atomically marks the vertex as visited.
+     *
+     * @return true if the vertex has been marked by the caller, false if it was already visited
+     */
+    private boolean claim( V vertex )
+    {
+        int index = indexes.get( vertex );
+        int word = index >>> 6;
+        long mask = 1L << index;
+
+        long current;
+        do
+        {
+            current = visited.get( word );
+            if ( ( current & mask ) != 0 )
+            {
+                return false;
+            }
+        }
+        while ( !visited.compareAndSet( word, current, current | mask ) );
+
+        return true;
+    }
+
+    private boolean isVisited( V vertex )
+    {
+        int index = indexes.get( vertex );
+        return ( visited.get( index >>> 6 ) & ( 1L << index ) ) != 0;
+    }
+
+    /**
+     * Expands a chunk of the frontier.
+     */
+    private final class ExpandChunk<O>
+        implements Callable<List<V>>
+    {
+
+        private final List<V> chunk;
+
+        private final int depth;
+
+        private final ConcurrentGraphVisitHandler<V, E, G, O> handler;
+
+        public ExpandChunk( List<V> chunk, int depth, ConcurrentGraphVisitHandler<V, E, G, O> handler )
+        {
+            this.chunk = chunk;
+            this.depth = depth;
+            this.handler = handler;
+        }
+
+        public List<V> call()
+        {
+            final List<V> next = new ArrayList<V>();
+
+            for ( V v : chunk )
+            {
+                Iterable<V> connected = ( graph instanceof DirectedGraph ) ? ( (DirectedGraph<V, E>) graph ).getOutbound( v )
+                                                                           : graph.getConnectedVertices( v );
+
+                for ( V w : connected )
+                {
+                    if ( aborted.get() )
+                    {
+                        return next;
+                    }
+
+                    // vertices discovered by previous levels, or already by this one, are not reached again
+                    if ( isVisited( w ) )
+                    {
+                        continue;
+                    }
+
+                    E e = graph.getEdge( v, w );
+
+                    // the vertex is claimed only once the edge has been accepted, so a skipped edge
+                    // does not prevent concurrent tasks from discovering the vertex through other edges
+                    VisitState stateAfterEdgeDiscovery = handler.discoverEdge( v, e, w );
+                    boolean claimed = CONTINUE == stateAfterEdgeDiscovery && claim( w );
+                    VisitState stateAfterEdgeFinish = handler.finishEdge( v, e, w );
+
+                    if ( ABORT == stateAfterEdgeDiscovery || ABORT == stateAfterEdgeFinish )
+                    {
+                        aborted.set( true );
+                        return next;
+                    }
+
+                    if ( claimed && !discoverVertex( handler, w, depth, next ) )
+                    {
+                        return next;
+                    }
+                }
+
+                if ( ABORT == handler.finishVertex( v ) )
+                {
+                    aborted.set( true );
+                    return next;
+                }
+            }
+
+            return next;
+        }
+
+    }
+
+}
@@ -19,6 +19,8 @@ package org.apache.commons.graph.visit;
  * under the License.
  */
 
+import java.util.concurrent.Executor;
+
 import org.apache.commons.graph.Graph;
 
 /**
@@ -31,6 +33,55 @@ import org.apache.commons.graph.Graph;
 public interface VisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
 {
 
+    /**
+     * Tracks the vertices visited by the next visit in the given set, i.e. an {@link IndexedVisitedVertices}
+     * bitmap when vertices can be mapped to array indexes; a {@link HashVisitedVertices} is used otherwise.
+     *
+     * The given set has to be empty, since it is filled by the visit: it can then be used by one visit only,
+     * and starting another visit from the returned selector, or from the ones derived from it,
+     * throws an {@link IllegalStateException}.
+     *
+     * @param visitedVertices the visited vertices set
+     * @return the visit algorithms selector using the given visited vertices set
+     */
+    VisitAlgorithmsSelector<V, E, G> trackingVisitedVerticesWith( VisitedVertices<V> visitedVertices );
+
+    /**
+     * Limits the visit to the vertices at most {@code maxDepth} edges away from the sources:
+     * vertices at the max depth are discovered but not expanded.
+     *
+     * Depth-first visits measure the depth along the visit tree, so a vertex may be left out
+     * even if it is reachable through a shorter path; breadth-first visits measure the hop distance.
+     *
+     * @param maxDepth the maximum depth of visited vertices, 0 to visit the sources only
+     * @return the visit algorithms selector limited to the given depth
+     */
+    VisitAlgorithmsSelector<V, E, G> withMaxDepth( int maxDepth );
+
+    /**
+     * Lazy breadth-first visit: vertices are reached only while the returned steps are iterated,
+     * so the visit can be stopped at any time just by no longer consuming them.
+     *
+     * Each {@link VisitSteps#iterator()} or {@link VisitSteps#stream()} invocation starts a new visit,
+     * so only one of them can be invoked, once, when the visited vertices set is given by
+     * {@link #trackingVisitedVerticesWith(VisitedVertices)}.
+     *
+     * @return the visit steps, in breadth-first order
+     */
+    VisitSteps<V, E> breadthFirst();
+
+    /**
+     * Lazy depth-first visit: vertices are reached only while the returned steps are iterated,
+     * so the visit can be stopped at any time just by no longer consuming them.
+     *
+     * Each {@link VisitSteps#iterator()} or {@link VisitSteps#stream()} invocation starts a new visit,
+     * so only one of them can be invoked, once, when the visited vertices set is given by
+     * {@link #trackingVisitedVerticesWith(VisitedVertices)}.
+     *
+     * @return the visit steps, in depth-first order
+     */
+    VisitSteps<V, E> depthFirst();
+
     /**
      * Breadth-first search algorithm implementation.
      *
@@ -59,4 +110,22 @@ public interface VisitAlgorithmsSelector<V, E, G extends Graph<V, E>>
      */
     <O> O applyingDepthFirstSearch( GraphVisitHandler<V, E, G, O> handler );
 
+    /**
+     * Level-synchronous breadth-first search algorithm implementation, where each frontier is expanded
+     * in parallel by tasks run on the given executor.
+     *
+     * @param executor the executor the expansion tasks are run on
+     * @return the breadth first search tree
+     */
+    Graph<V, E> applyingParallelBreadthFirstSearch( Executor executor );
+
+    /**
+     * Level-synchronous breadth-first search algorithm implementation, where each frontier is expanded
+     * in parallel by tasks run on the given executor.
+     *
+     * @param handler the thread safe handler intercepts visit actions
+     * @param executor the executor the expansion tasks are run on
+     */
+    <O> O applyingParallelBreadthFirstSearch( ConcurrentGraphVisitHandler<V, E, G, O> handler, Executor executor );
+
 }
@@ -0,0 +1,180 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.List;
+
+/**
+ * The frontier of sequential breadth-first and depth-first visits: a circular buffer where each vertex
+ * is stored along with the vertex it has been reached from and with its depth, in parallel arrays,
+ * so no entry object has to be allocated and depths are not boxed.
+ *
+ * Entries are read through a cursor, moved by {@link #remove()}.
+ *
+ * @param <V> the Graph vertices type
+ */
+final class VisitFrontier<V>
+{
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** True if entries are removed in FIFO order, false if in LIFO order. */
+    private final boolean enqueue;
+
+    private Object[] vertices = new Object[INITIAL_CAPACITY];
+
+    private Object[] predecessors = new Object[INITIAL_CAPACITY];
+
+    private int[] depths = new int[INITIAL_CAPACITY];
+
+    /** The position of the first entry; the capacity is a power of 2, so positions wrap around with a mask. */
+    private int head;
+
+    private int size;
+
+    private V vertex;
+
+    private V predecessor;
+
+    private int depth;
+
+    /**
+     * Creates a new frontier, containing the visit sources.
+     *
+     * @param sources the visit sources, the visit starts from the first one
+     * @param enqueue true for a breadth-first visit (Queue), false for a depth-first one (Stack)
+     */
+    public VisitFrontier( List<V> sources, boolean enqueue )
+    {
+        this.enqueue = enqueue;
+
+        if ( enqueue )
+        {
+            for ( V source : sources )
+            {
+                add( source, null, 0 );
+            }
+        }
+        else
+        {
+            for ( int i = sources.size() - 1; i >= 0; i-- )
+            {
+                add( sources.get( i ), null, 0 );
+            }
+        }
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Adds a vertex reached from the given predecessor, null for the visit sources.
+     */
+    public void add( V vertex, V predecessor, int depth )
+    {
+        if ( size == vertices.length )
+        {
+            grow();
+        }
+
+        int tail = ( head + size ) & ( vertices.length - 1 );
+        vertices[tail] = vertex;
+        predecessors[tail] = predecessor;
+        depths[tail] = depth;
+        size++;
+    }
+
+    /**
+     * Doubles the capacity, moving the entries at the beginning of the new arrays.
+     */
+    private void grow()
+    {
+        Object[] newVertices = new Object[vertices.length * 2];
+        Object[] newPredecessors = new Object[vertices.length * 2];
+        int[] newDepths = new int[vertices.length * 2];
+
+        int firstChunk = vertices.length - head;
+        System.arraycopy( vertices, head, newVertices, 0, firstChunk );
+        System.arraycopy( vertices, 0, newVertices, firstChunk, head );
+        System.arraycopy( predecessors, head, newPredecessors, 0, firstChunk );
+        System.arraycopy( predecessors, 0, newPredecessors, firstChunk, head );
+        System.arraycopy( depths, head, newDepths, 0, firstChunk );
+        System.arraycopy( depths, 0, newDepths, firstChunk, head );
+
+        vertices = newVertices;
+        predecessors = newPredecessors;
+        depths = newDepths;
+        head = 0;
+    }
+
+    /**
+     * Removes the next entry, the first one for a Queue, the last one for a Stack, and moves the cursor on it.
+     */
+    @SuppressWarnings( "unchecked" ) // only V instances are stored
+    public void remove()
+    {
+        int index;
+        if ( enqueue )
+        {
+            index = head;
+            head = ( head + 1 ) & ( vertices.length - 1 );
+        }
+        else
+        {
+            index = ( head + size - 1 ) & ( vertices.length - 1 );
+        }
+        size--;
+
+        vertex = (V) vertices[index];
+        predecessor = (V) predecessors[index];
+        depth = depths[index];
+
+        // let removed vertices be garbage collected
+        vertices[index] = null;
+        predecessors[index] = null;
+    }
+
+    /**
+     * @return the vertex of the current entry
+     */
+    public V getVertex()
+    {
+        return vertex;
+    }
+
+    /**
+     * @return the vertex the current entry has been reached from, null if it is a visit source
+     */
+    public V getPredecessor()
+    {
+        return predecessor;
+    }
+
+    /**
+     * @return the depth of the current entry, 0 for the visit sources
+     */
+    public int getDepth()
+    {
+        return depth;
+    }
+
+}
@@ -0,0 +1,164 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.Graph;
+
+/**
+ * Lazy breadth-first or depth-first visit: a vertex is expanded only when the step following it is requested,
+ * so no vertex beyond the consumed ones is explored.
+ *
+ * Steps are produced in the same order the {@link GraphVisitHandler} based visits discover vertices.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+final class VisitIterator<V, E>
+    implements Iterator<VisitStep<V, E>>
+{
+
+    private final Graph<V, E> graph;
+
+    private final DirectedGraph<V, E> directedGraph;
+
+    private final int maxDepth;
+
+    private final VisitedVertices<V> visited;
+
+    private final VisitFrontier<V> frontier;
+
+    /** The last returned step, whose vertex neighbors have not been queued yet. */
+    private VisitStep<V, E> pendingExpansion;
+
+    /** The next step to be returned, computed by {@link #hasNext()}. */
+    private VisitStep<V, E> next;
+
+    /**
+     * Creates a new lazy visit.
+     *
+     * @param graph the visited graph
+     * @param sources the visit sources
+     * @param maxDepth the maximum depth of visited vertices
+     * @param enqueue true for a breadth-first visit, false for a depth-first one
+     * @param visited the (empty) visited vertices set
+     */
+    @SuppressWarnings( "unchecked" ) // just checked
+    public VisitIterator( Graph<V, E> graph, List<V> sources, int maxDepth, boolean enqueue, VisitedVertices<V> visited )
+    {
+        this.graph = graph;
+        this.directedGraph = ( graph instanceof DirectedGraph ) ? (DirectedGraph<V, E>) graph : null;
+        this.maxDepth = maxDepth;
+        this.visited = visited;
+
+        for ( V source : sources )
+        {
+            visited.add( source );
+        }
+        frontier = new VisitFrontier<V>( sources, enqueue );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean hasNext()
+    {
+        if ( next != null )
+        {
+            return true;
+        }
+
+        if ( pendingExpansion != null )
+        {
+            V vertex = pendingExpansion.getVertex();
+            int depth = pendingExpansion.getDepth();
+            pendingExpansion = null;
+
+            if ( depth < maxDepth )
+            {
+                Iterable<V> connected = directedGraph != null
+                                ? directedGraph.getOutbound( vertex )
+                                : graph.getConnectedVertices( vertex );
+
+                for ( V w : connected )
+                {
+                    if ( !visited.contains( w ) )
+                    {
+                        frontier.add( w, vertex, depth + 1 );
+                    }
+                }
+            }
+        }
+
+        while ( !frontier.isEmpty() )
+        {
+            frontier.remove();
+            final V v = frontier.getVertex();
+            final V prevHead = frontier.getPredecessor();
+
+            if ( prevHead == null )
+            {
+                // sources are marked as visited in advance
+                next = new VisitStep<V, E>( null, null, v, 0 );
+            }
+            else if ( visited.add( v ) )
+            {
+                next = new VisitStep<V, E>( prevHead, graph.getEdge( prevHead, v ), v, frontier.getDepth() );
+            }
+            else
+            {
+                continue;
+            }
+
+            pendingExpansion = next;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public VisitStep<V, E> next()
+    {
+        if ( !hasNext() )
+        {
+            throw new NoSuchElementException( "Visit is completed, no more vertices can be reached" );
+        }
+
+        VisitStep<V, E> step = next;
+        next = null;
+        return step;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void remove()
+    {
+        throw new UnsupportedOperationException( "Visited vertices can not be removed" );
+    }
+
+}
@@ -19,6 +19,8 @@ package org.apache.commons.graph.visit;
  * under the License.
  */
 
+import java.util.Collection;
+
 import org.apache.commons.graph.Graph;
 
 /**
@@ -39,4 +41,13 @@ public interface VisitSourceSelector<V, E, G extends Graph<V, E>>
      */
     <S extends V> VisitAlgorithmsSelector<V, E, G> from( S source );
 
+    /**
+     * Select the root nodes the search begins from; vertices reachable from more than one root
+     * are visited once, through the root they are reached from first.
+     *
+     * @param sources the root nodes the search begins from
+     * @return the search visit algorithm selector
+     */
+    <S extends V> VisitAlgorithmsSelector<V, E, G> from( Collection<S> sources );
+
 }
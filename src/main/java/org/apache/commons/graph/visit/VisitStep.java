@@ -0,0 +1,132 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.utils.Objects.eq;
+import static org.apache.commons.graph.utils.Objects.hash;
+
+/**
+ * A vertex reached by a lazy visit, together with the edge it has been reached through.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+public final class VisitStep<V, E>
+{
+
+    /** The vertex the edge comes from, null for the visit source. */
+    private final V predecessor;
+
+    /** The edge the vertex has been reached through, null for the visit source. */
+    private final E edge;
+
+    /** The reached vertex. */
+    private final V vertex;
+
+    /** The depth of the reached vertex. */
+    private final int depth;
+
+    VisitStep( V predecessor, E edge, V vertex, int depth )
+    {
+        this.predecessor = predecessor;
+        this.edge = edge;
+        this.vertex = vertex;
+        this.depth = depth;
+    }
+
+    /**
+     * @return the vertex the edge comes from, null if the vertex is the visit source
+     */
+    public V getPredecessor()
+    {
+        return predecessor;
+    }
+
+    /**
+     * @return the edge the vertex has been reached through, null if the vertex is the visit source
+     */
+    public E getEdge()
+    {
+        return edge;
+    }
+
+    /**
+     * @return the reached vertex
+     */
+    public V getVertex()
+    {
+        return vertex;
+    }
+
+    /**
+     * @return the depth of the reached vertex, 0 if it is a visit source
+     */
+    public int getDepth()
+    {
+        return depth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = hash( 1, prime, predecessor, edge, vertex );
+        result = prime * result + depth;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals( Object obj )
+    {
+        if ( this == obj )
+        {
+            return true;
+        }
+
+        if ( obj == null || getClass() != obj.getClass() )
+        {
+            return false;
+        }
+
+        @SuppressWarnings( "unchecked" ) // equals() invoked against only same VisitStep type
+        VisitStep<V, E> other = (VisitStep<V, E>) obj;
+        return eq( predecessor, other.getPredecessor() )
+            && eq( edge, other.getEdge() )
+            && eq( vertex, other.getVertex() )
+            && depth == other.getDepth();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return format( "VisitStep [predecessor=%s, edge=%s, vertex=%s, depth=%s]", predecessor, edge, vertex, depth );
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+/**
+ * The steps of a lazy visit: vertices are reached only while the steps are consumed,
+ * either iterating them or through a sequential {@link Stream}.
+ *
+ * Each {@link #iterator()}, {@link #spliterator()} or {@link #stream()} invocation starts a new visit.
+ *
+ * @param <V> the Graph vertices type
+ * @param <E> the Graph edges type
+ */
+public interface VisitSteps<V, E>
+    extends Iterable<VisitStep<V, E>>
+{
+
+    /**
+     * Creates a {@link Spliterator} over the visit steps, reporting {@link Spliterator#ORDERED}
+     * and {@link Spliterator#NONNULL}; the number of steps is not estimated, since it is unknown
+     * until the visit is completed.
+     *
+     * @return a new spliterator over the visit steps
+     */
+    Spliterator<VisitStep<V, E>> spliterator();
+
+    /**
+     * Creates a sequential stream of the visit steps: short-circuiting operations,
+     * like {@link Stream#findFirst()}, stop the visit as soon as they are satisfied.
+     *
+     * @return a new sequential stream of the visit steps
+     */
+    Stream<VisitStep<V, E>> stream();
+
+}
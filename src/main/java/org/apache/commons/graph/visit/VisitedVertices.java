@@ -0,0 +1,49 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ * The set of vertices already visited by a graph visit.
+ *
+ * Implementations are filled by the visit they are passed to, so each instance can be used by one visit only,
+ * and can be queried once the visit is completed.
+ *
+ * @param <V> the Graph vertices type
+ */
+public interface VisitedVertices<V>
+{
+
+    /**
+     * Marks the input vertex as visited.
+     *
+     * @param vertex the visited vertex
+     * @return true if the vertex was not already visited, false otherwise
+     */
+    boolean add( V vertex );
+
+    /**
+     * Checks if the input vertex has already been visited.
+     *
+     * @param vertex the vertex to check
+     * @return true if the vertex has already been visited, false otherwise
+     */
+    boolean contains( V vertex );
+
+}
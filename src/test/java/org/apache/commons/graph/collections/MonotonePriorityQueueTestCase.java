@@ -0,0 +1,110 @@
+package org.apache.commons.graph.collections;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * The {@link BucketQueue} and {@link RadixHeap} test case.
+ */
+public final class MonotonePriorityQueueTestCase
+{
+
+    private static final int SPREAD = 100;
+
+    @Test( expected = NoSuchElementException.class )
+    public void removeFromEmptyBucketQueue()
+    {
+        new BucketQueue<Long>( SPREAD ).remove();
+    }
+
+    @Test( expected = NoSuchElementException.class )
+    public void removeFromEmptyRadixHeap()
+    {
+        new RadixHeap<Long>().remove();
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void keyOutOfBucketQueueRange()
+    {
+        new BucketQueue<Long>( SPREAD ).add( SPREAD + 1L, SPREAD + 1L );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void keyLowerThanRadixHeapLastKey()
+    {
+        MonotonePriorityQueue<Long> queue = new RadixHeap<Long>();
+        queue.add( 10L, 10L );
+        queue.remove();
+        queue.add( 9L, 9L );
+    }
+
+    @Test
+    public void bucketQueueBehavesLikeDijkstraQueue()
+    {
+        verifyMonotoneOrder( new BucketQueue<Long>( SPREAD ), SPREAD );
+    }
+
+    @Test
+    public void radixHeapBehavesLikeDijkstraQueue()
+    {
+        verifyMonotoneOrder( new RadixHeap<Long>(), Integer.MAX_VALUE );
+    }
+
+    /**
+     * Simulates Dijkstra's algorithm, where each removed key is followed by keys not lower than it.
+     */
+    private void verifyMonotoneOrder( MonotonePriorityQueue<Long> queue, int spread )
+    {
+        Random random = new Random( 11 );
+
+        queue.add( 0L, 0L );
+        long last = 0;
+        int removed = 0;
+
+        while ( !queue.isEmpty() )
+        {
+            long key = queue.remove();
+            removed++;
+
+            assertThat( key >= last, is( true ) );
+            assertThat( queue.lastKey(), is( key ) );
+            last = key;
+
+            if ( removed < 10000 )
+            {
+                for ( int i = random.nextInt( 3 ); i >= 0; i-- )
+                {
+                    long next = key + random.nextInt( spread );
+                    queue.add( next, next );
+                }
+            }
+        }
+
+        assertThat( queue.size(), is( 0 ) );
+    }
+
+}
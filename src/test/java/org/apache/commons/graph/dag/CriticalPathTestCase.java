@@ -0,0 +1,189 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.CommonsGraph.findCriticalPath;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class CriticalPathTestCase
+{
+
+    @Test( expected = NullPointerException.class )
+    public void testNullGraph()
+    {
+        findCriticalPath( (DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>) null );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullDurations()
+    {
+        findCriticalPath( new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>() )
+            .whereVerticesHaveDurations( (Mapper<BaseLabeledVertex, Integer>) null );
+    }
+
+    @Test( expected = CyclicGraphException.class )
+    public void testCyclicGraph()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+        graph.addEdge( a, new BaseLabeledEdge( "a -> b" ), b );
+        graph.addEdge( b, new BaseLabeledEdge( "b -> a" ), a );
+
+        findCriticalPath( graph )
+            .whereVerticesHaveDurations( new Durations( new HashMap<BaseLabeledVertex, Integer>() ) )
+            .applyingDagRelaxation( new IntegerWeightBaseOperations() );
+    }
+
+    @Test
+    public void criticalPathOfTasks()
+    {
+        // a build pipeline, where each task waits for its dependencies
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> pipeline = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+        Map<BaseLabeledVertex, Integer> durations = new HashMap<BaseLabeledVertex, Integer>();
+
+        BaseLabeledVertex checkout = task( pipeline, durations, "checkout", 2 );
+        BaseLabeledVertex compile = task( pipeline, durations, "compile", 10 );
+        BaseLabeledVertex docs = task( pipeline, durations, "docs", 15 );
+        BaseLabeledVertex unitTests = task( pipeline, durations, "unit tests", 7 );
+        BaseLabeledVertex integrationTests = task( pipeline, durations, "integration tests", 12 );
+        BaseLabeledVertex packaging = task( pipeline, durations, "package", 3 );
+        BaseLabeledVertex release = task( pipeline, durations, "release", 1 );
+
+        depends( pipeline, compile, checkout );
+        depends( pipeline, docs, checkout );
+        depends( pipeline, unitTests, compile );
+        depends( pipeline, integrationTests, compile );
+        depends( pipeline, packaging, unitTests );
+        depends( pipeline, packaging, integrationTests );
+        depends( pipeline, release, packaging );
+        depends( pipeline, release, docs );
+
+        WeightedPath<BaseLabeledVertex, BaseLabeledEdge, Integer> criticalPath =
+            findCriticalPath( pipeline )
+                .whereVerticesHaveDurations( new Durations( durations ) )
+                .applyingDagRelaxation( new IntegerWeightBaseOperations() );
+
+        assertEquals( Integer.valueOf( 28 ), criticalPath.getWeight() );
+        assertEquals( Arrays.asList( checkout, compile, integrationTests, packaging, release ), criticalPath.getVertices() );
+    }
+
+    @Test
+    public void criticalPathOfActivities()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> events =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+
+        BaseLabeledVertex start = new BaseLabeledVertex( "start" );
+        BaseLabeledVertex designed = new BaseLabeledVertex( "designed" );
+        BaseLabeledVertex built = new BaseLabeledVertex( "built" );
+        BaseLabeledVertex end = new BaseLabeledVertex( "end" );
+        events.addVertex( start );
+        events.addVertex( designed );
+        events.addVertex( built );
+        events.addVertex( end );
+
+        BaseLabeledWeightedEdge<Integer> design = new BaseLabeledWeightedEdge<Integer>( "design", 4 );
+        BaseLabeledWeightedEdge<Integer> build = new BaseLabeledWeightedEdge<Integer>( "build", 6 );
+        BaseLabeledWeightedEdge<Integer> test = new BaseLabeledWeightedEdge<Integer>( "test", 3 );
+        events.addEdge( start, design, designed );
+        events.addEdge( designed, build, built );
+        events.addEdge( built, test, end );
+        events.addEdge( start, new BaseLabeledWeightedEdge<Integer>( "prototype", 9 ), built );
+        events.addEdge( designed, new BaseLabeledWeightedEdge<Integer>( "manual", 2 ), end );
+
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> criticalPath =
+            findCriticalPath( events )
+                .whereEdgesHaveDurations( new BaseWeightedEdge<Integer>() )
+                .applyingDagRelaxation( new IntegerWeightBaseOperations() );
+
+        assertEquals( Integer.valueOf( 13 ), criticalPath.getWeight() );
+        assertEquals( Arrays.asList( design, build, test ), criticalPath.getEdges() );
+    }
+
+    @Test
+    public void criticalPathOfSingleTask()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> pipeline = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+        Map<BaseLabeledVertex, Integer> durations = new HashMap<BaseLabeledVertex, Integer>();
+        BaseLabeledVertex only = task( pipeline, durations, "only", 5 );
+
+        WeightedPath<BaseLabeledVertex, BaseLabeledEdge, Integer> criticalPath =
+            findCriticalPath( pipeline )
+                .whereVerticesHaveDurations( new Durations( durations ) )
+                .applyingDagRelaxation( new IntegerWeightBaseOperations() );
+
+        assertEquals( only, criticalPath.getSource() );
+        assertEquals( only, criticalPath.getTarget() );
+        assertEquals( Integer.valueOf( 5 ), criticalPath.getWeight() );
+    }
+
+    private static BaseLabeledVertex task( DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> pipeline,
+                                           Map<BaseLabeledVertex, Integer> durations, String name, int duration )
+    {
+        BaseLabeledVertex task = new BaseLabeledVertex( name );
+        pipeline.addVertex( task );
+        durations.put( task, duration );
+        return task;
+    }
+
+    private static void depends( DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> pipeline,
+                                 BaseLabeledVertex task, BaseLabeledVertex dependency )
+    {
+        pipeline.addEdge( dependency, new BaseLabeledEdge( dependency + " -> " + task ), task );
+    }
+
+    private static final class Durations
+        implements Mapper<BaseLabeledVertex, Integer>
+    {
+
+        private static final long serialVersionUID = -7349820251684163927L;
+
+        private final Map<BaseLabeledVertex, Integer> durations;
+
+        public Durations( Map<BaseLabeledVertex, Integer> durations )
+        {
+            this.durations = durations;
+        }
+
+        public Integer map( BaseLabeledVertex input )
+        {
+            return durations.get( input );
+        }
+
+    }
+
+}
@@ -0,0 +1,303 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.CommonsGraph.executeDependencies;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.junit.Test;
+
+public final class DependencyExecutorTestCase
+{
+
+    private static final Executor DIRECT = new Executor()
+    {
+
+        public void execute( Runnable command )
+        {
+            command.run();
+        }
+
+    };
+
+    private final DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> dependencies =
+        new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+    private final Map<BaseLabeledVertex, Runnable> tasks = new HashMap<BaseLabeledVertex, Runnable>();
+
+    private final Set<BaseLabeledVertex> completed =
+        Collections.newSetFromMap( new ConcurrentHashMap<BaseLabeledVertex, Boolean>() );
+
+    @Test( expected = NullPointerException.class )
+    public void testNullGraph()
+    {
+        executeDependencies( (DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>) null );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullTasks()
+    {
+        executeDependencies( dependencies ).whereVerticesAreTasks( (Mapper<BaseLabeledVertex, Runnable>) null );
+    }
+
+    @Test( expected = CyclicGraphException.class )
+    public void testCyclicDependencies()
+        throws Exception
+    {
+        BaseLabeledVertex a = task( "a" );
+        BaseLabeledVertex b = task( "b" );
+        depends( a, b );
+        depends( b, a );
+
+        executeDependencies( dependencies ).whereVerticesAreTasks( new Tasks() ).executeOn( DIRECT );
+    }
+
+    @Test
+    public void dependenciesCompleteFirst()
+        throws Exception
+    {
+        final int order = 300;
+        final AtomicInteger violations = new AtomicInteger();
+
+        final BaseLabeledVertex[] vertices = new BaseLabeledVertex[order];
+        for ( int i = 0; i < order; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            dependencies.addVertex( vertices[i] );
+        }
+
+        Random r = new Random( 11 );
+        for ( int i = 0; i < order; i++ )
+        {
+            for ( int j = i + 1; j < order; j++ )
+            {
+                if ( r.nextInt( 50 ) == 0 )
+                {
+                    depends( vertices[j], vertices[i] );
+                }
+            }
+        }
+
+        for ( final BaseLabeledVertex vertex : vertices )
+        {
+            tasks.put( vertex, new Runnable()
+            {
+
+                public void run()
+                {
+                    for ( BaseLabeledVertex dependency : dependencies.getInbound( vertex ) )
+                    {
+                        if ( !completed.contains( dependency ) )
+                        {
+                            violations.incrementAndGet();
+                        }
+                    }
+                    completed.add( vertex );
+                }
+
+            } );
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool( 4 );
+        try
+        {
+            TaskExecutionReport<BaseLabeledVertex> report =
+                executeDependencies( dependencies ).whereVerticesAreTasks( new Tasks() ).executeOn( executor, 4 );
+
+            assertEquals( 0, violations.get() );
+            assertEquals( order, completed.size() );
+            assertEquals( order, report.getDispatchOrder().size() );
+
+            for ( BaseLabeledEdge edge : dependencies.getEdges() )
+            {
+                BaseLabeledVertex dependency = dependencies.getVertices( edge ).getHead();
+                BaseLabeledVertex dependent = dependencies.getVertices( edge ).getTail();
+                assertTrue( report.getEndTime( dependency, TimeUnit.NANOSECONDS )
+                                <= report.getStartTime( dependent, TimeUnit.NANOSECONDS ) );
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void criticalPathFirst()
+        throws Exception
+    {
+        BaseLabeledVertex report = task( "report" );
+        BaseLabeledVertex compile = task( "compile" );
+        BaseLabeledVertex test = task( "test" );
+        BaseLabeledVertex deploy = task( "deploy" );
+        depends( test, compile );
+        depends( deploy, test );
+
+        TaskExecutionReport<BaseLabeledVertex> execution =
+            executeDependencies( dependencies ).whereVerticesAreTasks( new Tasks() ).executeOn( DIRECT, 1 );
+
+        assertEquals( Arrays.asList( compile, test, report, deploy ), execution.getDispatchOrder() );
+    }
+
+    @Test
+    public void estimatedDurationsFirst()
+        throws Exception
+    {
+        final BaseLabeledVertex report = task( "report" );
+        BaseLabeledVertex compile = task( "compile" );
+        BaseLabeledVertex test = task( "test" );
+        BaseLabeledVertex deploy = task( "deploy" );
+        depends( test, compile );
+        depends( deploy, test );
+
+        TaskExecutionReport<BaseLabeledVertex> execution =
+            executeDependencies( dependencies )
+                .whereVerticesAreTasks( new Tasks() )
+                .prioritizingByEstimatedDurations( new Mapper<BaseLabeledVertex, Long>()
+                {
+
+                    public Long map( BaseLabeledVertex input )
+                    {
+                        return report.equals( input ) ? 10L : 1L;
+                    }
+
+                } )
+                .executeOn( DIRECT, 1 );
+
+        assertEquals( Arrays.asList( report, compile, test, deploy ), execution.getDispatchOrder() );
+    }
+
+    @Test
+    public void failedTaskStopsExecution()
+        throws Exception
+    {
+        BaseLabeledVertex compile = task( "compile" );
+        BaseLabeledVertex test = task( "test" );
+        depends( test, compile );
+
+        final IllegalStateException failure = new IllegalStateException( "does not compile" );
+        tasks.put( compile, new Runnable()
+        {
+
+            public void run()
+            {
+                throw failure;
+            }
+
+        } );
+
+        try
+        {
+            executeDependencies( dependencies ).whereVerticesAreTasks( new Tasks() ).executeOn( DIRECT );
+            fail( "The failed task has to be reported" );
+        }
+        catch ( TaskExecutionException e )
+        {
+            assertEquals( compile, e.getTask() );
+            assertEquals( failure, e.getCause() );
+            assertFalse( completed.contains( test ) );
+        }
+    }
+
+    @Test
+    public void taskTimings()
+        throws Exception
+    {
+        BaseLabeledVertex sleep = new BaseLabeledVertex( "sleep" );
+        dependencies.addVertex( sleep );
+        tasks.put( sleep, new Runnable()
+        {
+
+            public void run()
+            {
+                try
+                {
+                    Thread.sleep( 20 );
+                }
+                catch ( InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+        } );
+
+        TaskExecutionReport<BaseLabeledVertex> report =
+            executeDependencies( dependencies ).whereVerticesAreTasks( new Tasks() ).executeOn( DIRECT );
+
+        assertTrue( report.getDuration( sleep, TimeUnit.MILLISECONDS ) >= 20 );
+        assertTrue( report.getElapsedTime( TimeUnit.NANOSECONDS ) >= report.getEndTime( sleep, TimeUnit.NANOSECONDS ) );
+    }
+
+    private BaseLabeledVertex task( final String name )
+    {
+        final BaseLabeledVertex vertex = new BaseLabeledVertex( name );
+        dependencies.addVertex( vertex );
+        tasks.put( vertex, new Runnable()
+        {
+
+            public void run()
+            {
+                completed.add( vertex );
+            }
+
+        } );
+        return vertex;
+    }
+
+    private void depends( BaseLabeledVertex dependent, BaseLabeledVertex dependency )
+    {
+        dependencies.addEdge( dependency, new BaseLabeledEdge( dependency + " -> " + dependent ), dependent );
+    }
+
+    private final class Tasks
+        implements Mapper<BaseLabeledVertex, Runnable>
+    {
+
+        private static final long serialVersionUID = 3921748061253957114L;
+
+        public Runnable map( BaseLabeledVertex input )
+        {
+            return tasks.get( input );
+        }
+
+    }
+
+}
@@ -0,0 +1,195 @@
+package org.apache.commons.graph.dag;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.valueOf;
+import static org.apache.commons.graph.CommonsGraph.topologicalSort;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.graph.Path;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.junit.Test;
+
+public final class TopologicalSortTestCase
+{
+
+    @Test( expected = NullPointerException.class )
+    public void testNullGraph()
+    {
+        topologicalSort( (DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>) null );
+    }
+
+    @Test
+    public void sortEmptyGraph()
+    {
+        TopologicalOrder<BaseLabeledVertex> order =
+            topologicalSort( new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>() ).applyingKahn();
+
+        assertEquals( 0, order.getLayerCount() );
+        assertTrue( order.getVertices().isEmpty() );
+    }
+
+    @Test
+    public void sortLayers()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        BaseLabeledVertex shirt = new BaseLabeledVertex( "shirt" );
+        BaseLabeledVertex tie = new BaseLabeledVertex( "tie" );
+        BaseLabeledVertex jacket = new BaseLabeledVertex( "jacket" );
+        BaseLabeledVertex belt = new BaseLabeledVertex( "belt" );
+        BaseLabeledVertex trousers = new BaseLabeledVertex( "trousers" );
+        BaseLabeledVertex watch = new BaseLabeledVertex( "watch" );
+
+        graph.addVertex( shirt );
+        graph.addVertex( tie );
+        graph.addVertex( jacket );
+        graph.addVertex( belt );
+        graph.addVertex( trousers );
+        graph.addVertex( watch );
+
+        graph.addEdge( shirt, new BaseLabeledEdge( "shirt -> tie" ), tie );
+        graph.addEdge( tie, new BaseLabeledEdge( "tie -> jacket" ), jacket );
+        graph.addEdge( shirt, new BaseLabeledEdge( "shirt -> belt" ), belt );
+        graph.addEdge( trousers, new BaseLabeledEdge( "trousers -> belt" ), belt );
+        graph.addEdge( belt, new BaseLabeledEdge( "belt -> jacket" ), jacket );
+
+        TopologicalOrder<BaseLabeledVertex> order = topologicalSort( graph ).applyingKahn();
+
+        assertEquals( 3, order.getLayerCount() );
+        assertEquals( 0, order.getLayer( shirt ) );
+        assertEquals( 0, order.getLayer( trousers ) );
+        assertEquals( 0, order.getLayer( watch ) );
+        assertEquals( 1, order.getLayer( tie ) );
+        assertEquals( 1, order.getLayer( belt ) );
+        assertEquals( 2, order.getLayer( jacket ) );
+        assertEquals( 3, order.getLayers().get( 0 ).size() );
+    }
+
+    @Test
+    public void sortLargeDag()
+    {
+        final int vertices = 100000;
+
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+        BaseLabeledVertex[] labeled = new BaseLabeledVertex[vertices];
+        for ( int i = 0; i < vertices; i++ )
+        {
+            labeled[i] = new BaseLabeledVertex( valueOf( i ) );
+            graph.addVertex( labeled[i] );
+        }
+
+        // a long chain, that would overflow a recursive sort, plus random forward edges
+        Random random = new Random( 3 );
+        for ( int i = 0; i + 1 < vertices; i++ )
+        {
+            graph.addEdge( labeled[i], new BaseLabeledEdge( i + " -> " + ( i + 1 ) ), labeled[i + 1] );
+            int j = i + 2 + random.nextInt( 100 );
+            if ( j < vertices )
+            {
+                graph.addEdge( labeled[i], new BaseLabeledEdge( i + " -> " + j ), labeled[j] );
+            }
+        }
+
+        TopologicalOrder<BaseLabeledVertex> order = topologicalSort( graph ).applyingKahn();
+
+        assertEquals( vertices, order.getLayerCount() );
+
+        Map<BaseLabeledVertex, Integer> positions = new HashMap<BaseLabeledVertex, Integer>();
+        List<BaseLabeledVertex> sorted = order.getVertices();
+        for ( int i = 0; i < sorted.size(); i++ )
+        {
+            positions.put( sorted.get( i ), i );
+        }
+        assertEquals( vertices, positions.size() );
+        for ( BaseLabeledEdge edge : graph.getEdges() )
+        {
+            assertTrue( positions.get( graph.getVertices( edge ).getHead() ) < positions.get( graph.getVertices( edge ).getTail() ) );
+        }
+    }
+
+    @Test
+    public void reportCycle()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[6];
+        for ( int i = 0; i < vertices.length; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        // 0 -> 1 -> 2 -> 3 -> 1 -> ... and 3 -> 4 -> 5
+        graph.addEdge( vertices[0], new BaseLabeledEdge( "0 -> 1" ), vertices[1] );
+        graph.addEdge( vertices[1], new BaseLabeledEdge( "1 -> 2" ), vertices[2] );
+        graph.addEdge( vertices[2], new BaseLabeledEdge( "2 -> 3" ), vertices[3] );
+        graph.addEdge( vertices[3], new BaseLabeledEdge( "3 -> 1" ), vertices[1] );
+        graph.addEdge( vertices[3], new BaseLabeledEdge( "3 -> 4" ), vertices[4] );
+        graph.addEdge( vertices[4], new BaseLabeledEdge( "4 -> 5" ), vertices[5] );
+
+        try
+        {
+            topologicalSort( graph ).applyingKahn();
+            fail( "Cycle not detected" );
+        }
+        catch ( CyclicGraphException e )
+        {
+            Path<BaseLabeledVertex, BaseLabeledEdge> cycle = e.getCycle();
+
+            assertEquals( cycle.getSource(), cycle.getTarget() );
+            assertEquals( 3, cycle.getSize() );
+
+            Iterator<BaseLabeledVertex> path = cycle.getVertices().iterator();
+            BaseLabeledVertex head = path.next();
+            for ( BaseLabeledEdge edge : cycle.getEdges() )
+            {
+                BaseLabeledVertex tail = path.next();
+                assertNotNull( edge );
+                assertEquals( edge, graph.getEdge( head, tail ) );
+                head = tail;
+            }
+        }
+    }
+
+    @Test( expected = CyclicGraphException.class )
+    public void reportSelfLoop()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        graph.addVertex( a );
+        graph.addEdge( a, new BaseLabeledEdge( "a -> a" ), a );
+
+        topologicalSort( graph ).applyingKahn();
+    }
+
+}
@@ -0,0 +1,130 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.CommonsGraph.findMaxFlow;
+import static org.apache.commons.graph.flow.PushRelabelTestCase.newRandomNetwork;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class DinicTestCase
+{
+
+    private static final int TIMES = 30;
+
+    @Test( expected = NullPointerException.class )
+    public void testNullMonoid()
+    {
+        findMaxFlow( newRandomNetwork( 10, 0.3, 1 ) )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .from( new BaseLabeledVertex( "0" ) )
+            .to( new BaseLabeledVertex( "9" ) )
+            .applyingDinic( null );
+    }
+
+    @Test
+    public void unitCapacityBipartiteNetwork()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+
+        BaseLabeledVertex source = new BaseLabeledVertex( "source" );
+        BaseLabeledVertex target = new BaseLabeledVertex( "target" );
+        graph.addVertex( source );
+        graph.addVertex( target );
+
+        // worker i can take jobs i and i + 1, except the last one which can take only its own job
+        final int size = 50;
+        BaseLabeledVertex[] workers = new BaseLabeledVertex[size];
+        BaseLabeledVertex[] jobs = new BaseLabeledVertex[size];
+        for ( int i = 0; i < size; i++ )
+        {
+            workers[i] = new BaseLabeledVertex( "worker " + i );
+            jobs[i] = new BaseLabeledVertex( "job " + i );
+            graph.addVertex( workers[i] );
+            graph.addVertex( jobs[i] );
+            connect( graph, source, workers[i] );
+            connect( graph, jobs[i], target );
+        }
+        for ( int i = 0; i < size; i++ )
+        {
+            connect( graph, workers[i], jobs[i] );
+            if ( i + 1 < size )
+            {
+                connect( graph, workers[i], jobs[i + 1] );
+            }
+        }
+
+        Integer actual = findMaxFlow( graph )
+                            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                            .from( source )
+                            .to( target )
+                            .applyingDinic( new IntegerWeightBaseOperations() ).getMaxFlow();
+
+        assertEquals( Integer.valueOf( size ), actual );
+    }
+
+    @Test
+    public void compareToPushRelabel()
+    {
+        Random r = new Random( 5 );
+
+        for ( int i = 0; i < TIMES; i++ )
+        {
+            int order = 2 + r.nextInt( 60 );
+            DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+                newRandomNetwork( order, r.nextDouble() * 0.3, r.nextLong() );
+
+            int s = r.nextInt( order );
+            BaseLabeledVertex source = new BaseLabeledVertex( String.valueOf( s ) );
+            BaseLabeledVertex target = new BaseLabeledVertex( String.valueOf( ( s + 1 + r.nextInt( order - 1 ) ) % order ) );
+
+            Integer expected = findMaxFlow( graph )
+                                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                                .from( source )
+                                .to( target )
+                                .applyingPushRelabel( new IntegerWeightBaseOperations() ).getMaxFlow();
+
+            Integer actual = findMaxFlow( graph )
+                                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                                .from( source )
+                                .to( target )
+                                .applyingDinic( new IntegerWeightBaseOperations() ).getMaxFlow();
+
+            assertEquals( format( "max flow from %s to %s", source, target ), expected, actual );
+        }
+    }
+
+    private static void connect( DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                                 BaseLabeledVertex head, BaseLabeledVertex tail )
+    {
+        graph.addEdge( head, new BaseLabeledWeightedEdge<Integer>( format( "%s -> %s", head, tail ), 1 ), tail );
+    }
+
+}
@@ -105,7 +105,7 @@ public class EdmondsKarpTestCase
                             .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
                             .from( a )
                             .to( g )
-                            .applyingEdmondsKarp( new IntegerWeightBaseOperations() );
+                            .applyingEdmondsKarp( new IntegerWeightBaseOperations() ).getMaxFlow();
         assertEquals( actual, expected );
     }
 
@@ -153,7 +153,7 @@ public class EdmondsKarpTestCase
                             .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
                             .from( a )
                             .to( g )
-                            .applyingEdmondsKarp( new IntegerWeightBaseOperations() );
+                            .applyingEdmondsKarp( new IntegerWeightBaseOperations() ).getMaxFlow();
 
         assertEquals( expected, actual );
     }
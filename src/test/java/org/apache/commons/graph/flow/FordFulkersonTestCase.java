@@ -21,8 +21,11 @@ package org.apache.commons.graph.flow;
 
 import static org.apache.commons.graph.CommonsGraph.findMaxFlow;
 import static org.apache.commons.graph.CommonsGraph.newDirectedMutableGraph;
+import static org.apache.commons.graph.flow.PushRelabelTestCase.newRandomNetwork;
 import static org.junit.Assert.assertEquals;
 
+import java.util.Random;
+
 import org.apache.commons.graph.builder.AbstractGraphConnection;
 import org.apache.commons.graph.model.BaseLabeledVertex;
 import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
@@ -92,7 +95,7 @@ public final class FordFulkersonTestCase
                             .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
                             .from( a )
                             .to( d )
-                            .applyingFordFulkerson( new IntegerWeightBaseOperations() );
+                            .applyingFordFulkerson( new IntegerWeightBaseOperations() ).getMaxFlow();
 
         assertEquals( actual, expected );
     }
@@ -128,7 +131,7 @@ public final class FordFulkersonTestCase
                             .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
                             .from( a )
                             .to( d )
-                            .applyingFordFulkerson( new IntegerWeightBaseOperations() );
+                            .applyingFordFulkerson( new IntegerWeightBaseOperations() ).getMaxFlow();
 
         assertEquals( actual, expected );
     }
@@ -182,9 +185,39 @@ public final class FordFulkersonTestCase
                             .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
                             .from( a )
                             .to( d )
-                            .applyingFordFulkerson( new IntegerWeightBaseOperations() );
+                            .applyingFordFulkerson( new IntegerWeightBaseOperations() ).getMaxFlow();
 
         assertEquals( expected, actual );
     }
 
+    @Test
+    public void compareToDinic()
+    {
+        Random r = new Random( 13 );
+
+        for ( int i = 0; i < 30; i++ )
+        {
+            int order = 2 + r.nextInt( 40 );
+            DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+                newRandomNetwork( order, r.nextDouble() * 0.4, r.nextLong() );
+
+            BaseLabeledVertex source = new BaseLabeledVertex( "0" );
+            BaseLabeledVertex target = new BaseLabeledVertex( String.valueOf( order - 1 ) );
+
+            Integer expected = findMaxFlow( graph )
+                                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                                .from( source )
+                                .to( target )
+                                .applyingDinic( new IntegerWeightBaseOperations() ).getMaxFlow();
+
+            Integer actual = findMaxFlow( graph )
+                                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                                .from( source )
+                                .to( target )
+                                .applyingFordFulkerson( new IntegerWeightBaseOperations() ).getMaxFlow();
+
+            assertEquals( expected, actual );
+        }
+    }
+
 }
@@ -0,0 +1,185 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.CommonsGraph.findMaxFlow;
+import static org.apache.commons.graph.CommonsGraph.gomoryHuTree;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class GomoryHuTreeTestCase
+{
+
+    private static final int TIMES = 10;
+
+    @Test( expected = NullPointerException.class )
+    public void testNullGraph()
+    {
+        gomoryHuTree( (UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>) null );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullMonoid()
+    {
+        gomoryHuTree( newRandomNetwork( 5, 0.5, 1 ) )
+            .whereEdgesHaveCapacities( new BaseWeightedEdge<Integer>() )
+            .applyingGusfield( null );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testSameVertex()
+    {
+        gomoryHuTree( newRandomNetwork( 5, 0.5, 1 ) )
+            .whereEdgesHaveCapacities( new BaseWeightedEdge<Integer>() )
+            .applyingGusfield( new IntegerWeightBaseOperations() )
+            .getMinimumCutValue( new BaseLabeledVertex( "1" ), new BaseLabeledVertex( "1" ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testMissingVertex()
+    {
+        gomoryHuTree( newRandomNetwork( 5, 0.5, 1 ) )
+            .whereEdgesHaveCapacities( new BaseWeightedEdge<Integer>() )
+            .applyingGusfield( new IntegerWeightBaseOperations() )
+            .getMinimumCutValue( new BaseLabeledVertex( "1" ), new BaseLabeledVertex( "missing" ) );
+    }
+
+    @Test
+    public void compareToMaxFlow()
+    {
+        Random r = new Random( 31 );
+
+        for ( int i = 0; i < TIMES; i++ )
+        {
+            int order = 2 + r.nextInt( 20 );
+            UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+                newRandomNetwork( order, r.nextDouble() * 0.5, r.nextLong() );
+
+            GomoryHuTree<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> tree =
+                gomoryHuTree( graph )
+                    .whereEdgesHaveCapacities( new BaseWeightedEdge<Integer>() )
+                    .applyingGusfield( new IntegerWeightBaseOperations() );
+
+            // both directions of each undirected edge
+            DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> network =
+                new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+            for ( BaseLabeledVertex vertex : graph.getVertices() )
+            {
+                network.addVertex( vertex );
+            }
+            for ( BaseLabeledWeightedEdge<Integer> edge : graph.getEdges() )
+            {
+                VertexPair<BaseLabeledVertex> vertices = graph.getVertices( edge );
+                network.addEdge( vertices.getHead(),
+                                 new BaseLabeledWeightedEdge<Integer>( format( "%s -> %s", vertices.getHead(), vertices.getTail() ), edge.getWeight() ),
+                                 vertices.getTail() );
+                network.addEdge( vertices.getTail(),
+                                 new BaseLabeledWeightedEdge<Integer>( format( "%s -> %s", vertices.getTail(), vertices.getHead() ), edge.getWeight() ),
+                                 vertices.getHead() );
+            }
+
+            for ( BaseLabeledVertex source : graph.getVertices() )
+            {
+                for ( BaseLabeledVertex target : graph.getVertices() )
+                {
+                    if ( source.equals( target ) )
+                    {
+                        continue;
+                    }
+
+                    Integer expected = findMaxFlow( network )
+                                        .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                                        .from( source )
+                                        .to( target )
+                                        .applyingDinic( new IntegerWeightBaseOperations() )
+                                        .getMaxFlow();
+                    assertEquals( format( "min cut between %s and %s", source, target ),
+                                  expected, tree.getMinimumCutValue( source, target ) );
+
+                    Set<BaseLabeledVertex> sourceSide = tree.getMinimumCutSourceSide( source, target );
+                    assertTrue( sourceSide.contains( source ) );
+                    assertFalse( sourceSide.contains( target ) );
+                    assertEquals( expected.intValue(), cutCapacity( graph, sourceSide ) );
+                }
+            }
+        }
+    }
+
+    private static int cutCapacity( UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                                    Set<BaseLabeledVertex> side )
+    {
+        int capacity = 0;
+        for ( BaseLabeledWeightedEdge<Integer> edge : graph.getEdges() )
+        {
+            VertexPair<BaseLabeledVertex> vertices = graph.getVertices( edge );
+            if ( side.contains( vertices.getHead() ) != side.contains( vertices.getTail() ) )
+            {
+                capacity += edge.getWeight();
+            }
+        }
+        return capacity;
+    }
+
+    /**
+     * Creates an undirected network whose vertices are labeled from 0 to {@code order - 1},
+     * with capacities from 1 to 20.
+     */
+    private static UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> newRandomNetwork( int order, double density, long seed )
+    {
+        Random r = new Random( seed );
+
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+
+        for ( int i = 0; i < order; i++ )
+        {
+            graph.addVertex( new BaseLabeledVertex( String.valueOf( i ) ) );
+        }
+        for ( int i = 0; i < order; i++ )
+        {
+            for ( int j = i + 1; j < order; j++ )
+            {
+                if ( r.nextDouble() < density )
+                {
+                    graph.addEdge( new BaseLabeledVertex( String.valueOf( i ) ),
+                                   new BaseLabeledWeightedEdge<Integer>( format( "%s <-> %s", i, j ), 1 + r.nextInt( 20 ) ),
+                                   new BaseLabeledVertex( String.valueOf( j ) ) );
+                }
+            }
+        }
+
+        return graph;
+    }
+
+}
@@ -0,0 +1,137 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.CommonsGraph.findMaxFlow;
+import static org.apache.commons.graph.flow.PushRelabelTestCase.newRandomNetwork;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class MaxFlowResultTestCase
+{
+
+    private static final int TIMES = 20;
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testFlowOfMissingEdge()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph = newRandomNetwork( 5, 0.5, 1 );
+
+        findMaxFlow( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .from( new BaseLabeledVertex( "0" ) )
+            .to( new BaseLabeledVertex( "4" ) )
+            .applyingDinic( new IntegerWeightBaseOperations() )
+            .getFlow( new BaseLabeledWeightedEdge<Integer>( "missing", 1 ) );
+    }
+
+    @Test
+    public void flowsAndCutsAreConsistent()
+    {
+        Random r = new Random( 17 );
+
+        for ( int i = 0; i < TIMES; i++ )
+        {
+            int order = 2 + r.nextInt( 30 );
+            DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+                newRandomNetwork( order, r.nextDouble() * 0.4, r.nextLong() );
+
+            BaseLabeledVertex source = new BaseLabeledVertex( "0" );
+            BaseLabeledVertex target = new BaseLabeledVertex( String.valueOf( order - 1 ) );
+
+            MaxFlowAlgorithmSelector<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> selector =
+                findMaxFlow( graph ).whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() ).from( source ).to( target );
+
+            verify( graph, new BaseWeightedEdge<Integer>(), source, target, selector.applyingFordFulkerson( new IntegerWeightBaseOperations() ) );
+            verify( graph, new BaseWeightedEdge<Integer>(), source, target, selector.applyingEdmondsKarp( new IntegerWeightBaseOperations() ) );
+            verify( graph, new BaseWeightedEdge<Integer>(), source, target, selector.applyingPushRelabel( new IntegerWeightBaseOperations() ) );
+            verify( graph, new BaseWeightedEdge<Integer>(), source, target, selector.applyingDinic( new IntegerWeightBaseOperations() ) );
+        }
+    }
+
+    static void verify( DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                        Mapper<BaseLabeledWeightedEdge<Integer>, Integer> capacities,
+                        BaseLabeledVertex source, BaseLabeledVertex target,
+                        MaxFlowResult<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> result )
+    {
+        assertTrue( result.getSourceSide().contains( source ) );
+        assertFalse( result.getSourceSide().contains( target ) );
+
+        // capacity constraints and conservation
+        Map<BaseLabeledVertex, Integer> balances = new HashMap<BaseLabeledVertex, Integer>();
+        for ( BaseLabeledVertex vertex : graph.getVertices() )
+        {
+            balances.put( vertex, 0 );
+        }
+
+        int cutCapacity = 0;
+        for ( BaseLabeledWeightedEdge<Integer> edge : graph.getEdges() )
+        {
+            int flow = result.getFlow( edge );
+            assertTrue( flow >= 0 && flow <= capacities.map( edge ) );
+
+            VertexPair<BaseLabeledVertex> vertices = graph.getVertices( edge );
+            balances.put( vertices.getHead(), balances.get( vertices.getHead() ) - flow );
+            balances.put( vertices.getTail(), balances.get( vertices.getTail() ) + flow );
+
+            boolean crossing = result.getSourceSide().contains( vertices.getHead() )
+                            && !result.getSourceSide().contains( vertices.getTail() );
+            assertEquals( crossing, result.getCutEdges().contains( edge ) );
+            if ( crossing )
+            {
+                assertEquals( capacities.map( edge ).intValue(), flow );
+                cutCapacity += flow;
+            }
+        }
+
+        for ( Map.Entry<BaseLabeledVertex, Integer> balance : balances.entrySet() )
+        {
+            if ( source.equals( balance.getKey() ) )
+            {
+                assertEquals( -result.getMaxFlow(), balance.getValue().intValue() );
+            }
+            else if ( target.equals( balance.getKey() ) )
+            {
+                assertEquals( result.getMaxFlow(), balance.getValue() );
+            }
+            else
+            {
+                assertEquals( 0, balance.getValue().intValue() );
+            }
+        }
+
+        assertEquals( result.getMaxFlow().intValue(), cutCapacity );
+    }
+
+}
@@ -0,0 +1,161 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.CommonsGraph.findMaxFlow;
+import static org.apache.commons.graph.flow.MaxFlowResultTestCase.verify;
+import static org.apache.commons.graph.flow.PushRelabelTestCase.newRandomNetwork;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class MaxFlowSessionTestCase
+{
+
+    private static final int TIMES = 10;
+
+    private static final int CHANGES = 50;
+
+    @Test( expected = NullPointerException.class )
+    public void testNullMonoid()
+    {
+        findMaxFlow( newRandomNetwork( 5, 0.5, 1 ) )
+            .whereEdgesHaveWeights( new Capacities() )
+            .from( new BaseLabeledVertex( "0" ) )
+            .to( new BaseLabeledVertex( "4" ) )
+            .applyingIncrementalDinic( null );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testMissingEdge()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph = newRandomNetwork( 5, 0.5, 1 );
+
+        findMaxFlow( graph )
+            .whereEdgesHaveWeights( new Capacities() )
+            .from( new BaseLabeledVertex( "0" ) )
+            .to( new BaseLabeledVertex( "4" ) )
+            .applyingIncrementalDinic( new IntegerWeightBaseOperations() )
+            .capacityChanged( new BaseLabeledWeightedEdge<Integer>( "missing", 1 ), 1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testNegativeCapacity()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph = newRandomNetwork( 5, 0.5, 1 );
+
+        findMaxFlow( graph )
+            .whereEdgesHaveWeights( new Capacities() )
+            .from( new BaseLabeledVertex( "0" ) )
+            .to( new BaseLabeledVertex( "4" ) )
+            .applyingIncrementalDinic( new IntegerWeightBaseOperations() )
+            .capacityChanged( graph.getEdges().iterator().next(), -1 );
+    }
+
+    @Test
+    public void compareToRecalculation()
+    {
+        Random r = new Random( 29 );
+
+        for ( int i = 0; i < TIMES; i++ )
+        {
+            int order = 2 + r.nextInt( 30 );
+            DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+                newRandomNetwork( order, 0.1 + r.nextDouble() * 0.3, r.nextLong() );
+            List<BaseLabeledWeightedEdge<Integer>> edges = new ArrayList<BaseLabeledWeightedEdge<Integer>>();
+            for ( BaseLabeledWeightedEdge<Integer> edge : graph.getEdges() )
+            {
+                edges.add( edge );
+            }
+            if ( edges.isEmpty() )
+            {
+                continue;
+            }
+
+            // capacities change, while the edges labels and weights stay the same
+            Capacities capacities = new Capacities();
+
+            int s = r.nextInt( order );
+            BaseLabeledVertex source = new BaseLabeledVertex( String.valueOf( s ) );
+            BaseLabeledVertex target = new BaseLabeledVertex( String.valueOf( ( s + 1 + r.nextInt( order - 1 ) ) % order ) );
+
+            MaxFlowSession<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> session =
+                findMaxFlow( graph )
+                    .whereEdgesHaveWeights( capacities )
+                    .from( source )
+                    .to( target )
+                    .applyingIncrementalDinic( new IntegerWeightBaseOperations() );
+
+            for ( int j = 0; j < CHANGES; j++ )
+            {
+                BaseLabeledWeightedEdge<Integer> edge = edges.get( r.nextInt( edges.size() ) );
+                int capacity = r.nextInt( 25 );
+                capacities.set( edge, capacity );
+
+                Integer actual = session.capacityChanged( edge, capacity );
+
+                Integer expected = findMaxFlow( graph )
+                                    .whereEdgesHaveWeights( capacities )
+                                    .from( source )
+                                    .to( target )
+                                    .applyingPushRelabel( new IntegerWeightBaseOperations() )
+                                    .getMaxFlow();
+
+                assertEquals( format( "max flow from %s to %s after %s changed to %s", source, target, edge, capacity ),
+                              expected, actual );
+                verify( graph, capacities, source, target, session.getResult() );
+            }
+        }
+    }
+
+    static final class Capacities
+        implements Mapper<BaseLabeledWeightedEdge<Integer>, Integer>
+    {
+
+        private static final long serialVersionUID = -1584026937710344562L;
+
+        private final Map<BaseLabeledWeightedEdge<Integer>, Integer> changed = new HashMap<BaseLabeledWeightedEdge<Integer>, Integer>();
+
+        public void set( BaseLabeledWeightedEdge<Integer> edge, int capacity )
+        {
+            changed.put( edge, capacity );
+        }
+
+        public Integer map( BaseLabeledWeightedEdge<Integer> input )
+        {
+            Integer capacity = changed.get( input );
+            return capacity != null ? capacity : input.getWeight();
+        }
+
+    }
+
+}
@@ -0,0 +1,297 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.CommonsGraph.findMaxFlow;
+import static org.apache.commons.graph.CommonsGraph.findMinCostMaxFlow;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.shortestpath.NegativeWeightedCycleException;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.apache.commons.graph.weight.primitive.LongWeightBaseOperations;
+import org.junit.Test;
+
+public final class MinCostMaxFlowTestCase
+{
+
+    private static final int TIMES = 20;
+
+    /**
+     * Edges labels end with their cost, while their weight is the capacity.
+     */
+    private static final Mapper<BaseLabeledWeightedEdge<Long>, Long> CAPACITIES = new Mapper<BaseLabeledWeightedEdge<Long>, Long>()
+    {
+
+        public Long map( BaseLabeledWeightedEdge<Long> input )
+        {
+            return input.getWeight();
+        }
+
+    };
+
+    private static final Mapper<BaseLabeledWeightedEdge<Long>, Integer> COSTS = new Mapper<BaseLabeledWeightedEdge<Long>, Integer>()
+    {
+
+        public Integer map( BaseLabeledWeightedEdge<Long> input )
+        {
+            String label = input.getLabel();
+            return Integer.valueOf( label.substring( label.lastIndexOf( ' ' ) + 1 ) );
+        }
+
+    };
+
+    @Test( expected = NullPointerException.class )
+    public void testNullGraph()
+    {
+        findMinCostMaxFlow( (DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>>) null );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullCostOperations()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> graph = newRandomNetwork( 5, 0.5, false, 1 );
+
+        findMinCostMaxFlow( graph )
+            .whereEdgesHaveCapacities( CAPACITIES )
+            .whereEdgesHaveCosts( COSTS )
+            .from( new BaseLabeledVertex( "0" ) )
+            .to( new BaseLabeledVertex( "4" ) )
+            .applyingSuccessiveShortestPaths( null );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testMissingCapacity()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>>();
+        BaseLabeledVertex s = vertex( graph, "s" );
+        BaseLabeledVertex t = vertex( graph, "t" );
+        graph.addEdge( s, new BaseLabeledWeightedEdge<Long>( "s -> t costs 1", null ), t );
+
+        findMinCostMaxFlow( graph )
+            .whereEdgesHaveCapacities( CAPACITIES )
+            .whereEdgesHaveCosts( COSTS )
+            .from( s )
+            .to( t )
+            .applyingSuccessiveShortestPaths( new IntegerWeightBaseOperations() );
+    }
+
+    @Test( expected = NegativeWeightedCycleException.class )
+    public void testNegativeCycle()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>>();
+        BaseLabeledVertex s = vertex( graph, "s" );
+        BaseLabeledVertex a = vertex( graph, "a" );
+        BaseLabeledVertex t = vertex( graph, "t" );
+        connect( graph, s, a, 1, 1 );
+        connect( graph, a, s, 1, -2 );
+        connect( graph, a, t, 1, 1 );
+
+        findMinCostMaxFlow( graph )
+            .whereEdgesHaveCapacities( CAPACITIES )
+            .whereEdgesHaveCosts( COSTS )
+            .from( s )
+            .to( t )
+            .applyingSuccessiveShortestPaths( new IntegerWeightBaseOperations() );
+    }
+
+    @Test
+    public void findMinCostMaxFlowAndVerify()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>>();
+        BaseLabeledVertex s = vertex( graph, "s" );
+        BaseLabeledVertex a = vertex( graph, "a" );
+        BaseLabeledVertex b = vertex( graph, "b" );
+        BaseLabeledVertex t = vertex( graph, "t" );
+        BaseLabeledWeightedEdge<Long> sa = connect( graph, s, a, 2, 1 );
+        BaseLabeledWeightedEdge<Long> sb = connect( graph, s, b, 1, 2 );
+        BaseLabeledWeightedEdge<Long> ab = connect( graph, a, b, 1, 1 );
+        BaseLabeledWeightedEdge<Long> at = connect( graph, a, t, 1, 3 );
+        BaseLabeledWeightedEdge<Long> bt = connect( graph, b, t, 2, 1 );
+
+        MinCostFlowResult<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>, Integer> result =
+            findMinCostMaxFlow( graph )
+                .whereEdgesHaveCapacities( CAPACITIES )
+                .whereEdgesHaveCosts( COSTS )
+                .from( s )
+                .to( t )
+                .applyingSuccessiveShortestPaths( new IntegerWeightBaseOperations() );
+
+        assertEquals( Long.valueOf( 3 ), result.getMaxFlow() );
+        assertEquals( Integer.valueOf( 10 ), result.getTotalCost() );
+        assertEquals( Long.valueOf( 2 ), result.getFlow( sa ) );
+        assertEquals( Long.valueOf( 1 ), result.getFlow( sb ) );
+        assertEquals( Long.valueOf( 1 ), result.getFlow( ab ) );
+        assertEquals( Long.valueOf( 1 ), result.getFlow( at ) );
+        assertEquals( Long.valueOf( 2 ), result.getFlow( bt ) );
+    }
+
+    @Test
+    public void cheapestAmongMaximumFlows()
+    {
+        Random r = new Random( 23 );
+
+        for ( int i = 0; i < TIMES; i++ )
+        {
+            int order = 2 + r.nextInt( 25 );
+            DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> graph =
+                newRandomNetwork( order, r.nextDouble() * 0.4, r.nextBoolean(), r.nextLong() );
+
+            BaseLabeledVertex source = new BaseLabeledVertex( "0" );
+            BaseLabeledVertex target = new BaseLabeledVertex( String.valueOf( order - 1 ) );
+
+            MinCostFlowResult<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>, Integer> result =
+                findMinCostMaxFlow( graph )
+                    .whereEdgesHaveCapacities( CAPACITIES )
+                    .whereEdgesHaveCosts( COSTS )
+                    .from( source )
+                    .to( target )
+                    .applyingSuccessiveShortestPaths( new IntegerWeightBaseOperations() );
+
+            Long maxFlow = findMaxFlow( graph )
+                            .whereEdgesHaveWeights( new BaseWeightedEdge<Long>() )
+                            .from( source )
+                            .to( target )
+                            .applyingDinic( new LongWeightBaseOperations() )
+                            .getMaxFlow();
+
+            assertEquals( maxFlow, result.getMaxFlow() );
+            assertEquals( totalCost( graph, result ), result.getTotalCost().intValue() );
+            // a flow is of minimum cost if and only if its residual network has no negative cost cycle
+            assertFalse( hasNegativeResidualCycle( graph, result ) );
+        }
+    }
+
+    private static int totalCost( DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> graph,
+                                  MinCostFlowResult<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>, Integer> result )
+    {
+        int totalCost = 0;
+        for ( BaseLabeledWeightedEdge<Long> edge : graph.getEdges() )
+        {
+            totalCost += COSTS.map( edge ) * result.getFlow( edge );
+        }
+        return totalCost;
+    }
+
+    private static boolean hasNegativeResidualCycle( DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> graph,
+                                                     MinCostFlowResult<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>, Integer> result )
+    {
+        List<int[]> arcs = new ArrayList<int[]>();
+        for ( BaseLabeledWeightedEdge<Long> edge : graph.getEdges() )
+        {
+            VertexPair<BaseLabeledVertex> vertices = graph.getVertices( edge );
+            int head = Integer.parseInt( vertices.getHead().getLabel() );
+            int tail = Integer.parseInt( vertices.getTail().getLabel() );
+            long flow = result.getFlow( edge );
+            if ( flow < edge.getWeight() )
+            {
+                arcs.add( new int[] { head, tail, COSTS.map( edge ) } );
+            }
+            if ( flow > 0 )
+            {
+                arcs.add( new int[] { tail, head, -COSTS.map( edge ) } );
+            }
+        }
+
+        // Bellman-Ford from a virtual vertex connected to all the others
+        long[] distances = new long[graph.getOrder()];
+        for ( int round = 0; round < graph.getOrder(); round++ )
+        {
+            boolean relaxed = false;
+            for ( int[] arc : arcs )
+            {
+                if ( distances[arc[0]] + arc[2] < distances[arc[1]] )
+                {
+                    distances[arc[1]] = distances[arc[0]] + arc[2];
+                    relaxed = true;
+                }
+            }
+            if ( !relaxed )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a network whose vertices are labeled from 0 to {@code order - 1}; negative costs,
+     * when allowed, are only on edges going to a higher vertex, and the other edges cost more than any path
+     * of negative edges, so that no negative cost cycle exists.
+     */
+    private static DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> newRandomNetwork( int order, double density,
+                                                                                                          boolean negativeCosts, long seed )
+    {
+        Random r = new Random( seed );
+
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>>();
+
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[order];
+        for ( int i = 0; i < order; i++ )
+        {
+            vertices[i] = vertex( graph, String.valueOf( i ) );
+        }
+
+        for ( int i = 0; i < order; i++ )
+        {
+            for ( int j = 0; j < order; j++ )
+            {
+                if ( i != j && r.nextDouble() < density )
+                {
+                    int cost = negativeCosts && i < j ? r.nextInt( 20 ) - 10 : 10 * order + r.nextInt( 10 );
+                    connect( graph, vertices[i], vertices[j], 1 + r.nextInt( 10 ), cost );
+                }
+            }
+        }
+
+        return graph;
+    }
+
+    private static BaseLabeledVertex vertex( DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> graph, String label )
+    {
+        BaseLabeledVertex vertex = new BaseLabeledVertex( label );
+        graph.addVertex( vertex );
+        return vertex;
+    }
+
+    private static BaseLabeledWeightedEdge<Long> connect( DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> graph,
+                                                          BaseLabeledVertex head, BaseLabeledVertex tail, long capacity, int cost )
+    {
+        BaseLabeledWeightedEdge<Long> edge = new BaseLabeledWeightedEdge<Long>( format( "%s -> %s costs %s", head, tail, cost ), capacity );
+        graph.addEdge( head, edge, tail );
+        return edge;
+    }
+
+}
@@ -0,0 +1,167 @@
+package org.apache.commons.graph.flow;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.CommonsGraph.findMaxFlow;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class PushRelabelTestCase
+{
+
+    private static final int TIMES = 30;
+
+    @Test( expected = NullPointerException.class )
+    public void testNullMonoid()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph = newRandomNetwork( 10, 0.3, 1 );
+
+        findMaxFlow( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .from( new BaseLabeledVertex( "0" ) )
+            .to( new BaseLabeledVertex( "9" ) )
+            .applyingPushRelabel( null );
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public void testMissingSource()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph = newRandomNetwork( 10, 0.3, 1 );
+
+        findMaxFlow( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .from( new BaseLabeledVertex( "missing" ) )
+            .to( new BaseLabeledVertex( "9" ) )
+            .applyingPushRelabel( new IntegerWeightBaseOperations() );
+    }
+
+    @Test
+    public void findMaxFlowAndVerify()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+
+        BaseLabeledVertex[] v = new BaseLabeledVertex[7];
+        for ( int i = 0; i < v.length; i++ )
+        {
+            v[i] = new BaseLabeledVertex( String.valueOf( (char) ( 'A' + i ) ) );
+            graph.addVertex( v[i] );
+        }
+
+        // the same network of the Edmonds-Karp test
+        connect( graph, v[0], v[1], 3 );
+        connect( graph, v[0], v[3], 3 );
+        connect( graph, v[1], v[2], 4 );
+        connect( graph, v[2], v[0], 3 );
+        connect( graph, v[2], v[3], 1 );
+        connect( graph, v[2], v[4], 2 );
+        connect( graph, v[3], v[4], 2 );
+        connect( graph, v[3], v[5], 6 );
+        connect( graph, v[4], v[1], 1 );
+        connect( graph, v[4], v[6], 1 );
+        connect( graph, v[5], v[6], 9 );
+
+        Integer actual = findMaxFlow( graph )
+                            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                            .from( v[0] )
+                            .to( v[6] )
+                            .applyingPushRelabel( new IntegerWeightBaseOperations() ).getMaxFlow();
+
+        assertEquals( Integer.valueOf( 5 ), actual );
+    }
+
+    @Test
+    public void compareToEdmondsKarp()
+    {
+        Random r = new Random( 3 );
+
+        for ( int i = 0; i < TIMES; i++ )
+        {
+            int order = 2 + r.nextInt( 40 );
+            DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+                newRandomNetwork( order, r.nextDouble() * 0.4, r.nextLong() );
+
+            int s = r.nextInt( order );
+            BaseLabeledVertex source = new BaseLabeledVertex( String.valueOf( s ) );
+            BaseLabeledVertex target = new BaseLabeledVertex( String.valueOf( ( s + 1 + r.nextInt( order - 1 ) ) % order ) );
+
+            Integer expected = findMaxFlow( graph )
+                                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                                .from( source )
+                                .to( target )
+                                .applyingEdmondsKarp( new IntegerWeightBaseOperations() ).getMaxFlow();
+
+            Integer actual = findMaxFlow( graph )
+                                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                                .from( source )
+                                .to( target )
+                                .applyingPushRelabel( new IntegerWeightBaseOperations() ).getMaxFlow();
+
+            assertEquals( format( "max flow from %s to %s", source, target ), expected, actual );
+        }
+    }
+
+    /**
+     * Creates a network whose vertices are labeled from 0 to {@code order - 1}, with random capacities up to 20.
+     */
+    static DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> newRandomNetwork( int order, double density, long seed )
+    {
+        Random r = new Random( seed );
+
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[order];
+        for ( int i = 0; i < order; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( String.valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        for ( int i = 0; i < order; i++ )
+        {
+            for ( int j = 0; j < order; j++ )
+            {
+                if ( i != j && r.nextDouble() < density )
+                {
+                    connect( graph, vertices[i], vertices[j], 1 + r.nextInt( 20 ) );
+                }
+            }
+        }
+
+        return graph;
+    }
+
+    private static void connect( DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                                 BaseLabeledVertex head, BaseLabeledVertex tail, int capacity )
+    {
+        graph.addEdge( head, new BaseLabeledWeightedEdge<Integer>( format( "%s -> %s", head, tail ), capacity ), tail );
+    }
+
+}
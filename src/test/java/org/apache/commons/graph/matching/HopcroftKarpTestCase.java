@@ -0,0 +1,244 @@
+package org.apache.commons.graph.matching;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.CommonsGraph.findMaxFlow;
+import static org.apache.commons.graph.CommonsGraph.findMaximumMatching;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class HopcroftKarpTestCase
+{
+
+    private static final int TIMES = 20;
+
+    @Test( expected = NullPointerException.class )
+    public void testNullGraph()
+    {
+        findMaximumMatching( (UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>) null );
+    }
+
+    @Test( expected = NotBipartiteGraphException.class )
+    public void testOddCycle()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex a = vertex( graph, "a" );
+        BaseLabeledVertex b = vertex( graph, "b" );
+        BaseLabeledVertex c = vertex( graph, "c" );
+        connect( graph, a, b, 1 );
+        connect( graph, b, c, 1 );
+        connect( graph, c, a, 1 );
+
+        findMaximumMatching( graph ).applyingHopcroftKarp();
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Matching<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> matching =
+            findMaximumMatching( new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>() )
+                .applyingHopcroftKarp();
+
+        assertEquals( 0, matching.getSize() );
+        assertTrue( matching.getEdges().isEmpty() );
+    }
+
+    @Test
+    public void findMaximumMatchingAndVerify()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex w1 = vertex( graph, "w1" );
+        BaseLabeledVertex w2 = vertex( graph, "w2" );
+        BaseLabeledVertex w3 = vertex( graph, "w3" );
+        BaseLabeledVertex j1 = vertex( graph, "j1" );
+        BaseLabeledVertex j2 = vertex( graph, "j2" );
+        BaseLabeledVertex j3 = vertex( graph, "j3" );
+        BaseLabeledVertex idle = vertex( graph, "idle" );
+
+        // the greedy choice w1 - j1 has to be undone to match everybody
+        connect( graph, w1, j1, 1 );
+        connect( graph, w1, j2, 1 );
+        connect( graph, w2, j1, 1 );
+        connect( graph, w3, j2, 1 );
+        connect( graph, w3, j3, 1 );
+
+        Matching<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> matching =
+            findMaximumMatching( graph ).applyingHopcroftKarp();
+
+        assertEquals( 3, matching.getSize() );
+        assertEquals( j2, matching.getMate( w1 ) );
+        assertEquals( w2, matching.getMate( j1 ) );
+        assertEquals( j3, matching.getMate( w3 ) );
+        assertFalse( matching.isMatched( idle ) );
+        assertNull( matching.getMate( idle ) );
+        verify( graph, matching );
+    }
+
+    @Test
+    public void compareToMaxFlow()
+    {
+        Random r = new Random( 11 );
+
+        for ( int i = 0; i < TIMES; i++ )
+        {
+            int workers = 1 + r.nextInt( 40 );
+            int jobs = 1 + r.nextInt( 40 );
+            UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+                newRandomBipartiteGraph( workers, jobs, r.nextDouble() * 0.2, r.nextLong() );
+
+            Matching<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> matching =
+                findMaximumMatching( graph ).applyingHopcroftKarp();
+
+            verify( graph, matching );
+            assertEquals( maxFlowOf( graph, workers, jobs ), matching.getSize() );
+        }
+    }
+
+    /**
+     * Checks that the matched edges belong to the graph and do not share any vertex.
+     */
+    static <E> void verify( UndirectedMutableGraph<BaseLabeledVertex, E> graph, Matching<BaseLabeledVertex, E> matching )
+    {
+        Set<BaseLabeledVertex> matched = new HashSet<BaseLabeledVertex>();
+        for ( E edge : matching.getEdges() )
+        {
+            assertTrue( graph.containsEdge( edge ) );
+            VertexPair<BaseLabeledVertex> vertices = graph.getVertices( edge );
+            assertTrue( matched.add( vertices.getHead() ) );
+            assertTrue( matched.add( vertices.getTail() ) );
+            assertEquals( vertices.getTail(), matching.getMate( vertices.getHead() ) );
+            assertEquals( vertices.getHead(), matching.getMate( vertices.getTail() ) );
+        }
+        for ( BaseLabeledVertex vertex : graph.getVertices() )
+        {
+            assertEquals( matched.contains( vertex ), matching.isMatched( vertex ) );
+        }
+    }
+
+    /**
+     * Calculates the matching size as the max flow of the unit capacity network from a source,
+     * through the workers and the jobs, to a sink.
+     */
+    private static int maxFlowOf( UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph, int workers, int jobs )
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> network =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex source = new BaseLabeledVertex( "source" );
+        BaseLabeledVertex sink = new BaseLabeledVertex( "sink" );
+        network.addVertex( source );
+        network.addVertex( sink );
+        for ( BaseLabeledVertex vertex : graph.getVertices() )
+        {
+            network.addVertex( vertex );
+        }
+        for ( int w = 0; w < workers; w++ )
+        {
+            BaseLabeledVertex worker = new BaseLabeledVertex( "w" + w );
+            network.addEdge( source, new BaseLabeledWeightedEdge<Integer>( "source -> " + worker, 1 ), worker );
+        }
+        for ( int j = 0; j < jobs; j++ )
+        {
+            BaseLabeledVertex job = new BaseLabeledVertex( "j" + j );
+            network.addEdge( job, new BaseLabeledWeightedEdge<Integer>( job + " -> sink", 1 ), sink );
+        }
+        for ( BaseLabeledWeightedEdge<Integer> edge : graph.getEdges() )
+        {
+            VertexPair<BaseLabeledVertex> vertices = graph.getVertices( edge );
+            BaseLabeledVertex worker = vertices.getHead().getLabel().startsWith( "w" ) ? vertices.getHead() : vertices.getTail();
+            BaseLabeledVertex job = worker == vertices.getHead() ? vertices.getTail() : vertices.getHead();
+            network.addEdge( worker, new BaseLabeledWeightedEdge<Integer>( worker + " -> " + job, 1 ), job );
+        }
+
+        return findMaxFlow( network )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .from( source )
+                .to( sink )
+                .applyingEdmondsKarp( new IntegerWeightBaseOperations() )
+                .getMaxFlow();
+    }
+
+    /**
+     * Creates a bipartite graph between the workers, labeled from w0, and the jobs, labeled from j0,
+     * whose edges weights go from -10 to 29.
+     */
+    static UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> newRandomBipartiteGraph( int workers, int jobs,
+                                                                                                                double density, long seed )
+    {
+        Random r = new Random( seed );
+
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+
+        for ( int w = 0; w < workers; w++ )
+        {
+            vertex( graph, "w" + w );
+        }
+        for ( int j = 0; j < jobs; j++ )
+        {
+            vertex( graph, "j" + j );
+        }
+        for ( int w = 0; w < workers; w++ )
+        {
+            for ( int j = 0; j < jobs; j++ )
+            {
+                if ( r.nextDouble() < density )
+                {
+                    connect( graph, new BaseLabeledVertex( "w" + w ), new BaseLabeledVertex( "j" + j ), r.nextInt( 40 ) - 10 );
+                }
+            }
+        }
+
+        return graph;
+    }
+
+    static BaseLabeledVertex vertex( UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph, String label )
+    {
+        BaseLabeledVertex vertex = new BaseLabeledVertex( label );
+        graph.addVertex( vertex );
+        return vertex;
+    }
+
+    static BaseLabeledWeightedEdge<Integer> connect( UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                                                     BaseLabeledVertex head, BaseLabeledVertex tail, int weight )
+    {
+        BaseLabeledWeightedEdge<Integer> edge = new BaseLabeledWeightedEdge<Integer>( format( "%s <-> %s", head, tail ), weight );
+        graph.addEdge( head, edge, tail );
+        return edge;
+    }
+
+}
@@ -0,0 +1,210 @@
+package org.apache.commons.graph.matching;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.CommonsGraph.findMaximumMatching;
+import static org.apache.commons.graph.CommonsGraph.findMinCostMaxFlow;
+import static org.apache.commons.graph.matching.HopcroftKarpTestCase.connect;
+import static org.apache.commons.graph.matching.HopcroftKarpTestCase.newRandomBipartiteGraph;
+import static org.apache.commons.graph.matching.HopcroftKarpTestCase.vertex;
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.flow.MinCostFlowResult;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class HungarianTestCase
+{
+
+    private static final int TIMES = 20;
+
+    @Test( expected = NullPointerException.class )
+    public void testNullMapper()
+    {
+        findMaximumMatching( new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>() )
+            .whereEdgesHaveWeights( null );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullMonoid()
+    {
+        findMaximumMatching( new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>() )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .applyingHungarian( null );
+    }
+
+    @Test
+    public void findMinimumWeightAssignmentAndVerify()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        int[][] weights = { { 4, 1, 3 }, { 2, 0, 5 }, { 3, 2, 2 } };
+        for ( int w = 0; w < weights.length; w++ )
+        {
+            vertex( graph, "w" + w );
+            vertex( graph, "j" + w );
+        }
+        for ( int w = 0; w < weights.length; w++ )
+        {
+            for ( int j = 0; j < weights[w].length; j++ )
+            {
+                connect( graph, new BaseLabeledVertex( "w" + w ), new BaseLabeledVertex( "j" + j ), weights[w][j] );
+            }
+        }
+
+        WeightedMatching<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> matching =
+            findMaximumMatching( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .applyingHungarian( new IntegerWeightBaseOperations() );
+
+        assertEquals( 3, matching.getSize() );
+        assertEquals( Integer.valueOf( 5 ), matching.getWeight() );
+        assertEquals( new BaseLabeledVertex( "j1" ), matching.getMate( new BaseLabeledVertex( "w0" ) ) );
+        assertEquals( new BaseLabeledVertex( "j0" ), matching.getMate( new BaseLabeledVertex( "w1" ) ) );
+        assertEquals( new BaseLabeledVertex( "j2" ), matching.getMate( new BaseLabeledVertex( "w2" ) ) );
+    }
+
+    @Test
+    public void testCardinalityBeforeWeight()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex w1 = vertex( graph, "w1" );
+        BaseLabeledVertex w2 = vertex( graph, "w2" );
+        BaseLabeledVertex j1 = vertex( graph, "j1" );
+        BaseLabeledVertex j2 = vertex( graph, "j2" );
+        connect( graph, w1, j1, 1 );
+        connect( graph, w1, j2, 10 );
+        connect( graph, w2, j1, 10 );
+
+        WeightedMatching<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> matching =
+            findMaximumMatching( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                .applyingHungarian( new IntegerWeightBaseOperations() );
+
+        assertEquals( 2, matching.getSize() );
+        assertEquals( Integer.valueOf( 20 ), matching.getWeight() );
+        assertEquals( j2, matching.getMate( w1 ) );
+        assertEquals( j1, matching.getMate( w2 ) );
+    }
+
+    @Test
+    public void compareToMinCostMaxFlow()
+    {
+        Random r = new Random( 13 );
+
+        for ( int i = 0; i < TIMES; i++ )
+        {
+            int workers = 1 + r.nextInt( 30 );
+            int jobs = 1 + r.nextInt( 30 );
+            UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+                newRandomBipartiteGraph( workers, jobs, r.nextDouble() * 0.3, r.nextLong() );
+
+            WeightedMatching<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> matching =
+                findMaximumMatching( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                    .applyingHungarian( new IntegerWeightBaseOperations() );
+
+            int weight = 0;
+            for ( BaseLabeledWeightedEdge<Integer> edge : matching.getEdges() )
+            {
+                weight += edge.getWeight();
+            }
+            assertEquals( weight, matching.getWeight().intValue() );
+            assertEquals( findMaximumMatching( graph ).applyingHopcroftKarp().getSize(), matching.getSize() );
+
+            MinCostFlowResult<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>, Integer> expected = minCostMaxFlowOf( graph, workers, jobs );
+            assertEquals( expected.getMaxFlow().intValue(), matching.getSize() );
+            assertEquals( expected.getTotalCost(), matching.getWeight() );
+        }
+    }
+
+    /**
+     * Solves the same assignment as a min cost max flow through the unit capacity network
+     * from a source, through the workers and the jobs, to a sink.
+     */
+    private static MinCostFlowResult<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>, Integer> minCostMaxFlowOf( UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph,
+                                                                                                               int workers, int jobs )
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> network =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>>();
+        final Map<BaseLabeledWeightedEdge<Long>, Integer> costs = new HashMap<BaseLabeledWeightedEdge<Long>, Integer>();
+
+        BaseLabeledVertex source = new BaseLabeledVertex( "source" );
+        BaseLabeledVertex sink = new BaseLabeledVertex( "sink" );
+        network.addVertex( source );
+        network.addVertex( sink );
+        for ( BaseLabeledVertex vertex : graph.getVertices() )
+        {
+            network.addVertex( vertex );
+        }
+        for ( int w = 0; w < workers; w++ )
+        {
+            BaseLabeledVertex worker = new BaseLabeledVertex( "w" + w );
+            BaseLabeledWeightedEdge<Long> edge = new BaseLabeledWeightedEdge<Long>( "source -> " + worker, 1L );
+            network.addEdge( source, edge, worker );
+            costs.put( edge, 0 );
+        }
+        for ( int j = 0; j < jobs; j++ )
+        {
+            BaseLabeledVertex job = new BaseLabeledVertex( "j" + j );
+            BaseLabeledWeightedEdge<Long> edge = new BaseLabeledWeightedEdge<Long>( job + " -> sink", 1L );
+            network.addEdge( job, edge, sink );
+            costs.put( edge, 0 );
+        }
+        for ( BaseLabeledWeightedEdge<Integer> edge : graph.getEdges() )
+        {
+            VertexPair<BaseLabeledVertex> vertices = graph.getVertices( edge );
+            BaseLabeledVertex worker = vertices.getHead().getLabel().startsWith( "w" ) ? vertices.getHead() : vertices.getTail();
+            BaseLabeledVertex job = worker == vertices.getHead() ? vertices.getTail() : vertices.getHead();
+            BaseLabeledWeightedEdge<Long> arc = new BaseLabeledWeightedEdge<Long>( format( "%s -> %s", worker, job ), 1L );
+            network.addEdge( worker, arc, job );
+            costs.put( arc, edge.getWeight() );
+        }
+
+        return findMinCostMaxFlow( network )
+                .whereEdgesHaveCapacities( new BaseWeightedEdge<Long>() )
+                .whereEdgesHaveCosts( new Mapper<BaseLabeledWeightedEdge<Long>, Integer>()
+                {
+
+                    public Integer map( BaseLabeledWeightedEdge<Long> input )
+                    {
+                        return costs.get( input );
+                    }
+
+                } )
+                .from( source )
+                .to( sink )
+                .applyingSuccessiveShortestPaths( new IntegerWeightBaseOperations() );
+    }
+
+}
@@ -0,0 +1,112 @@
+package org.apache.commons.graph.model;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.weight.primitive.DoubleWeightBaseOperations;
+import org.junit.Test;
+
+public final class ArrayWeightedPathTestCase
+{
+
+    private final BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+
+    private final BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+
+    private final BaseLabeledVertex c = new BaseLabeledVertex( "c" );
+
+    private final BaseLabeledWeightedEdge<Double> ab = new BaseLabeledWeightedEdge<Double>( "a -> b", 1D );
+
+    private final BaseLabeledWeightedEdge<Double> bc = new BaseLabeledWeightedEdge<Double>( "b -> c", 2D );
+
+    private WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> newArrayPath()
+    {
+        return new ArrayWeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>( a, c, asList( a, b, c ), asList( ab, bc ), 3D );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testInconsistentVertices()
+    {
+        new ArrayWeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>( a, c, asList( a, c ), asList( ab, bc ), 3D );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testWrongEndpoints()
+    {
+        new ArrayWeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>( a, b, asList( a, b, c ), asList( ab, bc ), 3D );
+    }
+
+    @Test
+    public void lookupVerticesAndEdges()
+    {
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> path = newArrayPath();
+
+        assertEquals( 3, path.getOrder() );
+        assertEquals( 2, path.getSize() );
+        assertTrue( path.containsVertex( b ) );
+        assertTrue( path.containsEdge( bc ) );
+        assertEquals( bc, path.getEdge( b, c ) );
+        assertNull( path.getEdge( a, c ) );
+        assertEquals( new VertexPair<BaseLabeledVertex>( a, b ), path.getVertices( ab ) );
+        assertEquals( asList( b ), path.getConnectedVertices( a ) );
+        assertFalse( path.getConnectedVertices( c ).iterator().hasNext() );
+        assertEquals( 1, path.getDegree( a ) );
+        assertEquals( 2, path.getDegree( b ) );
+    }
+
+    @Test
+    public void equalsToInMemoryWeightedPath()
+    {
+        InMemoryWeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> expected =
+            new InMemoryWeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>( a, c, new DoubleWeightBaseOperations(), new BaseWeightedEdge<Double>() );
+        expected.addConnectionInTail( a, ab, b );
+        expected.addConnectionInTail( b, bc, c );
+
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> actual = newArrayPath();
+
+        assertEquals( expected, actual );
+        assertEquals( actual, expected );
+        assertEquals( expected.hashCode(), actual.hashCode() );
+    }
+
+    @Test
+    public void emptyPath()
+    {
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> path =
+            new ArrayWeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>( a, a,
+                                                                                                Collections.<BaseLabeledVertex>emptyList(),
+                                                                                                Collections.<BaseLabeledWeightedEdge<Double>>emptyList(),
+                                                                                                0D );
+
+        assertEquals( 0, path.getOrder() );
+        assertEquals( 0, path.getSize() );
+        assertFalse( path.containsVertex( a ) );
+    }
+
+}
@@ -0,0 +1,171 @@
+package org.apache.commons.graph.reachability;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.valueOf;
+import static org.apache.commons.graph.CommonsGraph.indexReachability;
+import static org.apache.commons.graph.CommonsGraph.visit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.visit.VisitStep;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public final class ReachabilityIndexTestCase
+{
+
+    private static final int ORDER = 300;
+
+    private static DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph;
+
+    private static BaseLabeledVertex[] vertices;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        graph = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        vertices = new BaseLabeledVertex[ORDER];
+        for ( int i = 0; i < ORDER; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        // mostly forward edges, with a few backward ones closing cycles
+        Random random = new Random( 17 );
+        for ( int i = 0; i < ORDER * 2; i++ )
+        {
+            int head = random.nextInt( ORDER );
+            int tail = random.nextInt( 10 ) == 0 ? random.nextInt( ORDER ) : Math.min( ORDER - 1, head + 1 + random.nextInt( 20 ) );
+            if ( graph.getEdge( vertices[head], vertices[tail] ) == null )
+            {
+                graph.addEdge( vertices[head], new BaseLabeledEdge( head + " -> " + tail ), vertices[tail] );
+            }
+        }
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullGraph()
+    {
+        indexReachability( (DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>) null );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testNoLabelings()
+    {
+        indexReachability( graph ).applyingGrail( 0 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testNotExistVertex()
+    {
+        indexReachability( graph ).applyingGrail().isReachable( vertices[0], new BaseLabeledVertex( "NOT EXIST" ) );
+    }
+
+    @Test
+    public void compareToVisit()
+    {
+        verify( indexReachability( graph ).applyingGrail() );
+    }
+
+    @Test
+    public void compareToVisitWithSingleLabeling()
+    {
+        verify( indexReachability( graph ).applyingGrail( 1 ) );
+    }
+
+    @Test
+    public void reachabilityOnCycle()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> cycle = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        BaseLabeledVertex c = new BaseLabeledVertex( "c" );
+        BaseLabeledVertex d = new BaseLabeledVertex( "d" );
+        cycle.addVertex( a );
+        cycle.addVertex( b );
+        cycle.addVertex( c );
+        cycle.addVertex( d );
+
+        cycle.addEdge( a, new BaseLabeledEdge( "a -> b" ), b );
+        cycle.addEdge( b, new BaseLabeledEdge( "b -> c" ), c );
+        cycle.addEdge( c, new BaseLabeledEdge( "c -> a" ), a );
+        cycle.addEdge( c, new BaseLabeledEdge( "c -> d" ), d );
+
+        ReachabilityIndex<BaseLabeledVertex> index = indexReachability( cycle ).applyingGrail();
+
+        assertTrue( index.isReachable( b, a ) );
+        assertTrue( index.isReachable( a, d ) );
+        assertTrue( index.isReachable( d, d ) );
+        assertFalse( index.isReachable( d, a ) );
+    }
+
+    @Test
+    public void serializedIndex()
+        throws Exception
+    {
+        ReachabilityIndex<BaseLabeledVertex> index = indexReachability( graph ).applyingGrail();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream output = new ObjectOutputStream( bytes );
+        output.writeObject( index );
+        output.close();
+
+        ObjectInputStream input = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) );
+        @SuppressWarnings( "unchecked" ) // just serialized
+        ReachabilityIndex<BaseLabeledVertex> deserialized = (ReachabilityIndex<BaseLabeledVertex>) input.readObject();
+        input.close();
+
+        verify( deserialized );
+    }
+
+    private static void verify( ReachabilityIndex<BaseLabeledVertex> index )
+    {
+        for ( BaseLabeledVertex source : vertices )
+        {
+            Set<BaseLabeledVertex> reachable = new HashSet<BaseLabeledVertex>();
+            for ( VisitStep<BaseLabeledVertex, BaseLabeledEdge> step : visit( graph ).from( source ).breadthFirst() )
+            {
+                reachable.add( step.getVertex() );
+            }
+
+            for ( BaseLabeledVertex target : vertices )
+            {
+                assertEquals( source + " -> " + target, reachable.contains( target ), index.isReachable( source, target ) );
+            }
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+package org.apache.commons.graph.reachability;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.valueOf;
+import static org.apache.commons.graph.CommonsGraph.transitiveClosure;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.VertexPair;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public final class TransitiveClosureTestCase
+{
+
+    private static final int ORDER = 300;
+
+    private static DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        graph = newRandomGraph( ORDER, 17, true );
+    }
+
+    /**
+     * Creates a graph with mostly forward edges and, if cycles are admitted, a few backward ones.
+     */
+    static DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> newRandomGraph( int order, long seed, boolean cycles )
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[order];
+        for ( int i = 0; i < order; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        Random random = new Random( seed );
+        for ( int i = 0; i < order * 3; i++ )
+        {
+            int head = random.nextInt( order );
+            int tail = cycles && random.nextInt( 10 ) == 0 ? random.nextInt( order ) : head + 1 + random.nextInt( 20 );
+            if ( tail < order && graph.getEdge( vertices[head], vertices[tail] ) == null )
+            {
+                graph.addEdge( vertices[head], new BaseLabeledEdge( head + " -> " + tail ), vertices[tail] );
+            }
+        }
+
+        return graph;
+    }
+
+    /**
+     * The vertices reachable from the input vertex through at least one edge.
+     */
+    static <V, E> Set<V> reachableFrom( DirectedGraph<V, E> graph, V source )
+    {
+        Set<V> reached = new HashSet<V>();
+        Set<V> frontier = new HashSet<V>();
+        for ( V v : graph.getOutbound( source ) )
+        {
+            frontier.add( v );
+        }
+        while ( !frontier.isEmpty() )
+        {
+            Set<V> next = new HashSet<V>();
+            for ( V v : frontier )
+            {
+                if ( reached.add( v ) )
+                {
+                    for ( V w : graph.getOutbound( v ) )
+                    {
+                        next.add( w );
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return reached;
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullGraph()
+    {
+        transitiveClosure( (DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>) null );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullExecutor()
+    {
+        transitiveClosure( graph ).applyingBitsetRows( null );
+    }
+
+    @Test
+    public void compareToVisit()
+    {
+        verify( graph, transitiveClosure( graph ).applyingBitsetRows() );
+    }
+
+    @Test
+    public void compareToVisitInParallel()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool( 4 );
+        try
+        {
+            DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> input = newRandomGraph( 500, 5, true );
+            verify( input, transitiveClosure( input ).applyingBitsetRows( executor ) );
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    private static void verify( DirectedGraph<BaseLabeledVertex, BaseLabeledEdge> graph,
+                                DirectedGraph<BaseLabeledVertex, VertexPair<BaseLabeledVertex>> closure )
+    {
+        assertEquals( graph.getOrder(), closure.getOrder() );
+
+        int size = 0;
+        for ( BaseLabeledVertex source : graph.getVertices() )
+        {
+            Set<BaseLabeledVertex> reachable = reachableFrom( graph, source );
+            for ( BaseLabeledVertex target : reachable )
+            {
+                assertNotNull( closure.getEdge( source, target ) );
+            }
+            size += reachable.size();
+        }
+        assertEquals( size, closure.getSize() );
+    }
+
+}
@@ -0,0 +1,111 @@
+package org.apache.commons.graph.reachability;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.CommonsGraph.transitiveReduction;
+import static org.apache.commons.graph.reachability.TransitiveClosureTestCase.newRandomGraph;
+import static org.apache.commons.graph.reachability.TransitiveClosureTestCase.reachableFrom;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.graph.DirectedGraph;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.junit.Test;
+
+public final class TransitiveReductionTestCase
+{
+
+    @Test( expected = NullPointerException.class )
+    public void testNullGraph()
+    {
+        transitiveReduction( (DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>) null );
+    }
+
+    @Test
+    public void reduceDag()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> dag = newRandomGraph( 300, 11, false );
+
+        DirectedGraph<BaseLabeledVertex, BaseLabeledEdge> reduction = transitiveReduction( dag ).applyingBitsetRows();
+
+        verifySameReachability( dag, reduction );
+
+        // no edge of the reduction is implied by the other ones
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> copy = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+        for ( BaseLabeledVertex vertex : reduction.getVertices() )
+        {
+            copy.addVertex( vertex );
+        }
+        for ( BaseLabeledEdge edge : reduction.getEdges() )
+        {
+            copy.addEdge( reduction.getVertices( edge ).getHead(), edge, reduction.getVertices( edge ).getTail() );
+        }
+        for ( BaseLabeledEdge edge : reduction.getEdges() )
+        {
+            BaseLabeledVertex head = reduction.getVertices( edge ).getHead();
+            BaseLabeledVertex tail = reduction.getVertices( edge ).getTail();
+            copy.removeEdge( edge );
+            assertFalse( edge.toString(), reachableFrom( copy, head ).contains( tail ) );
+            copy.addEdge( head, edge, tail );
+        }
+    }
+
+    @Test
+    public void reduceGraphWithCycles()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool( 4 );
+        try
+        {
+            DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph = newRandomGraph( 1000, 23, true );
+
+            DirectedGraph<BaseLabeledVertex, BaseLabeledEdge> reduction = transitiveReduction( graph ).applyingBitsetRows( executor );
+
+            verifySameReachability( graph, reduction );
+            assertTrue( reduction.getSize() < graph.getSize() );
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    private static void verifySameReachability( DirectedGraph<BaseLabeledVertex, BaseLabeledEdge> graph,
+                                                DirectedGraph<BaseLabeledVertex, BaseLabeledEdge> reduction )
+    {
+        assertEquals( graph.getOrder(), reduction.getOrder() );
+
+        for ( BaseLabeledEdge edge : reduction.getEdges() )
+        {
+            assertTrue( graph.containsEdge( edge ) );
+        }
+
+        for ( BaseLabeledVertex source : graph.getVertices() )
+        {
+            assertEquals( reachableFrom( graph, source ), reachableFrom( reduction, source ) );
+        }
+    }
+
+}
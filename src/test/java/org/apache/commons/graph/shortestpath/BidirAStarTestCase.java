@@ -0,0 +1,185 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+import static org.apache.commons.graph.CommonsGraph.newUndirectedMutableGraph;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.builder.AbstractGraphConnection;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.DoubleWeightBaseOperations;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public final class BidirAStarTestCase
+{
+
+    private static final int SIDE = 30;
+
+    private static final int TIMES = 20;
+
+    private static final double EPSILON = 1.0e-6;
+
+    private static UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph;
+
+    private static BaseLabeledVertex[][] grid;
+
+    /**
+     * The Manhattan distance on the grid, consistent since each edge costs at least 1.
+     */
+    private static final Heuristic<BaseLabeledVertex, Double> MANHATTAN = new Heuristic<BaseLabeledVertex, Double>()
+    {
+
+        public Double applyHeuristic( BaseLabeledVertex current, BaseLabeledVertex goal )
+        {
+            String[] from = current.getLabel().split( "," );
+            String[] to = goal.getLabel().split( "," );
+            return (double) ( Math.abs( Integer.parseInt( from[0] ) - Integer.parseInt( to[0] ) )
+                            + Math.abs( Integer.parseInt( from[1] ) - Integer.parseInt( to[1] ) ) );
+        }
+
+    };
+
+    @BeforeClass
+    public static void setUp()
+    {
+        grid = new BaseLabeledVertex[SIDE][SIDE];
+
+        graph = newUndirectedMutableGraph( new AbstractGraphConnection<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>()
+        {
+
+            private final Random r = new Random( 42 );
+
+            @Override
+            public void connect()
+            {
+                for ( int i = 0; i < SIDE; i++ )
+                {
+                    for ( int j = 0; j < SIDE; j++ )
+                    {
+                        grid[i][j] = addVertex( new BaseLabeledVertex( format( "%s,%s", i, j ) ) );
+                    }
+                }
+
+                for ( int i = 0; i < SIDE; i++ )
+                {
+                    for ( int j = 0; j < SIDE; j++ )
+                    {
+                        if ( i + 1 < SIDE )
+                        {
+                            connect( grid[i][j], grid[i + 1][j] );
+                        }
+                        if ( j + 1 < SIDE )
+                        {
+                            connect( grid[i][j], grid[i][j + 1] );
+                        }
+                    }
+                }
+            }
+
+            private void connect( BaseLabeledVertex head, BaseLabeledVertex tail )
+            {
+                addEdge( new BaseLabeledWeightedEdge<Double>( format( "%s <-> %s", head, tail ), 1.0 + 2.0 * r.nextDouble() ) )
+                    .from( head ).to( tail );
+            }
+
+        } );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullMonoid()
+    {
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( grid[0][0] )
+            .to( grid[1][1] )
+            .applyingBidirectionalAStar( null );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullHeuristic()
+    {
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( grid[0][0] )
+            .to( grid[1][1] )
+            .applyingBidirectionalAStar( new DoubleWeightBaseOperations() )
+            .withHeuristic( null );
+    }
+
+    @Test( expected = PathNotFoundException.class )
+    public void testNotConnectGraph()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "0,0" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "0,1" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( a )
+            .to( b )
+            .applyingBidirectionalAStar( new DoubleWeightBaseOperations() )
+            .withHeuristic( MANHATTAN );
+    }
+
+    @Test
+    public void compareToDijkstra()
+    {
+        Random r = new Random( 7 );
+
+        for ( int i = 0; i < TIMES; i++ )
+        {
+            BaseLabeledVertex source = grid[r.nextInt( SIDE )][r.nextInt( SIDE )];
+            BaseLabeledVertex target = grid[r.nextInt( SIDE )][r.nextInt( SIDE )];
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> expected =
+                findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                    .from( source )
+                    .to( target )
+                    .applyingDijkstra( new DoubleWeightBaseOperations() );
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> actual =
+                findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                    .from( source )
+                    .to( target )
+                    .applyingBidirectionalAStar( new DoubleWeightBaseOperations() )
+                    .withHeuristic( MANHATTAN );
+
+            assertEquals( source, actual.getSource() );
+            assertEquals( target, actual.getTarget() );
+            assertEquals( expected.getWeight(), actual.getWeight(), EPSILON );
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.apache.commons.graph.weight.primitive.LongWeightBaseOperations;
+import org.junit.Test;
+
+public final class BucketQueueDijkstraTestCase
+{
+
+    private static final int SIDE = 20;
+
+    private static final int TIMES = 30;
+
+    private static <W> BaseLabeledVertex[][] buildGrid( DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<W>> graph,
+                                                        WeightGenerator<W> weights )
+    {
+        BaseLabeledVertex[][] grid = new BaseLabeledVertex[SIDE][SIDE];
+
+        for ( int i = 0; i < SIDE; i++ )
+        {
+            for ( int j = 0; j < SIDE; j++ )
+            {
+                grid[i][j] = new BaseLabeledVertex( format( "%s,%s", i, j ) );
+                graph.addVertex( grid[i][j] );
+            }
+        }
+
+        for ( int i = 0; i < SIDE; i++ )
+        {
+            for ( int j = 0; j < SIDE; j++ )
+            {
+                if ( i + 1 < SIDE )
+                {
+                    graph.addEdge( grid[i][j], new BaseLabeledWeightedEdge<W>( format( "%s -> %s", grid[i][j], grid[i + 1][j] ), weights.next() ), grid[i + 1][j] );
+                    graph.addEdge( grid[i + 1][j], new BaseLabeledWeightedEdge<W>( format( "%s -> %s", grid[i + 1][j], grid[i][j] ), weights.next() ), grid[i][j] );
+                }
+                if ( j + 1 < SIDE )
+                {
+                    graph.addEdge( grid[i][j], new BaseLabeledWeightedEdge<W>( format( "%s -> %s", grid[i][j], grid[i][j + 1] ), weights.next() ), grid[i][j + 1] );
+                    graph.addEdge( grid[i][j + 1], new BaseLabeledWeightedEdge<W>( format( "%s -> %s", grid[i][j + 1], grid[i][j] ), weights.next() ), grid[i][j] );
+                }
+            }
+        }
+
+        return grid;
+    }
+
+    private interface WeightGenerator<W>
+    {
+
+        W next();
+
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testEdgeWeightOverMaximum()
+    {
+        final Random random = new Random( 1 );
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex[][] grid = buildGrid( graph, new WeightGenerator<Integer>()
+        {
+
+            public Integer next()
+            {
+                return 10 + random.nextInt( 10 );
+            }
+
+        } );
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+            .from( grid[0][0] )
+            .to( grid[SIDE - 1][SIDE - 1] )
+            .whereEdgeWeightsDoNotExceed( 5 )
+            .applyingDijkstra( new IntegerWeightBaseOperations() );
+    }
+
+    @Test
+    public void dialComparedToFibonacciHeap()
+    {
+        final Random random = new Random( 3 );
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>>();
+        BaseLabeledVertex[][] grid = buildGrid( graph, new WeightGenerator<Integer>()
+        {
+
+            public Integer next()
+            {
+                return 1 + random.nextInt( 100 );
+            }
+
+        } );
+
+        for ( int i = 0; i < TIMES; i++ )
+        {
+            BaseLabeledVertex source = grid[random.nextInt( SIDE )][random.nextInt( SIDE )];
+            BaseLabeledVertex target = grid[random.nextInt( SIDE )][random.nextInt( SIDE )];
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> expected =
+                findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                    .from( source )
+                    .to( target )
+                    .applyingDijkstra( new IntegerWeightBaseOperations() );
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Integer>, Integer> actual =
+                findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Integer>() )
+                    .from( source )
+                    .to( target )
+                    .whereEdgeWeightsDoNotExceed( 100 )
+                    .applyingDijkstra( new IntegerWeightBaseOperations() );
+
+            assertEquals( expected.getWeight(), actual.getWeight() );
+        }
+    }
+
+    @Test
+    public void radixHeapComparedToFibonacciHeap()
+    {
+        final Random random = new Random( 5 );
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>>();
+        BaseLabeledVertex[][] grid = buildGrid( graph, new WeightGenerator<Long>()
+        {
+
+            public Long next()
+            {
+                return (long) random.nextInt( Integer.MAX_VALUE );
+            }
+
+        } );
+
+        for ( int i = 0; i < TIMES; i++ )
+        {
+            BaseLabeledVertex source = grid[random.nextInt( SIDE )][random.nextInt( SIDE )];
+            BaseLabeledVertex target = grid[random.nextInt( SIDE )][random.nextInt( SIDE )];
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>, Long> expected =
+                findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Long>() )
+                    .from( source )
+                    .to( target )
+                    .applyingDijkstra( new LongWeightBaseOperations() );
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Long>, Long> actual =
+                findShortestPath( graph )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Long>() )
+                    .from( source )
+                    .to( target )
+                    .whereEdgeWeightsDoNotExceed( (long) Integer.MAX_VALUE )
+                    .applyingDijkstra( new LongWeightBaseOperations() );
+
+            assertEquals( expected.getWeight(), actual.getWeight() );
+        }
+    }
+
+}
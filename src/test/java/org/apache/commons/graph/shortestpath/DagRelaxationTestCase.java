@@ -0,0 +1,233 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.valueOf;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.dag.CyclicGraphException;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.DoubleWeightBaseOperations;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public final class DagRelaxationTestCase
+{
+
+    private static final int ORDER = 200;
+
+    private static final double EPSILON = 1.0e-6;
+
+    private static DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> dag;
+
+    private static BaseLabeledVertex[] vertices;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        dag = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        vertices = new BaseLabeledVertex[ORDER];
+        for ( int i = 0; i < ORDER; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( valueOf( i ) );
+            dag.addVertex( vertices[i] );
+        }
+
+        // forward edges only, some of them negative
+        Random random = new Random( 31 );
+        for ( int i = 0; i < ORDER * 4; i++ )
+        {
+            int head = random.nextInt( ORDER );
+            int tail = head + 1 + random.nextInt( 15 );
+            if ( tail < ORDER && dag.getEdge( vertices[head], vertices[tail] ) == null )
+            {
+                dag.addEdge( vertices[head],
+                             new BaseLabeledWeightedEdge<Double>( head + " -> " + tail, random.nextDouble() * 10 - 2 ),
+                             vertices[tail] );
+            }
+        }
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullMonoid()
+    {
+        findShortestPath( dag )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( vertices[0] )
+            .to( vertices[1] )
+            .applyingDagRelaxation( null );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testUndirectedGraph()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        graph.addVertex( a );
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( a )
+            .to( a )
+            .applyingDagRelaxation( new DoubleWeightBaseOperations() );
+    }
+
+    @Test( expected = CyclicGraphException.class )
+    public void testCyclicGraph()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+        graph.addEdge( a, new BaseLabeledWeightedEdge<Double>( "a -> b", 1D ), b );
+        graph.addEdge( b, new BaseLabeledWeightedEdge<Double>( "b -> a", 1D ), a );
+
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( a )
+            .to( b )
+            .applyingDagRelaxation( new DoubleWeightBaseOperations() );
+    }
+
+    @Test( expected = PathNotFoundException.class )
+    public void testNotReachableTarget()
+    {
+        findShortestPath( dag )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( vertices[10] )
+            .to( vertices[5] )
+            .applyingDagRelaxation( new DoubleWeightBaseOperations() );
+    }
+
+    @Test
+    public void settledVerticesBudget()
+    {
+        try
+        {
+            findShortestPath( dag )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( vertices[0] )
+                .to( vertices[ORDER - 1] )
+                .settlingAtMost( 5 )
+                .applyingDagRelaxation( new DoubleWeightBaseOperations() );
+            fail( "Settled vertices budget not enforced" );
+        }
+        catch ( SearchBudgetExceededException e )
+        {
+            PartialShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> partial = e.getPartialResult();
+            assertEquals( SearchBudget.SETTLED_VERTICES, partial.getExceededBudget() );
+            assertEquals( 5, partial.getExploredVertices() );
+            assertEquals( vertices[0], partial.getBestFrontier().getSource() );
+        }
+    }
+
+    @Test
+    public void distanceBudget()
+    {
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> path =
+            findShortestPath( dag )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( vertices[0] )
+                .to( vertices[ORDER - 1] )
+                .applyingDagRelaxation( new DoubleWeightBaseOperations() );
+
+        assertEquals( path,
+                      findShortestPath( dag )
+                          .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                          .from( vertices[0] )
+                          .to( vertices[ORDER - 1] )
+                          .withinDistance( path.getWeight() )
+                          .applyingDagRelaxation( new DoubleWeightBaseOperations() ) );
+
+        try
+        {
+            findShortestPath( dag )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( vertices[0] )
+                .to( vertices[ORDER - 1] )
+                .withinDistance( path.getWeight() - 1 )
+                .applyingDagRelaxation( new DoubleWeightBaseOperations() );
+            fail( "Distance budget not enforced" );
+        }
+        catch ( SearchBudgetExceededException e )
+        {
+            PartialShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> partial = e.getPartialResult();
+            assertEquals( SearchBudget.DISTANCE, partial.getExceededBudget() );
+            assertEquals( path, partial.getBestFrontier() );
+        }
+    }
+
+    @Test
+    public void compareToBellmannFord()
+    {
+        Random random = new Random( 5 );
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            BaseLabeledVertex source = vertices[random.nextInt( ORDER / 2 )];
+
+            AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> expected =
+                findShortestPath( dag )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                    .from( source )
+                    .applyingBelmannFord( new DoubleWeightBaseOperations() );
+
+            AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> actual =
+                findShortestPath( dag )
+                    .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                    .from( source )
+                    .applyingDagRelaxation( new DoubleWeightBaseOperations() );
+
+            for ( BaseLabeledVertex target : vertices )
+            {
+                assertEquals( expected.hasShortestDistance( source, target ), actual.hasShortestDistance( source, target ) );
+
+                if ( !source.equals( target ) && expected.hasShortestDistance( source, target ) )
+                {
+                    assertEquals( expected.getShortestDistance( source, target ), actual.getShortestDistance( source, target ), EPSILON );
+
+                    WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> path =
+                        findShortestPath( dag )
+                            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                            .from( source )
+                            .to( target )
+                            .applyingDagRelaxation( new DoubleWeightBaseOperations() );
+
+                    assertEquals( expected.getShortestDistance( source, target ), path.getWeight(), EPSILON );
+                    assertEquals( actual.findShortestPath( source, target ), path );
+                }
+            }
+        }
+    }
+
+}
@@ -21,6 +21,8 @@ package org.apache.commons.graph.shortestpath;
 
 import static junit.framework.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static org.apache.commons.graph.CommonsGraph.findShortestPath;
 
@@ -181,4 +183,40 @@ public class FloydWarshallTestCase
         }
     }
 
+    @Test
+    public void cachedShortestPath()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex one = new BaseLabeledVertex( "1" );
+        BaseLabeledVertex two = new BaseLabeledVertex( "2" );
+        BaseLabeledVertex three = new BaseLabeledVertex( "3" );
+
+        graph.addVertex( one );
+        graph.addVertex( two );
+        graph.addVertex( three );
+
+        graph.addEdge( one, new BaseLabeledWeightedEdge<Double>( "1 -> 2", 1D ), two );
+        graph.addEdge( two, new BaseLabeledWeightedEdge<Double>( "2 -> 3", 1D ), three );
+        graph.addEdge( one, new BaseLabeledWeightedEdge<Double>( "1 -> 3", 5D ), three );
+
+        AllVertexPairsShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> p =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .applyingFloydWarshall( new DoubleWeightBaseOperations() )
+                .cachingPaths( 1 );
+
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> wp = p.findShortestPath( one, three );
+        assertEquals( 2D, wp.getWeight() );
+        assertEquals( 2, wp.getSize() );
+        assertSame( wp, p.findShortestPath( one, three ) );
+
+        // the least recently requested path is evicted and rebuilt
+        p.findShortestPath( one, two );
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> rebuilt = p.findShortestPath( one, three );
+        assertNotSame( wp, rebuilt );
+        assertEquals( wp, rebuilt );
+    }
+
 }
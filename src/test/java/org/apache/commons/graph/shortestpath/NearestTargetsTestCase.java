@@ -0,0 +1,164 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.valueOf;
+import static java.util.Arrays.asList;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.DoubleWeightBaseOperations;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class NearestTargetsTestCase
+{
+
+    private static final int LENGTH = 10;
+
+    private DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph;
+
+    private BaseLabeledVertex[] chain;
+
+    @Before
+    public void setUp()
+    {
+        graph = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+        chain = new BaseLabeledVertex[LENGTH];
+
+        for ( int i = 0; i < LENGTH; i++ )
+        {
+            chain[i] = new BaseLabeledVertex( valueOf( i ) );
+            graph.addVertex( chain[i] );
+
+            if ( i > 0 )
+            {
+                graph.addEdge( chain[i - 1], new BaseLabeledWeightedEdge<Double>( ( i - 1 ) + " -> " + i, 1D ), chain[i] );
+            }
+        }
+
+        // a shortcut making 9 nearer than 7
+        graph.addEdge( chain[0], new BaseLabeledWeightedEdge<Double>( "0 -> 9", 5D ), chain[9] );
+    }
+
+    private Set<BaseLabeledVertex> targets( int...indexes )
+    {
+        Set<BaseLabeledVertex> targets = new HashSet<BaseLabeledVertex>();
+        for ( int index : indexes )
+        {
+            targets.add( chain[index] );
+        }
+        return targets;
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullTargets()
+    {
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( chain[0] )
+            .toAnyOf( null );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testEmptyTargets()
+    {
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( chain[0] )
+            .toAnyOf( Collections.<BaseLabeledVertex>emptySet() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testNonPositiveK()
+    {
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( chain[0] )
+            .toKNearest( targets( 3 ), 0 );
+    }
+
+    @Test( expected = PathNotFoundException.class )
+    public void testUnreachableTargets()
+    {
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( chain[5] )
+            .toAnyOf( targets( 1, 2 ) )
+            .applyingDijkstra( new DoubleWeightBaseOperations() );
+    }
+
+    @Test
+    public void findNearestTarget()
+    {
+        Map<BaseLabeledVertex, WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>> nearest =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( chain[0] )
+                .toAnyOf( targets( 7, 9 ) )
+                .applyingDijkstra( new DoubleWeightBaseOperations() );
+
+        assertEquals( 1, nearest.size() );
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> path = nearest.get( chain[9] );
+        assertEquals( Double.valueOf( 5D ), path.getWeight() );
+        assertEquals( 1, path.getSize() );
+    }
+
+    @Test
+    public void findKNearestTargets()
+    {
+        Map<BaseLabeledVertex, WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>> nearest =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( chain[0] )
+                .toKNearest( targets( 3, 7, 8, 9 ), 3 )
+                .applyingDijkstra( new DoubleWeightBaseOperations() );
+
+        // closest first
+        assertEquals( asList( chain[3], chain[9], chain[7] ), new ArrayList<BaseLabeledVertex>( nearest.keySet() ) );
+        assertEquals( Double.valueOf( 3D ), nearest.get( chain[3] ).getWeight() );
+        assertEquals( Double.valueOf( 7D ), nearest.get( chain[7] ).getWeight() );
+    }
+
+    @Test
+    public void findLessTargetsThanRequested()
+    {
+        Map<BaseLabeledVertex, WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double>> nearest =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( chain[5] )
+                .toKNearest( targets( 1, 6, 8 ), 3 )
+                .applyingDijkstra( new DoubleWeightBaseOperations() );
+
+        assertEquals( asList( chain[6], chain[8] ), new ArrayList<BaseLabeledVertex>( nearest.keySet() ) );
+    }
+
+}
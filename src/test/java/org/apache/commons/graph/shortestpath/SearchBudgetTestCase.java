@@ -0,0 +1,184 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.valueOf;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.DoubleWeightBaseOperations;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class SearchBudgetTestCase
+{
+
+    private static final int LENGTH = 1000;
+
+    private UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph;
+
+    private BaseLabeledVertex[] chain;
+
+    private BaseLabeledVertex unreachable;
+
+    @Before
+    public void setUp()
+    {
+        graph = new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+        chain = new BaseLabeledVertex[LENGTH];
+
+        for ( int i = 0; i < LENGTH; i++ )
+        {
+            chain[i] = new BaseLabeledVertex( valueOf( i ) );
+            graph.addVertex( chain[i] );
+
+            if ( i > 0 )
+            {
+                graph.addEdge( chain[i - 1], new BaseLabeledWeightedEdge<Double>( ( i - 1 ) + " <-> " + i, 1D ), chain[i] );
+            }
+        }
+
+        unreachable = new BaseLabeledVertex( "unreachable" );
+        graph.addVertex( unreachable );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testNonPositiveSettledVertices()
+    {
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( chain[0] )
+            .to( unreachable )
+            .settlingAtMost( 0 );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullDistance()
+    {
+        findShortestPath( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .from( chain[0] )
+            .to( unreachable )
+            .withinDistance( null );
+    }
+
+    @Test
+    public void withinBudgets()
+    {
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> path =
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( chain[0] )
+                .to( chain[10] )
+                .settlingAtMost( 11 )
+                .withinDistance( 10D )
+                .withinTime( 1, TimeUnit.MINUTES )
+                .applyingDijkstra( new DoubleWeightBaseOperations() );
+
+        assertEquals( Double.valueOf( 10D ), path.getWeight() );
+    }
+
+    @Test
+    public void dijkstraSettledVertices()
+    {
+        try
+        {
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( chain[0] )
+                .to( unreachable )
+                .settlingAtMost( 100 )
+                .applyingDijkstra( new DoubleWeightBaseOperations() );
+            fail( "Settled vertices budget not enforced" );
+        }
+        catch ( SearchBudgetExceededException e )
+        {
+            PartialShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> partial = e.getPartialResult();
+            assertEquals( SearchBudget.SETTLED_VERTICES, partial.getExceededBudget() );
+            assertEquals( 100, partial.getExploredVertices() );
+            assertEquals( chain[0], partial.getBestFrontier().getSource() );
+            assertEquals( chain[100], partial.getBestFrontier().getTarget() );
+            assertEquals( Double.valueOf( 100D ), partial.getBestFrontier().getWeight() );
+        }
+    }
+
+    @Test
+    public void aStarDistance()
+    {
+        try
+        {
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( chain[0] )
+                .to( chain[LENGTH - 1] )
+                .withinDistance( 50D )
+                .applyingAStar( new DoubleWeightBaseOperations() )
+                .withHeuristic( new Heuristic<BaseLabeledVertex, Double>()
+                {
+
+                    public Double applyHeuristic( BaseLabeledVertex current, BaseLabeledVertex goal )
+                    {
+                        return 0D;
+                    }
+
+                } );
+            fail( "Distance budget not enforced" );
+        }
+        catch ( SearchBudgetExceededException e )
+        {
+            PartialShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> partial = e.getPartialResult();
+            assertEquals( SearchBudget.DISTANCE, partial.getExceededBudget() );
+            assertEquals( 51, partial.getExploredVertices() );
+            assertEquals( chain[51], partial.getBestFrontier().getTarget() );
+        }
+    }
+
+    @Test
+    public void bidirectionalDijkstraDeadline()
+    {
+        try
+        {
+            findShortestPath( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .from( chain[0] )
+                .to( chain[LENGTH - 1] )
+                .withinTime( 0, TimeUnit.NANOSECONDS )
+                .applyingBidirectionalDijkstra( new DoubleWeightBaseOperations() );
+            fail( "Deadline not enforced" );
+        }
+        catch ( SearchBudgetExceededException e )
+        {
+            PartialShortestPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> partial = e.getPartialResult();
+            assertEquals( SearchBudget.DEADLINE, partial.getExceededBudget() );
+            assertTrue( partial.getExploredVertices() < LENGTH );
+            assertEquals( chain[0], partial.getBestFrontier().getSource() );
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.apache.commons.graph.CommonsGraph.findNegativeCycle;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.BaseLabeledWeightedEdge;
+import org.apache.commons.graph.model.BaseWeightedEdge;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.DoubleWeightBaseOperations;
+import org.junit.Test;
+
+public final class SubtreeDisassemblyTestCase
+{
+
+    @Test( expected = NullPointerException.class )
+    public void testNullGraph()
+    {
+        findNegativeCycle( (DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>) null )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .applyingSubtreeDisassembly( new DoubleWeightBaseOperations() );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullMonoid()
+    {
+        findNegativeCycle( new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>() )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .applyingSubtreeDisassembly( null );
+    }
+
+    @Test( expected = PathNotFoundException.class )
+    public void testNoNegativeCycle()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex one = new BaseLabeledVertex( "1" );
+        BaseLabeledVertex two = new BaseLabeledVertex( "2" );
+        BaseLabeledVertex three = new BaseLabeledVertex( "3" );
+
+        graph.addVertex( one );
+        graph.addVertex( two );
+        graph.addVertex( three );
+
+        graph.addEdge( one, new BaseLabeledWeightedEdge<Double>( "1 -> 2", 6D ), two );
+        graph.addEdge( two, new BaseLabeledWeightedEdge<Double>( "2 -> 3", -4D ), three );
+        graph.addEdge( three, new BaseLabeledWeightedEdge<Double>( "3 -> 1", -1D ), one );
+
+        findNegativeCycle( graph )
+            .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+            .applyingSubtreeDisassembly( new DoubleWeightBaseOperations() );
+    }
+
+    @Test
+    public void findNegativeCycleAndVerify()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex one = new BaseLabeledVertex( "1" );
+        BaseLabeledVertex two = new BaseLabeledVertex( "2" );
+        BaseLabeledVertex three = new BaseLabeledVertex( "3" );
+        BaseLabeledVertex four = new BaseLabeledVertex( "4" );
+        BaseLabeledVertex five = new BaseLabeledVertex( "5" );
+
+        graph.addVertex( one );
+        graph.addVertex( two );
+        graph.addVertex( three );
+        graph.addVertex( four );
+        graph.addVertex( five );
+
+        graph.addEdge( one, new BaseLabeledWeightedEdge<Double>( "1 -> 2", 6D ), two );
+        graph.addEdge( one, new BaseLabeledWeightedEdge<Double>( "1 -> 4", 7D ), four );
+        graph.addEdge( two, new BaseLabeledWeightedEdge<Double>( "2 -> 5", -4D ), five );
+        graph.addEdge( four, new BaseLabeledWeightedEdge<Double>( "4 -> 3", 3D ), three );
+        graph.addEdge( three, new BaseLabeledWeightedEdge<Double>( "3 -> 4", -5D ), four );
+        graph.addEdge( five, new BaseLabeledWeightedEdge<Double>( "5 -> 1", 2D ), one );
+
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> cycle =
+            findNegativeCycle( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .applyingSubtreeDisassembly( new DoubleWeightBaseOperations() );
+
+        assertEquals( cycle.getSource(), cycle.getTarget() );
+        assertEquals( 2, cycle.getSize() );
+        assertEquals( Double.valueOf( -2D ), cycle.getWeight() );
+        assertTrue( cycle.containsVertex( three ) );
+        assertTrue( cycle.containsVertex( four ) );
+    }
+
+    @Test
+    public void findNegativeSelfLoop()
+    {
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>> graph =
+            new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>>();
+
+        BaseLabeledVertex one = new BaseLabeledVertex( "1" );
+        BaseLabeledVertex two = new BaseLabeledVertex( "2" );
+
+        graph.addVertex( one );
+        graph.addVertex( two );
+
+        graph.addEdge( one, new BaseLabeledWeightedEdge<Double>( "1 -> 2", 1D ), two );
+        graph.addEdge( two, new BaseLabeledWeightedEdge<Double>( "2 -> 2", -1D ), two );
+
+        WeightedPath<BaseLabeledVertex, BaseLabeledWeightedEdge<Double>, Double> cycle =
+            findNegativeCycle( graph )
+                .whereEdgesHaveWeights( new BaseWeightedEdge<Double>() )
+                .applyingSubtreeDisassembly( new DoubleWeightBaseOperations() );
+
+        assertEquals( two, cycle.getSource() );
+        assertEquals( 1, cycle.getSize() );
+        assertEquals( Double.valueOf( -1D ), cycle.getWeight() );
+    }
+
+}
@@ -0,0 +1,150 @@
+package org.apache.commons.graph.shortestpath;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.valueOf;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.MutableGraph;
+import org.apache.commons.graph.WeightedPath;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.apache.commons.graph.weight.primitive.IntegerWeightBaseOperations;
+import org.junit.Test;
+
+public final class UnweightedShortestPathTestCase
+{
+
+    private static final int ORDER = 200;
+
+    private static final Mapper<BaseLabeledEdge, Integer> UNIT = new Mapper<BaseLabeledEdge, Integer>()
+    {
+
+        private static final long serialVersionUID = -2418962434167281938L;
+
+        public Integer map( BaseLabeledEdge input )
+        {
+            return 1;
+        }
+
+    };
+
+    @Test( expected = NullPointerException.class )
+    public void testNullSource()
+    {
+        findShortestPath( new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>() )
+            .unweighted()
+            .from( null );
+    }
+
+    @Test( expected = PathNotFoundException.class )
+    public void testNotConnectGraph()
+    {
+        UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph =
+            new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        BaseLabeledVertex a = new BaseLabeledVertex( "a" );
+        BaseLabeledVertex b = new BaseLabeledVertex( "b" );
+        graph.addVertex( a );
+        graph.addVertex( b );
+
+        findShortestPath( graph ).unweighted().from( a ).to( b );
+    }
+
+    @Test
+    public void sparseUndirectedComparedToDijkstra()
+    {
+        compareToDijkstra( new UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>(), 2 );
+    }
+
+    @Test
+    public void denseDirectedComparedToDijkstra()
+    {
+        // dense enough to switch to bottom-up
+        compareToDijkstra( new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>(), 20 );
+    }
+
+    private <G extends Graph<BaseLabeledVertex, BaseLabeledEdge> & MutableGraph<BaseLabeledVertex, BaseLabeledEdge>> void compareToDijkstra( G graph, int averageDegree )
+    {
+        Random random = new Random( averageDegree );
+
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[ORDER];
+        for ( int i = 0; i < ORDER; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        for ( int i = 0; i < ORDER * averageDegree; i++ )
+        {
+            BaseLabeledVertex head = vertices[random.nextInt( ORDER )];
+            BaseLabeledVertex tail = vertices[random.nextInt( ORDER )];
+            if ( !head.equals( tail ) && graph.getEdge( head, tail ) == null && graph.getEdge( tail, head ) == null )
+            {
+                graph.addEdge( head, new BaseLabeledEdge( head + " -> " + tail ), tail );
+            }
+        }
+
+        BaseLabeledVertex source = vertices[0];
+        Map<BaseLabeledVertex, Integer> hops = findShortestPath( graph ).unweighted().from( source ).toAllVertices();
+
+        assertEquals( Integer.valueOf( 0 ), hops.get( source ) );
+
+        for ( BaseLabeledVertex target : vertices )
+        {
+            if ( target.equals( source ) )
+            {
+                continue;
+            }
+
+            Integer expected = null;
+            try
+            {
+                expected = findShortestPath( graph )
+                    .whereEdgesHaveWeights( UNIT )
+                    .from( source )
+                    .to( target )
+                    .applyingDijkstra( new IntegerWeightBaseOperations() )
+                    .getWeight();
+            }
+            catch ( PathNotFoundException e )
+            {
+                assertFalse( hops.containsKey( target ) );
+                continue;
+            }
+
+            assertEquals( expected, hops.get( target ) );
+
+            WeightedPath<BaseLabeledVertex, BaseLabeledEdge, Integer> path = findShortestPath( graph ).unweighted().from( source ).to( target );
+            assertEquals( expected, path.getWeight() );
+            assertEquals( expected.intValue(), path.getSize() );
+        }
+    }
+
+}
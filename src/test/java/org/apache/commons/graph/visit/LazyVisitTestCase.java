@@ -0,0 +1,243 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.CommonsGraph.newUndirectedMutableGraph;
+import static org.apache.commons.graph.CommonsGraph.visit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+import org.apache.commons.graph.builder.AbstractGraphConnection;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public final class LazyVisitTestCase
+{
+
+    private static final int SIDE = 20;
+
+    private static UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph;
+
+    private static BaseLabeledVertex[][] grid;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        grid = new BaseLabeledVertex[SIDE][SIDE];
+
+        graph = newUndirectedMutableGraph( new AbstractGraphConnection<BaseLabeledVertex, BaseLabeledEdge>()
+        {
+
+            @Override
+            public void connect()
+            {
+                for ( int i = 0; i < SIDE; i++ )
+                {
+                    for ( int j = 0; j < SIDE; j++ )
+                    {
+                        grid[i][j] = addVertex( new BaseLabeledVertex( format( "%s,%s", i, j ) ) );
+                    }
+                }
+
+                for ( int i = 0; i < SIDE; i++ )
+                {
+                    for ( int j = 0; j < SIDE; j++ )
+                    {
+                        if ( i + 1 < SIDE )
+                        {
+                            addEdge( new BaseLabeledEdge( format( "%s <-> %s", grid[i][j], grid[i + 1][j] ) ) )
+                                .from( grid[i][j] ).to( grid[i + 1][j] );
+                        }
+                        if ( j + 1 < SIDE )
+                        {
+                            addEdge( new BaseLabeledEdge( format( "%s <-> %s", grid[i][j], grid[i][j + 1] ) ) )
+                                .from( grid[i][j] ).to( grid[i][j + 1] );
+                        }
+                    }
+                }
+            }
+
+        } );
+    }
+
+    @Test
+    public void breadthFirstStepsFollowBreadthFirstSearch()
+    {
+        List<BaseLabeledVertex> expected =
+            visit( graph ).from( grid[3][7] ).applyingBreadthFirstSearch( new NodeSequenceVisitor() );
+
+        List<BaseLabeledVertex> actual = new ArrayList<BaseLabeledVertex>();
+        for ( VisitStep<BaseLabeledVertex, BaseLabeledEdge> step : visit( graph ).from( grid[3][7] ).breadthFirst() )
+        {
+            if ( step.getPredecessor() == null )
+            {
+                assertNull( step.getEdge() );
+            }
+            else
+            {
+                assertEquals( step.getEdge(), graph.getEdge( step.getPredecessor(), step.getVertex() ) );
+            }
+            actual.add( step.getVertex() );
+        }
+
+        assertEquals( expected, actual );
+    }
+
+    @Test
+    public void depthFirstStepsFollowDepthFirstSearch()
+    {
+        List<BaseLabeledVertex> expected =
+            visit( graph ).from( grid[3][7] ).applyingDepthFirstSearch( new NodeSequenceVisitor() );
+
+        List<BaseLabeledVertex> actual = new ArrayList<BaseLabeledVertex>();
+        for ( VisitStep<BaseLabeledVertex, BaseLabeledEdge> step : visit( graph ).from( grid[3][7] ).depthFirst() )
+        {
+            actual.add( step.getVertex() );
+        }
+
+        assertEquals( expected, actual );
+    }
+
+    @Test
+    public void onlyConsumedStepsAreExplored()
+    {
+        CountingVisitedVertices visited = new CountingVisitedVertices();
+
+        Iterator<VisitStep<BaseLabeledVertex, BaseLabeledEdge>> steps =
+            visit( graph ).from( grid[0][0] ).trackingVisitedVerticesWith( visited ).breadthFirst().iterator();
+
+        assertEquals( grid[0][0], steps.next().getVertex() );
+        // the source neighbors are not explored until the next step is requested
+        assertEquals( 0, visited.lookups );
+
+        for ( int i = 0; i < 9; i++ )
+        {
+            steps.next();
+        }
+        assertEquals( 10, visited.vertices.size() );
+
+        assertTrue( steps.hasNext() );
+        assertEquals( 11, visited.vertices.size() );
+    }
+
+    @Test
+    public void findFirstStopsTheVisit()
+    {
+        final BaseLabeledVertex target = grid[2][3];
+
+        CountingVisitedVertices iterated = new CountingVisitedVertices();
+        for ( VisitStep<BaseLabeledVertex, BaseLabeledEdge> step :
+                visit( graph ).from( grid[0][0] ).trackingVisitedVerticesWith( iterated ).breadthFirst() )
+        {
+            if ( target.equals( step.getVertex() ) )
+            {
+                break;
+            }
+        }
+
+        CountingVisitedVertices streamed = new CountingVisitedVertices();
+        VisitStep<BaseLabeledVertex, BaseLabeledEdge> found =
+            visit( graph ).from( grid[0][0] ).trackingVisitedVerticesWith( streamed ).breadthFirst().stream()
+                .filter( new Predicate<VisitStep<BaseLabeledVertex, BaseLabeledEdge>>()
+                {
+
+                    public boolean test( VisitStep<BaseLabeledVertex, BaseLabeledEdge> step )
+                    {
+                        return target.equals( step.getVertex() );
+                    }
+
+                } )
+                .findFirst()
+                .get();
+
+        assertEquals( target, found.getVertex() );
+        assertEquals( 5, found.getDepth() );
+        // the stream explores no more than the loop breaking at the same step
+        assertEquals( iterated.vertices, streamed.vertices );
+        assertEquals( iterated.lookups, streamed.lookups );
+        assertTrue( streamed.vertices.size() < SIDE * SIDE );
+    }
+
+    @Test
+    public void spliteratorCharacteristics()
+    {
+        Spliterator<VisitStep<BaseLabeledVertex, BaseLabeledEdge>> steps =
+            visit( graph ).from( grid[0][0] ).depthFirst().spliterator();
+
+        assertTrue( steps.hasCharacteristics( Spliterator.ORDERED ) );
+        assertTrue( steps.hasCharacteristics( Spliterator.NONNULL ) );
+        assertFalse( steps.hasCharacteristics( Spliterator.SIZED ) );
+        assertEquals( Long.MAX_VALUE, steps.estimateSize() );
+        assertEquals( SIDE * SIDE, visit( graph ).from( grid[0][0] ).depthFirst().stream().count() );
+    }
+
+    @Test
+    public void stepsEndWithTheVisit()
+    {
+        Iterator<VisitStep<BaseLabeledVertex, BaseLabeledEdge>> steps =
+            visit( graph ).from( grid[0][0] ).depthFirst().iterator();
+
+        int count = 0;
+        while ( steps.hasNext() )
+        {
+            steps.next();
+            count++;
+        }
+
+        assertEquals( SIDE * SIDE, count );
+        assertFalse( steps.hasNext() );
+    }
+
+    private static final class CountingVisitedVertices
+        implements VisitedVertices<BaseLabeledVertex>
+    {
+
+        private final Set<BaseLabeledVertex> vertices = new HashSet<BaseLabeledVertex>();
+
+        private int lookups;
+
+        public boolean add( BaseLabeledVertex vertex )
+        {
+            return vertices.add( vertex );
+        }
+
+        public boolean contains( BaseLabeledVertex vertex )
+        {
+            lookups++;
+            return vertices.contains( vertex );
+        }
+
+    }
+
+}
@@ -0,0 +1,252 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.CommonsGraph.newUndirectedMutableGraph;
+import static org.apache.commons.graph.CommonsGraph.visit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.graph.builder.AbstractGraphConnection;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public final class MultiSourceVisitTestCase
+{
+
+    private static final int SIDE = 20;
+
+    private static final int MAX_DEPTH = 4;
+
+    private static UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph;
+
+    private static BaseLabeledVertex[][] grid;
+
+    private static List<BaseLabeledVertex> sources;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        grid = new BaseLabeledVertex[SIDE][SIDE];
+
+        graph = newUndirectedMutableGraph( new AbstractGraphConnection<BaseLabeledVertex, BaseLabeledEdge>()
+        {
+
+            @Override
+            public void connect()
+            {
+                for ( int i = 0; i < SIDE; i++ )
+                {
+                    for ( int j = 0; j < SIDE; j++ )
+                    {
+                        grid[i][j] = addVertex( new BaseLabeledVertex( format( "%s,%s", i, j ) ) );
+                    }
+                }
+
+                for ( int i = 0; i < SIDE; i++ )
+                {
+                    for ( int j = 0; j < SIDE; j++ )
+                    {
+                        if ( i + 1 < SIDE )
+                        {
+                            addEdge( new BaseLabeledEdge( format( "%s <-> %s", grid[i][j], grid[i + 1][j] ) ) )
+                                .from( grid[i][j] ).to( grid[i + 1][j] );
+                        }
+                        if ( j + 1 < SIDE )
+                        {
+                            addEdge( new BaseLabeledEdge( format( "%s <-> %s", grid[i][j], grid[i][j + 1] ) ) )
+                                .from( grid[i][j] ).to( grid[i][j + 1] );
+                        }
+                    }
+                }
+            }
+
+        } );
+
+        // overlapping neighborhoods, the last source is a duplicate
+        sources = Arrays.asList( grid[5][5], grid[7][8], grid[15][2], grid[5][5] );
+    }
+
+    /**
+     * The hop distance of the input vertex from the nearest source, if within the max depth.
+     */
+    private static Map<BaseLabeledVertex, Integer> expectedDepths()
+    {
+        Map<BaseLabeledVertex, Integer> expected = new HashMap<BaseLabeledVertex, Integer>();
+        for ( int i = 0; i < SIDE; i++ )
+        {
+            for ( int j = 0; j < SIDE; j++ )
+            {
+                int depth = Integer.MAX_VALUE;
+                for ( BaseLabeledVertex source : sources )
+                {
+                    String[] coordinates = source.getLabel().split( "," );
+                    depth = Math.min( depth, Math.abs( i - Integer.parseInt( coordinates[0] ) )
+                                           + Math.abs( j - Integer.parseInt( coordinates[1] ) ) );
+                }
+                if ( depth <= MAX_DEPTH )
+                {
+                    expected.put( grid[i][j], depth );
+                }
+            }
+        }
+        return expected;
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testEmptySources()
+    {
+        visit( graph ).from( Arrays.<BaseLabeledVertex>asList() );
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public void testNotExistSource()
+    {
+        visit( graph ).from( Arrays.asList( grid[0][0], new BaseLabeledVertex( "NOT EXIST" ) ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testNegativeMaxDepth()
+    {
+        visit( graph ).from( grid[0][0] ).withMaxDepth( -1 );
+    }
+
+    @Test
+    public void breadthFirstSearchWithinMaxDepth()
+    {
+        Map<BaseLabeledVertex, Integer> actual =
+            visit( graph ).from( sources ).withMaxDepth( MAX_DEPTH ).applyingBreadthFirstSearch( new DepthCollector() );
+
+        assertEquals( expectedDepths(), actual );
+    }
+
+    @Test
+    public void lazyBreadthFirstWithinMaxDepth()
+    {
+        Map<BaseLabeledVertex, Integer> actual = new HashMap<BaseLabeledVertex, Integer>();
+        for ( VisitStep<BaseLabeledVertex, BaseLabeledEdge> step : visit( graph ).from( sources ).withMaxDepth( MAX_DEPTH ).breadthFirst() )
+        {
+            assertFalse( actual.containsKey( step.getVertex() ) );
+            actual.put( step.getVertex(), step.getDepth() );
+        }
+
+        assertEquals( expectedDepths(), actual );
+    }
+
+    @Test
+    public void parallelBreadthFirstSearchWithinMaxDepth()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool( 4 );
+        try
+        {
+            Map<BaseLabeledVertex, Integer> actual =
+                visit( graph ).from( sources ).withMaxDepth( MAX_DEPTH )
+                    .applyingParallelBreadthFirstSearch( new ConcurrentDepthCollector(), executor );
+
+            assertEquals( expectedDepths(), actual );
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void depthFirstSearchVisitsEachVertexOnce()
+    {
+        Map<BaseLabeledVertex, Integer> actual =
+            visit( graph ).from( sources ).withMaxDepth( MAX_DEPTH ).applyingDepthFirstSearch( new DepthCollector() );
+
+        // depths are measured along the depth-first tree, so they are never shorter than hop distances
+        Map<BaseLabeledVertex, Integer> hopDistances = expectedDepths();
+        for ( Map.Entry<BaseLabeledVertex, Integer> visited : actual.entrySet() )
+        {
+            assertFalse( visited.getValue() > MAX_DEPTH );
+            assertFalse( hopDistances.containsKey( visited.getKey() )
+                         && visited.getValue() < hopDistances.get( visited.getKey() ) );
+        }
+        assertEquals( Integer.valueOf( 0 ), actual.get( grid[15][2] ) );
+    }
+
+    @Test
+    public void zeroMaxDepthVisitsSourcesOnly()
+    {
+        Map<BaseLabeledVertex, Integer> actual =
+            visit( graph ).from( sources ).withMaxDepth( 0 ).applyingBreadthFirstSearch( new DepthCollector() );
+
+        assertEquals( 3, actual.size() );
+    }
+
+    private static final class DepthCollector
+        extends BaseDepthAwareGraphVisitHandler<BaseLabeledVertex, BaseLabeledEdge, UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>, Map<BaseLabeledVertex, Integer>>
+    {
+
+        private final Map<BaseLabeledVertex, Integer> depths = new HashMap<BaseLabeledVertex, Integer>();
+
+        @Override
+        public VisitState discoverVertex( BaseLabeledVertex vertex, int depth )
+        {
+            assertFalse( depths.containsKey( vertex ) );
+            depths.put( vertex, depth );
+            return VisitState.CONTINUE;
+        }
+
+        @Override
+        public Map<BaseLabeledVertex, Integer> onCompleted()
+        {
+            return depths;
+        }
+
+    }
+
+    private static final class ConcurrentDepthCollector
+        extends BaseConcurrentGraphVisitHandler<BaseLabeledVertex, BaseLabeledEdge, UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>, Map<BaseLabeledVertex, Integer>>
+        implements DepthAwareGraphVisitHandler<BaseLabeledVertex, BaseLabeledEdge, UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>, Map<BaseLabeledVertex, Integer>>
+    {
+
+        private final Map<BaseLabeledVertex, Integer> depths = new ConcurrentHashMap<BaseLabeledVertex, Integer>();
+
+        public VisitState discoverVertex( BaseLabeledVertex vertex, int depth )
+        {
+            depths.put( vertex, depth );
+            return VisitState.CONTINUE;
+        }
+
+        @Override
+        public Map<BaseLabeledVertex, Integer> onCompleted()
+        {
+            return depths;
+        }
+
+    }
+
+}
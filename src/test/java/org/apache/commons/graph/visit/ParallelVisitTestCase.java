@@ -0,0 +1,281 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.valueOf;
+import static org.apache.commons.graph.CommonsGraph.findShortestPath;
+import static org.apache.commons.graph.CommonsGraph.visit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.DirectedMutableGraph;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class ParallelVisitTestCase
+{
+
+    private static final int ORDER = 5000;
+
+    private ExecutorService executor;
+
+    private DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph;
+
+    private BaseLabeledVertex source;
+
+    @Before
+    public void setUp()
+    {
+        executor = Executors.newFixedThreadPool( 4 );
+
+        graph = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+
+        Random random = new Random( 13 );
+        BaseLabeledVertex[] vertices = new BaseLabeledVertex[ORDER];
+        for ( int i = 0; i < ORDER; i++ )
+        {
+            vertices[i] = new BaseLabeledVertex( valueOf( i ) );
+            graph.addVertex( vertices[i] );
+        }
+
+        for ( int i = 0; i < ORDER * 4; i++ )
+        {
+            BaseLabeledVertex head = vertices[random.nextInt( ORDER )];
+            BaseLabeledVertex tail = vertices[random.nextInt( ORDER )];
+            if ( !head.equals( tail ) && graph.getEdge( head, tail ) == null )
+            {
+                graph.addEdge( head, new BaseLabeledEdge( head + " -> " + tail ), tail );
+            }
+        }
+
+        source = vertices[0];
+    }
+
+    @After
+    public void tearDown()
+    {
+        executor.shutdown();
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullExecutor()
+    {
+        visit( graph ).from( source ).applyingParallelBreadthFirstSearch( null );
+    }
+
+    @Test
+    public void verifyBreadthFirstTree()
+    {
+        Map<BaseLabeledVertex, Integer> hops = findShortestPath( graph ).unweighted().from( source ).toAllVertices();
+
+        Graph<BaseLabeledVertex, BaseLabeledEdge> tree = visit( graph ).from( source ).applyingParallelBreadthFirstSearch( executor );
+
+        assertEquals( ORDER, tree.getOrder() );
+        // each reached vertex, but the source, is discovered through exactly one edge
+        assertEquals( hops.size() - 1, tree.getSize() );
+    }
+
+    @Test
+    public void verifyLevels()
+    {
+        Map<BaseLabeledVertex, Integer> expected = findShortestPath( graph ).unweighted().from( source ).toAllVertices();
+
+        Map<BaseLabeledVertex, Integer> actual =
+            visit( graph ).from( source ).applyingParallelBreadthFirstSearch( new BaseConcurrentGraphVisitHandler<BaseLabeledVertex, BaseLabeledEdge, DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>, Map<BaseLabeledVertex, Integer>>()
+            {
+
+                private final Map<BaseLabeledVertex, Integer> levels = new ConcurrentHashMap<BaseLabeledVertex, Integer>();
+
+                @Override
+                public VisitState discoverLevel( int level, Collection<BaseLabeledVertex> frontier )
+                {
+                    for ( BaseLabeledVertex vertex : frontier )
+                    {
+                        levels.put( vertex, level );
+                    }
+                    return VisitState.CONTINUE;
+                }
+
+                @Override
+                public Map<BaseLabeledVertex, Integer> onCompleted()
+                {
+                    return levels;
+                }
+
+            }, executor );
+
+        assertEquals( expected, actual );
+    }
+
+    @Test
+    public void verifySkippedEdgesDoNotHideVertices()
+    {
+        final int middleOrder = 2000;
+
+        DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> layered = new DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>();
+        BaseLabeledVertex root = new BaseLabeledVertex( "root" );
+        layered.addVertex( root );
+
+        BaseLabeledVertex[] middle = new BaseLabeledVertex[middleOrder];
+        for ( int i = 0; i < middleOrder; i++ )
+        {
+            middle[i] = new BaseLabeledVertex( "m" + i );
+            layered.addVertex( middle[i] );
+            layered.addEdge( root, new BaseLabeledEdge( root + " -> " + middle[i] ), middle[i] );
+        }
+
+        // each leaf is reached both from a skipped and from an expanded vertex, in different chunks of the frontier
+        final Set<BaseLabeledVertex> leaves = new HashSet<BaseLabeledVertex>();
+        final Set<BaseLabeledVertex> skipped = new HashSet<BaseLabeledVertex>();
+        for ( int i = 0; i < middleOrder / 2; i++ )
+        {
+            BaseLabeledVertex leaf = new BaseLabeledVertex( "l" + i );
+            layered.addVertex( leaf );
+            leaves.add( leaf );
+
+            BaseLabeledVertex skippedParent = middle[i];
+            BaseLabeledVertex expandedParent = middle[i + middleOrder / 2];
+            skipped.add( skippedParent );
+            layered.addEdge( skippedParent, new BaseLabeledEdge( skippedParent + " -> " + leaf ), leaf );
+            layered.addEdge( expandedParent, new BaseLabeledEdge( expandedParent + " -> " + leaf ), leaf );
+        }
+
+        final Map<BaseLabeledVertex, Integer> discovered = new ConcurrentHashMap<BaseLabeledVertex, Integer>();
+
+        visit( layered ).from( root ).applyingParallelBreadthFirstSearch( new BaseConcurrentGraphVisitHandler<BaseLabeledVertex, BaseLabeledEdge, DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>, Void>()
+        {
+
+            @Override
+            public VisitState discoverEdge( BaseLabeledVertex head, BaseLabeledEdge edge, BaseLabeledVertex tail )
+            {
+                if ( skipped.contains( head ) )
+                {
+                    // let the tasks expanding the other parents run meanwhile
+                    Thread.yield();
+                    return VisitState.SKIP;
+                }
+                return VisitState.CONTINUE;
+            }
+
+            @Override
+            public VisitState discoverLevel( int level, Collection<BaseLabeledVertex> frontier )
+            {
+                for ( BaseLabeledVertex vertex : frontier )
+                {
+                    assertNull( "Vertex " + vertex + " discovered twice", discovered.put( vertex, level ) );
+                }
+                return VisitState.CONTINUE;
+            }
+
+        }, executor );
+
+        for ( BaseLabeledVertex leaf : leaves )
+        {
+            assertEquals( "Vertex " + leaf + " not discovered at the right level", Integer.valueOf( 2 ), discovered.get( leaf ) );
+        }
+    }
+
+    @Test
+    public void verifyVerticesAreFinishedOnceExpanded()
+    {
+        final Set<BaseLabeledVertex> discovered = Collections.newSetFromMap( new ConcurrentHashMap<BaseLabeledVertex, Boolean>() );
+        final Set<BaseLabeledVertex> finished = Collections.newSetFromMap( new ConcurrentHashMap<BaseLabeledVertex, Boolean>() );
+        final AtomicInteger violations = new AtomicInteger();
+
+        visit( graph ).from( source ).applyingParallelBreadthFirstSearch( new BaseConcurrentGraphVisitHandler<BaseLabeledVertex, BaseLabeledEdge, DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>, Void>()
+        {
+
+            @Override
+            public VisitState discoverVertex( BaseLabeledVertex vertex )
+            {
+                discovered.add( vertex );
+                return VisitState.CONTINUE;
+            }
+
+            @Override
+            public VisitState discoverEdge( BaseLabeledVertex head, BaseLabeledEdge edge, BaseLabeledVertex tail )
+            {
+                // the head is being expanded, so it can not be finished yet
+                if ( finished.contains( head ) )
+                {
+                    violations.incrementAndGet();
+                }
+                return VisitState.CONTINUE;
+            }
+
+            @Override
+            public VisitState finishVertex( BaseLabeledVertex vertex )
+            {
+                if ( !discovered.contains( vertex ) || !finished.add( vertex ) )
+                {
+                    violations.incrementAndGet();
+                }
+                return VisitState.CONTINUE;
+            }
+
+        }, executor );
+
+        assertEquals( 0, violations.get() );
+        assertEquals( discovered, finished );
+    }
+
+    @Test
+    public void verifyAbort()
+    {
+        final AtomicInteger discovered = new AtomicInteger();
+
+        int visited = visit( graph ).from( source ).applyingParallelBreadthFirstSearch( new BaseConcurrentGraphVisitHandler<BaseLabeledVertex, BaseLabeledEdge, DirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>, Integer>()
+        {
+
+            @Override
+            public VisitState discoverVertex( BaseLabeledVertex vertex )
+            {
+                return discovered.incrementAndGet() < 100 ? VisitState.CONTINUE : VisitState.ABORT;
+            }
+
+            @Override
+            public Integer onCompleted()
+            {
+                return discovered.get();
+            }
+
+        }, executor );
+
+        // concurrent tasks may discover a few more vertices before noticing the abort
+        assertTrue( visited >= 100 && visited < ORDER );
+    }
+
+}
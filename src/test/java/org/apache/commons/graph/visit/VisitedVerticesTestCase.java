@@ -0,0 +1,164 @@
+package org.apache.commons.graph.visit;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static java.lang.String.format;
+import static org.apache.commons.graph.CommonsGraph.newUndirectedMutableGraph;
+import static org.apache.commons.graph.CommonsGraph.visit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.apache.commons.graph.Graph;
+import org.apache.commons.graph.Mapper;
+import org.apache.commons.graph.builder.AbstractGraphConnection;
+import org.apache.commons.graph.model.BaseLabeledEdge;
+import org.apache.commons.graph.model.BaseLabeledVertex;
+import org.apache.commons.graph.model.UndirectedMutableGraph;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public final class VisitedVerticesTestCase
+{
+
+    private static final int SIDE = 20;
+
+    private static UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge> graph;
+
+    private static BaseLabeledVertex[][] grid;
+
+    /**
+     * Maps the grid vertices, labeled {@code i,j}, to their row-major position.
+     */
+    private static final Mapper<BaseLabeledVertex, Integer> INDEXES = new Mapper<BaseLabeledVertex, Integer>()
+    {
+
+        public Integer map( BaseLabeledVertex input )
+        {
+            String[] coordinates = input.getLabel().split( "," );
+            return Integer.parseInt( coordinates[0] ) * SIDE + Integer.parseInt( coordinates[1] );
+        }
+
+    };
+
+    @BeforeClass
+    public static void setUp()
+    {
+        grid = new BaseLabeledVertex[SIDE][SIDE];
+
+        graph = newUndirectedMutableGraph( new AbstractGraphConnection<BaseLabeledVertex, BaseLabeledEdge>()
+        {
+
+            @Override
+            public void connect()
+            {
+                for ( int i = 0; i < SIDE; i++ )
+                {
+                    for ( int j = 0; j < SIDE; j++ )
+                    {
+                        grid[i][j] = addVertex( new BaseLabeledVertex( format( "%s,%s", i, j ) ) );
+                    }
+                }
+
+                for ( int i = 0; i < SIDE; i++ )
+                {
+                    for ( int j = 0; j < SIDE; j++ )
+                    {
+                        if ( i + 1 < SIDE )
+                        {
+                            addEdge( new BaseLabeledEdge( format( "%s <-> %s", grid[i][j], grid[i + 1][j] ) ) )
+                                .from( grid[i][j] ).to( grid[i + 1][j] );
+                        }
+                        if ( j + 1 < SIDE )
+                        {
+                            addEdge( new BaseLabeledEdge( format( "%s <-> %s", grid[i][j], grid[i][j + 1] ) ) )
+                                .from( grid[i][j] ).to( grid[i][j + 1] );
+                        }
+                    }
+                }
+            }
+
+        } );
+    }
+
+    @Test( expected = NullPointerException.class )
+    public void testNullVisitedVertices()
+    {
+        visit( graph ).from( grid[0][0] ).trackingVisitedVerticesWith( null );
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public void testReusedVisitedVertices()
+    {
+        VisitAlgorithmsSelector<BaseLabeledVertex, BaseLabeledEdge, UndirectedMutableGraph<BaseLabeledVertex, BaseLabeledEdge>> selector =
+            visit( graph ).from( grid[0][0] ).trackingVisitedVerticesWith( new HashVisitedVertices<BaseLabeledVertex>() );
+
+        selector.applyingBreadthFirstSearch();
+        // the set already contains all the vertices, the second visit would find nothing
+        selector.withMaxDepth( 3 ).depthFirst().iterator();
+    }
+
+    @Test
+    public void breadthFirstSearchWithIndexedVisitedVertices()
+    {
+        Graph<BaseLabeledVertex, BaseLabeledEdge> expected = visit( graph ).from( grid[0][0] ).applyingBreadthFirstSearch();
+
+        IndexedVisitedVertices<BaseLabeledVertex> visited =
+            new IndexedVisitedVertices<BaseLabeledVertex>( INDEXES, SIDE * SIDE );
+        Graph<BaseLabeledVertex, BaseLabeledEdge> actual =
+            visit( graph ).from( grid[0][0] ).trackingVisitedVerticesWith( visited ).applyingBreadthFirstSearch();
+
+        assertEquals( expected, actual );
+        assertEquals( SIDE * SIDE - 1, actual.getSize() );
+        for ( BaseLabeledVertex vertex : graph.getVertices() )
+        {
+            assertTrue( visited.contains( vertex ) );
+        }
+    }
+
+    @Test
+    public void depthFirstSearchWithIndexedVisitedVertices()
+    {
+        List<BaseLabeledVertex> expected =
+            visit( graph ).from( grid[5][5] ).applyingDepthFirstSearch( new NodeSequenceVisitor() );
+
+        List<BaseLabeledVertex> actual =
+            visit( graph ).from( grid[5][5] )
+                .trackingVisitedVerticesWith( new IndexedVisitedVertices<BaseLabeledVertex>( INDEXES, SIDE * SIDE ) )
+                .applyingDepthFirstSearch( new NodeSequenceVisitor() );
+
+        assertEquals( expected, actual );
+        assertEquals( SIDE * SIDE, actual.size() );
+    }
+
+    @Test
+    public void visitedVerticesAreTrackedOnce()
+    {
+        HashVisitedVertices<BaseLabeledVertex> visited = new HashVisitedVertices<BaseLabeledVertex>();
+
+        assertFalse( visited.contains( grid[0][0] ) );
+        assertTrue( visited.add( grid[0][0] ) );
+        assertFalse( visited.add( grid[0][0] ) );
+        assertTrue( visited.contains( grid[0][0] ) );
+    }
+
+}